@@ -0,0 +1,67 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.Board0811Application;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 벤치마크 JVM(fork) 당 한 번만 띄우는 스프링 컨텍스트
+ * - 임베디드 H2 파일 DB(MySQL 모드) — 적재 데이터는 jmh.db.dir 에 남아 다음 실행에서 재사용
+ * - 적재량: -Djmh.boards (기본 1,000,000), -Djmh.comments (기본 10,000,000)
+ */
+public final class BenchmarkContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchmarkContext() {}
+
+    public static synchronized ConfigurableApplicationContext get() {
+        if (context == null) {
+            context = start();
+            BenchmarkDataSeeder.seedIfNeeded(context.getBean(DataSource.class), boards(), comments());
+            Runtime.getRuntime().addShutdownHook(new Thread(context::close, "jmh-context-close"));
+        }
+        return context;
+    }
+
+    public static <T> T bean(Class<T> type) {
+        return get().getBean(type);
+    }
+
+    public static long boards() {
+        return Long.getLong("jmh.boards", 1_000_000L);
+    }
+
+    public static long comments() {
+        return Long.getLong("jmh.comments", 10_000_000L);
+    }
+
+    private static ConfigurableApplicationContext start() {
+        Path dbDir = Path.of(System.getProperty("jmh.db.dir", "build/jmh-db")).toAbsolutePath();
+
+        Map<String, Object> props = new HashMap<>();
+        props.put("spring.datasource.url", "jdbc:h2:file:" + dbDir.resolve("board0811")
+                + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;CACHE_SIZE=1048576");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        props.put("spring.jpa.hibernate.ddl-auto", "update");
+        props.put("spring.flyway.enabled", "false"); // H2 파일 DB 는 엔티티 매핑으로 생성 (인덱스 정의는 마이그레이션과 동일)
+        props.put("spring.jpa.open-in-view", "false");
+        props.put("spring.jpa.show-sql", "false");
+        props.put("spring.main.banner-mode", "off");
+        props.put("logging.level.root", "WARN");
+        props.put("board.search.rebuild-on-startup", "false"); // 검색 벤치마크의 @Setup 에서 직접 구축
+
+        return new SpringApplicationBuilder(Board0811Application.class)
+                .web(WebApplicationType.NONE)
+                .properties(props)
+                .run();
+    }
+}
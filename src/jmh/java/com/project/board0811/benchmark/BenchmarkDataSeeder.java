@@ -0,0 +1,212 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.domain.board.content.BoardContentCodec;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 대용량 데이터 적재 (JDBC 배치, 한글 본문)
+ * - 사용자 10,000명, 게시글 N건(일부 비공개/삭제, 본문은 board_content 에 인코딩해 적재), 댓글 M건(약 30% 답글, 2% 삭제)
+ * - 댓글의 20% 는 "인기 글" 100개에 몰리도록 분포 → 댓글 트리 벤치마크 대상
+ * - bench_meta 에 적재량을 기록하여 같은 적재량이면 다시 적재하지 않음
+ */
+final class BenchmarkDataSeeder {
+
+    static final int USERS = 10_000;
+    static final int HOT_BOARDS = 100;
+
+    private static final int BATCH = 10_000;
+    private static final int COMPRESS_THRESHOLD_BYTES = 512; // board.content.compress-threshold-bytes 기본값
+    private static final String[] WORDS = {
+            "스프링", "게시판", "댓글", "자바", "데이터베이스", "인덱스", "트랜잭션", "성능", "캐시", "검색",
+            "서울", "맛집", "여행", "사진", "주말", "회사", "개발자", "질문", "답변", "정보",
+            "공지사항", "이벤트", "업데이트", "오류", "해결", "방법", "추천", "후기", "가격", "배송",
+            "오늘", "정말", "너무", "감사합니다", "확인", "부탁드립니다", "좋아요", "생각", "경험", "공유"
+    };
+    private static final String[] CATEGORIES = {"NOTICE", "FREE", "QNA", "TIP"};
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2023, 1, 1, 0, 0);
+
+    private BenchmarkDataSeeder() {}
+
+    /** 인기 글 id (댓글이 몰리는 게시글, 1..boards 범위에 고르게 분산) */
+    static long hotBoardId(int rank, long boards) {
+        long stride = Math.max(1, boards / HOT_BOARDS);
+        return 1 + (rank % HOT_BOARDS) * stride;
+    }
+
+    static void seedIfNeeded(DataSource dataSource, long boards, long comments) {
+        try (Connection con = dataSource.getConnection()) {
+            if (alreadySeeded(con, boards, comments)) return;
+
+            long started = System.nanoTime();
+            con.setAutoCommit(false);
+            reset(con);
+            insertUsers(con);
+            insertBoards(con, boards);
+            insertComments(con, boards, comments);
+            finish(con, boards, comments);
+            con.commit();
+            System.out.printf("[jmh-seed] boards=%d comments=%d in %.1fs%n",
+                    boards, comments, (System.nanoTime() - started) / 1e9);
+        } catch (SQLException e) {
+            throw new IllegalStateException("benchmark data seeding failed", e);
+        }
+    }
+
+    private static boolean alreadySeeded(Connection con, long boards, long comments) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("create table if not exists bench_meta (boards bigint not null, comments bigint not null)");
+            try (ResultSet rs = st.executeQuery("select boards, comments from bench_meta")) {
+                if (!(rs.next() && rs.getLong(1) == boards && rs.getLong(2) == comments)) return false;
+            }
+            try (ResultSet rs = st.executeQuery("select count(*) from board_content")) {
+                return rs.next() && rs.getLong(1) > 0; // 본문 분리 이전에 적재된 DB 면 다시 적재
+            }
+        }
+    }
+
+    private static void reset(Connection con) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("set referential_integrity false");
+            for (String table : new String[]{"comment_likes", "comments", "board_content", "board", "users", "bench_meta"}) {
+                st.execute("truncate table " + table);
+            }
+            st.execute("set referential_integrity true");
+        }
+    }
+
+    private static void insertUsers(Connection con) throws SQLException {
+        Timestamp now = Timestamp.valueOf(EPOCH);
+        try (PreparedStatement ps = con.prepareStatement("""
+                insert into users (id, username, email, password, name, role, status, created_at, updated_at)
+                values (?, ?, ?, 'encoded', ?, 'ROLE_USER', 'ACTIVE', ?, ?)
+                """)) {
+            for (int id = 1; id <= USERS; id++) {
+                ps.setLong(1, id);
+                ps.setString(2, "user" + id);
+                ps.setString(3, "user" + id + "@example.com");
+                ps.setString(4, "사용자" + id);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static void insertBoards(Connection con, long boards) throws SQLException {
+        SplittableRandom random = new SplittableRandom(42);
+        try (PreparedStatement ps = con.prepareStatement("""
+                insert into board (id, author_id, title, category, status, view_count, comment_count,
+                                   version, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, 0, 0, ?, ?)
+                """);
+             PreparedStatement content = con.prepareStatement("""
+                insert into board_content (board_id, encoding, original_length, body) values (?, ?, ?, ?)
+                """)) {
+            for (long id = 1; id <= boards; id++) {
+                Timestamp createdAt = Timestamp.valueOf(EPOCH.plusSeconds(id * 30));
+                ps.setLong(1, id);
+                ps.setLong(2, 1 + random.nextInt(USERS));
+                ps.setString(3, sentence(random, 3 + random.nextInt(5)));
+                ps.setString(4, CATEGORIES[random.nextInt(CATEGORIES.length)]);
+                ps.setString(5, id % 50 == 0 ? "DELETED" : id % 20 == 0 ? "PRIVATE" : "PUBLIC");
+                ps.setInt(6, random.nextInt(5_000));
+                ps.setTimestamp(7, createdAt);
+                ps.setTimestamp(8, createdAt);
+                ps.addBatch();
+
+                // 본문 길이는 대부분 짧고(PLAIN) 10% 정도만 압축 임계값을 넘는 긴 글
+                int words = random.nextInt(10) == 0 ? 200 + random.nextInt(800) : 10 + random.nextInt(40);
+                BoardContentCodec.Encoded encoded = BoardContentCodec.encode(sentence(random, words), COMPRESS_THRESHOLD_BYTES);
+                content.setLong(1, id);
+                content.setString(2, encoded.encoding().name());
+                content.setInt(3, encoded.originalLength());
+                content.setBytes(4, encoded.body());
+                content.addBatch();
+                if (id % BATCH == 0) {
+                    ps.executeBatch(); // FK: 게시글 먼저
+                    flush(con, content, "boards", id, boards);
+                }
+            }
+            ps.executeBatch();
+            flush(con, content, "boards", boards, boards);
+        }
+    }
+
+    private static void insertComments(Connection con, long boards, long comments) throws SQLException {
+        SplittableRandom random = new SplittableRandom(7);
+        long[] lastRootOfBoard = new long[Math.toIntExact(boards + 1)];
+
+        try (PreparedStatement ps = con.prepareStatement("""
+                insert into comments (id, board_id, user_id, parent_id, content, depth, is_deleted, like_count,
+                                      created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+                """)) {
+            for (long id = 1; id <= comments; id++) {
+                long boardId = random.nextInt(5) == 0
+                        ? hotBoardId(random.nextInt(HOT_BOARDS), boards)
+                        : 1 + random.nextLong(boards);
+                long parentId = lastRootOfBoard[(int) boardId];
+                boolean reply = parentId != 0 && random.nextInt(10) < 3;
+                Timestamp createdAt = Timestamp.valueOf(EPOCH.plusSeconds(boardId * 30 + id % 86_400));
+
+                ps.setLong(1, id);
+                ps.setLong(2, boardId);
+                ps.setLong(3, 1 + random.nextInt(USERS));
+                if (reply) ps.setLong(4, parentId); else ps.setNull(4, java.sql.Types.BIGINT);
+                ps.setString(5, sentence(random, 3 + random.nextInt(18)));
+                ps.setInt(6, reply ? 1 : 0);
+                ps.setBoolean(7, random.nextInt(50) == 0);
+                ps.setInt(8, random.nextInt(10) == 0 ? random.nextInt(500) : random.nextInt(5));
+                ps.setTimestamp(9, createdAt);
+                ps.setTimestamp(10, createdAt);
+                ps.addBatch();
+                if (!reply) lastRootOfBoard[(int) boardId] = id;
+                if (id % BATCH == 0) flush(con, ps, "comments", id, comments);
+            }
+            flush(con, ps, "comments", comments, comments);
+        }
+    }
+
+    /** 명시 id 로 적재했으므로 id 할당 시작 위치(IDENTITY / id_sequences) 조정 + 비정규화 댓글 수 계산 */
+    private static void finish(Connection con, long boards, long comments) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("alter table users alter column id restart with " + (USERS + 1));
+            st.execute("merge into id_sequences (seq_name, next_val) key (seq_name) values ('board', " + (boards + 1) + ")");
+            st.execute("merge into id_sequences (seq_name, next_val) key (seq_name) values ('comments', " + (comments + 1) + ")");
+            st.execute("""
+                    update board b set comment_count =
+                        (select count(*) from comments c where c.board_id = b.id and c.is_deleted = false)
+                    """);
+            st.execute("insert into bench_meta (boards, comments) values (" + boards + ", " + comments + ")");
+            st.execute("analyze");
+        }
+    }
+
+    private static void flush(Connection con, PreparedStatement ps, String what, long done, long total)
+            throws SQLException {
+        ps.executeBatch();
+        con.commit();
+        if (done % (BATCH * 100L) == 0 || done == total) {
+            System.out.printf("[jmh-seed] %s %d/%d%n", what, done, total);
+        }
+    }
+
+    static String sentence(SplittableRandom random, int words) {
+        StringBuilder sb = new StringBuilder(words * 4);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,57 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.domain.board.content.BoardContentCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+
+/**
+ * 게시글 본문 저장 형식(BoardContentCodec) 비용과 절감량 (DB 없이 측정)
+ * - words: 짧은 글(임계값 미만, PLAIN) / 보통 글 / 긴 글
+ * - encode = 작성/수정 시 추가 CPU, decode = 상세 조회(캐시 미스) 시 추가 CPU
+ * - 저장/전송 바이트 절감은 @Setup 에서 출력, 할당량(메모리)은 -prof gc 의 gc.alloc.rate.norm 으로 비교
+ *   (./gradlew jmh -Pjmh.includes=BoardContent 후 results.json, 또는 jmh 설정에 profilers = ['gc'])
+ */
+@State(Scope.Benchmark)
+public class BoardContentBenchmark {
+
+    private static final int COMPRESS_THRESHOLD_BYTES = 512;
+
+    @Param({"40", "400", "4000"})
+    int words;
+
+    private String text;
+    private BoardContentCodec.Encoded encoded;
+
+    @Setup
+    public void setUp() {
+        text = BenchmarkDataSeeder.sentence(new SplittableRandom(11), words);
+        encoded = BoardContentCodec.encode(text, COMPRESS_THRESHOLD_BYTES);
+
+        int utf8 = text.getBytes(StandardCharsets.UTF_8).length;
+        System.out.printf("%n[BoardContent] words=%d chars=%d utf8=%dB stored=%dB (%s, %.1f%%) heap String≈%dB%n",
+                words, text.length(), utf8, encoded.body().length, encoded.encoding(),
+                100.0 * encoded.body().length / utf8, 2L * text.length()); // 한글은 UTF-16 저장 → 문자당 2바이트
+    }
+
+    @Benchmark
+    public BoardContentCodec.Encoded encode() {
+        return BoardContentCodec.encode(text, COMPRESS_THRESHOLD_BYTES);
+    }
+
+    @Benchmark
+    public String decode() {
+        return BoardContentCodec.decode(encoded.encoding(), encoded.body(), encoded.originalLength());
+    }
+
+    /** 비교 기준: 압축 없이 UTF-8 로만 저장/복원하던 경우 */
+    @Benchmark
+    public String plainRoundTrip() {
+        return new String(text.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,62 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.common.paging.CursorPageResponse;
+import com.project.board0811.common.paging.CursorRequestDto;
+import com.project.board0811.common.paging.PageRequestDto;
+import com.project.board0811.common.paging.PageResponse;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 게시글 목록 경로 (BoardServiceImpl.list / listByCursor / listByAuthor / searchByTitle)
+ * - page: 첫 페이지와 깊은 페이지(OFFSET 비용) 비교
+ */
+@State(Scope.Benchmark)
+public class BoardListBenchmark {
+
+    @Param({"0", "500"})
+    int page;
+
+    private BoardService boardService;
+    private PageRequestDto pageReq;
+    private long authorId;
+
+    @Setup
+    public void setUp() {
+        boardService = BenchmarkContext.bean(BoardService.class);
+        pageReq = new PageRequestDto(page, 20, "createdAt", "desc");
+        authorId = 1 + BenchmarkDataSeeder.USERS / 2;
+    }
+
+    @Benchmark
+    public PageResponse<BoardSummaryResponseDto> listAll() {
+        return boardService.list(pageReq, null);
+    }
+
+    @Benchmark
+    public PageResponse<BoardSummaryResponseDto> listByCategory() {
+        return boardService.list(pageReq, BoardCategory.FREE);
+    }
+
+    @Benchmark
+    public PageResponse<BoardSummaryResponseDto> listByAuthor() {
+        return boardService.listByAuthor(authorId, pageReq);
+    }
+
+    @Benchmark
+    public PageResponse<BoardSummaryResponseDto> searchByTitle() {
+        return boardService.searchByTitle("맛집", pageReq);
+    }
+
+    /** 커서 방식은 페이지 깊이와 무관 — 첫 페이지 기준 */
+    @Benchmark
+    public CursorPageResponse<BoardSummaryResponseDto> listByCursor() {
+        return boardService.listByCursor(new CursorRequestDto(), BoardCategory.FREE);
+    }
+}
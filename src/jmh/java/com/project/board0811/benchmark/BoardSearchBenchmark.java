@@ -0,0 +1,37 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.common.paging.PageRequestDto;
+import com.project.board0811.common.paging.PageResponse;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.search.BoardSearchIndexer;
+import com.project.board0811.domain.board.service.BoardService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 전문 검색 경로 (역색인 + 요약 조회) — @Setup 에서 전체 재색인 후 측정
+ */
+@State(Scope.Benchmark)
+public class BoardSearchBenchmark {
+
+    @Param({"스프링", "맛집 후기", "트랜잭션 오류 해결"})
+    String query;
+
+    private BoardService boardService;
+    private PageRequestDto pageReq;
+
+    @Setup
+    public void setUp() {
+        boardService = BenchmarkContext.bean(BoardService.class);
+        BenchmarkContext.bean(BoardSearchIndexer.class).rebuild();
+        pageReq = new PageRequestDto(0, 20, "createdAt", "desc");
+    }
+
+    @Benchmark
+    public PageResponse<BoardSummaryResponseDto> search() {
+        return boardService.search(query, pageReq);
+    }
+}
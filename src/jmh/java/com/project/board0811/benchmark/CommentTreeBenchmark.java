@@ -0,0 +1,68 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.comment.service.CommentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 트리 경로 (CommentRepositoryImpl.findRootPage / findRepliesGroupedByParentIds, CommentServiceImpl)
+ * - 대상: 댓글이 몰린 인기 글
+ * - page=0 은 트리 캐시 적중 경로, page=1 은 매번 DB 조회 경로
+ */
+@State(Scope.Benchmark)
+public class CommentTreeBenchmark {
+
+    @Param({"0", "1"})
+    int page;
+
+    private CommentService commentService;
+    private CommentRepository commentRepository;
+    private TransactionTemplate readOnlyTx;
+    private Long boardId;
+    private Pageable pageable;
+
+    @Setup
+    public void setUp() {
+        commentService = BenchmarkContext.bean(CommentService.class);
+        commentRepository = BenchmarkContext.bean(CommentRepository.class);
+        readOnlyTx = new TransactionTemplate(BenchmarkContext.bean(TransactionTemplate.class).getTransactionManager());
+        readOnlyTx.setReadOnly(true);
+        boardId = BenchmarkDataSeeder.hotBoardId(0, BenchmarkContext.boards());
+        pageable = PageRequest.of(page, 20, Sort.by("createdAt").ascending());
+    }
+
+    @Benchmark
+    public Page<CommentWithRepliesDto> treePage() {
+        return commentService.getCommentTreePage(boardId, pageable);
+    }
+
+    @Benchmark
+    public Slice<CommentWithRepliesDto> treeSlice() {
+        return commentService.getCommentTreeSlice(boardId, pageable);
+    }
+
+    /** 서비스/캐시를 거치지 않은 리포지토리 쿼리 비용 (루트 페이지 + 답글 IN) */
+    @Benchmark
+    public Map<Long, List<Comment>> repositoryRootsAndReplies() {
+        return readOnlyTx.execute(status -> {
+            Page<Comment> roots = commentRepository.findRootPage(boardId, pageable);
+            return commentRepository.findRepliesGroupedByParentIds(
+                    roots.getContent().stream().map(Comment::getId).toList());
+        });
+    }
+}
@@ -0,0 +1,101 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.domain.board.dto.response.BoardResponseDto;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.user.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 엔티티 → DTO 변환 비용 (DB 없이 메모리 엔티티로 측정)
+ * - 목록 한 페이지(20건) 요약 변환, 단건 상세 변환, 댓글 트리(루트 20 × 답글 5) 변환
+ */
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+
+    private static final int PAGE = 20;
+    private static final int REPLIES = 5;
+
+    private Board board;
+    private String content;
+    private List<Board> boards;
+    private List<Comment> roots;
+    private List<List<Comment>> replies;
+
+    @Setup
+    public void setUp() {
+        User author = User.builder()
+                .username("user1").email("user1@example.com").password("encoded").name("사용자1")
+                .build();
+        setId(author, 1L);
+
+        boards = new ArrayList<>(PAGE);
+        for (int i = 0; i < PAGE; i++) {
+            Board b = Board.builder()
+                    .author(author)
+                    .title("스프링 게시판 성능 질문 " + i)
+                    .category(BoardCategory.QNA)
+                    .build();
+            setId(b, (long) i + 1);
+            boards.add(b);
+        }
+        board = boards.get(0);
+        content = "트랜잭션 오류 해결 방법 공유 ".repeat(20);
+
+        roots = new ArrayList<>(PAGE);
+        replies = new ArrayList<>(PAGE);
+        long commentId = 1;
+        for (int i = 0; i < PAGE; i++) {
+            Comment root = Comment.newRoot(board, author, "좋은 정보 감사합니다 " + i);
+            setId(root, commentId++);
+            List<Comment> children = new ArrayList<>(REPLIES);
+            for (int j = 0; j < REPLIES; j++) {
+                Comment reply = Comment.newReply(board, author, "저도 같은 경험이 있어요 " + j, root);
+                setId(reply, commentId++);
+                children.add(reply);
+            }
+            roots.add(root);
+            replies.add(children);
+        }
+    }
+
+    @Benchmark
+    public BoardResponseDto boardDetail() {
+        return BoardResponseDto.from(board, content);
+    }
+
+    @Benchmark
+    public List<BoardSummaryResponseDto> boardSummaryPage() {
+        List<BoardSummaryResponseDto> out = new ArrayList<>(PAGE);
+        for (Board b : boards) out.add(BoardSummaryResponseDto.from(b));
+        return out;
+    }
+
+    @Benchmark
+    public List<CommentWithRepliesDto> commentTreePage() {
+        List<CommentWithRepliesDto> out = new ArrayList<>(PAGE);
+        for (int i = 0; i < PAGE; i++) out.add(CommentWithRepliesDto.of(roots.get(i), replies.get(i)));
+        return out;
+    }
+
+    /** 영속화 없이 식별자만 채움 (equals/답글 검증이 id 를 사용) */
+    private static void setId(Object entity, Long id) {
+        try {
+            Field field = entity.getClass().getDeclaredField("id");
+            field.setAccessible(true);
+            field.set(entity, id);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.project.board0811.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board0811.domain.board.dto.request.BoardCreateRequestDto;
+import com.project.board0811.domain.board.dto.request.ThreadImportLineDto;
+import com.project.board0811.domain.board.dto.request.ThreadImportLineDto.CommentLine;
+import com.project.board0811.domain.board.dto.response.ThreadImportResultDto;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.service.BoardService;
+import com.project.board0811.domain.board.service.ThreadImportService;
+import com.project.board0811.domain.comment.dto.CommentRequestDto;
+import com.project.board0811.domain.comment.service.CommentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 스레드 대량 이관 처리량 — 목표: 행 단위 서비스 저장 대비 20배 이상
+ * - 스레드 1건 = 게시글 1 + 루트 댓글 ROOTS × (1 + 답글 REPLIES_PER_ROOT), 두 경로 모두 같은 모양의 데이터
+ * - perRowService: BoardService.create / CommentService.create 를 행마다 호출 (이관 API 이전 방식, 행마다 트랜잭션)
+ * - bulkImport: ThreadImportService NDJSON 이관 (id 구간 선할당 + JDBC 배치, batch-rows 기본값)
+ * - @OperationsPerInvocation 으로 점수가 행 1건당 시간(avgt, us) → 판정: perRowService / bulkImport ≥ 20
+ *   (./gradlew jmh -Pjmh.includes=ThreadImport, rows/s = 1e6 / 점수)
+ * - 이관된 행은 벤치마크 DB 에 남음 (id 는 적재분 이후 구간이라 다른 벤치마크 대상과 겹치지 않음)
+ */
+@State(Scope.Benchmark)
+public class ThreadImportBenchmark {
+
+    private static final int ROOTS = 5;
+    private static final int REPLIES_PER_ROOT = 3;
+    private static final int ROWS_PER_THREAD = 1 + ROOTS * (1 + REPLIES_PER_ROOT);
+    private static final int BULK_THREADS = 200;  // 호출 1회 = 4,200행 (배치 여러 번)
+    private static final int PER_ROW_THREADS = 10; // 호출 1회 = 210행 (행마다 트랜잭션이라 적게)
+
+    private ThreadImportService threadImportService;
+    private BoardService boardService;
+    private CommentService commentService;
+    private List<ThreadImportLineDto> lines;
+    private byte[] ndjson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        threadImportService = BenchmarkContext.bean(ThreadImportService.class);
+        boardService = BenchmarkContext.bean(BoardService.class);
+        commentService = BenchmarkContext.bean(CommentService.class);
+        ObjectMapper objectMapper = BenchmarkContext.bean(ObjectMapper.class);
+
+        SplittableRandom random = new SplittableRandom(23);
+        lines = new ArrayList<>(BULK_THREADS);
+        StringBuilder sb = new StringBuilder();
+        for (int t = 0; t < BULK_THREADS; t++) {
+            ThreadImportLineDto line = thread(random);
+            lines.add(line);
+            sb.append(objectMapper.writeValueAsString(line)).append('\n');
+        }
+        ndjson = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BULK_THREADS * ROWS_PER_THREAD)
+    public ThreadImportResultDto bulkImport() {
+        return threadImportService.importThreads(new ByteArrayInputStream(ndjson));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PER_ROW_THREADS * ROWS_PER_THREAD)
+    public long perRowService() {
+        long lastId = 0;
+        for (ThreadImportLineDto line : lines.subList(0, PER_ROW_THREADS)) {
+            Long boardId = boardService.create(line.getAuthorId(), BoardCreateRequestDto.builder()
+                    .title(line.getTitle())
+                    .content(line.getContent())
+                    .category(line.getCategory())
+                    .status(line.getStatus())
+                    .build()).getId();
+            for (CommentLine root : line.getComments()) {
+                Long rootId = commentService.create(boardId, root.getAuthorId(),
+                        new CommentRequestDto(root.getContent(), null)).getId();
+                for (CommentLine reply : root.getReplies()) {
+                    lastId = commentService.create(boardId, reply.getAuthorId(),
+                            new CommentRequestDto(reply.getContent(), rootId)).getId();
+                }
+            }
+        }
+        return lastId;
+    }
+
+    private static ThreadImportLineDto thread(SplittableRandom random) {
+        List<CommentLine> roots = new ArrayList<>(ROOTS);
+        for (int r = 0; r < ROOTS; r++) {
+            List<CommentLine> replies = new ArrayList<>(REPLIES_PER_ROOT);
+            for (int i = 0; i < REPLIES_PER_ROOT; i++) {
+                replies.add(comment(random, List.of()));
+            }
+            roots.add(comment(random, replies));
+        }
+        return ThreadImportLineDto.builder()
+                .authorId(author(random))
+                .title(BenchmarkDataSeeder.sentence(random, 4))
+                .content(BenchmarkDataSeeder.sentence(random, 200))
+                .category(BoardCategory.FREE)
+                .status(BoardStatus.PUBLIC)
+                .comments(roots)
+                .build();
+    }
+
+    private static CommentLine comment(SplittableRandom random, List<CommentLine> replies) {
+        return CommentLine.builder()
+                .authorId(author(random))
+                .content(BenchmarkDataSeeder.sentence(random, 12))
+                .replies(replies)
+                .build();
+    }
+
+    private static long author(SplittableRandom random) {
+        return 1 + random.nextInt(BenchmarkDataSeeder.USERS); // 적재된 활성 사용자
+    }
+}
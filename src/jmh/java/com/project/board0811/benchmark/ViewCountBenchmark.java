@@ -0,0 +1,45 @@
+package com.project.board0811.benchmark;
+
+import com.project.board0811.domain.board.service.BoardService;
+import com.project.board0811.domain.board.service.ViewCountAggregator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 조회수 증가 경로 (존재 확인 + 메모리 누적) — 동시 요청 4 스레드
+ * - 실제 DB 반영은 ViewCountAggregator 의 주기 flush 가 백그라운드로 수행
+ */
+@State(Scope.Benchmark)
+public class ViewCountBenchmark {
+
+    private static final int HOT_SET = 1_000; // 조회가 몰리는 글 수
+
+    private BoardService boardService;
+    private ViewCountAggregator aggregator;
+    private long boards;
+
+    @Setup
+    public void setUp() {
+        boardService = BenchmarkContext.bean(BoardService.class);
+        aggregator = BenchmarkContext.bean(ViewCountAggregator.class);
+        boards = BenchmarkContext.boards();
+    }
+
+    @TearDown
+    public void tearDown() {
+        aggregator.flush();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void increaseViewCount() {
+        long id = 1 + ThreadLocalRandom.current().nextLong(Math.min(HOT_SET, boards));
+        boardService.increaseViewCount(id % 50 == 0 ? id - 1 : id); // 삭제 글(id % 50 == 0) 회피
+    }
+}
@@ -0,0 +1,199 @@
+package com.project.board0811.loadtest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 닫힌 모델(closed-loop) 부하 생성기
+ * - concurrency 개의 워커가 응답을 받는 즉시 다음 요청을 보냄 (워커별 지연 기록 → 병합 후 백분위 계산)
+ * - 요청 구성: 목록 40% / 단건 30% / 댓글 트리 20% / 검색 10% — 단건·댓글은 앞쪽 게시글에 편중(핫 게시글)
+ * - warmup 구간 측정치는 버리고, 결과는 {out-dir}/{label}.properties 로 저장해 LoadTestCompare 로 비교
+ *
+ * 서버 스레드 모드(플랫폼/가상)만 바꿔 같은 인자로 두 번 실행하는 것을 전제로 함
+ */
+public class LoadTest {
+
+    private static final String[] SEARCH_TERMS = {"spring", "java", "게시판", "성능", "title"};
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> opts = parse(args);
+        String baseUrl = opts.getOrDefault("base-url", "http://localhost:8080");
+        String label = opts.getOrDefault("label", "run");
+        int concurrency = Integer.parseInt(opts.getOrDefault("concurrency", "200"));
+        int durationSeconds = Integer.parseInt(opts.getOrDefault("duration-seconds", "60"));
+        int warmupSeconds = Integer.parseInt(opts.getOrDefault("warmup-seconds", "10"));
+        int boards = Integer.parseInt(opts.getOrDefault("boards", "1000"));
+        String auth = opts.getOrDefault("auth", "");
+        Path outDir = Path.of(opts.getOrDefault("out-dir", "build/loadtest"));
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .build();
+        String authHeader = auth.isBlank() ? null
+                : "Basic " + Base64.getEncoder().encodeToString(auth.getBytes(StandardCharsets.UTF_8));
+
+        System.out.printf("[LoadTest] %s -> %s, concurrency=%d, warmup=%ds, duration=%ds%n",
+                label, baseUrl, concurrency, warmupSeconds, durationSeconds);
+
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(warmupSeconds);
+        long measureEnd = warmupEnd + TimeUnit.SECONDS.toNanos(durationSeconds);
+
+        AtomicLong errors = new AtomicLong();
+        List<Recorder> recorders = new ArrayList<>();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            Recorder recorder = new Recorder();
+            recorders.add(recorder);
+            workers.execute(() -> {
+                while (true) {
+                    long startedAt = System.nanoTime();
+                    if (startedAt >= measureEnd) return;
+                    boolean ok = send(client, baseUrl, nextPath(boards), authHeader);
+                    long endedAt = System.nanoTime();
+                    if (startedAt < warmupEnd) continue;
+                    if (ok) {
+                        recorder.record(endedAt - startedAt);
+                    } else {
+                        errors.incrementAndGet();
+                    }
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(warmupSeconds + durationSeconds + 60L, TimeUnit.SECONDS);
+
+        long[] latencies = Recorder.merge(recorders);
+        Arrays.sort(latencies);
+
+        Properties result = new Properties();
+        result.setProperty("label", label);
+        result.setProperty("concurrency", String.valueOf(concurrency));
+        result.setProperty("durationSeconds", String.valueOf(durationSeconds));
+        result.setProperty("requests", String.valueOf(latencies.length));
+        result.setProperty("errors", String.valueOf(errors.get()));
+        result.setProperty("throughputRps", String.format(Locale.ROOT, "%.1f", latencies.length / (double) durationSeconds));
+        result.setProperty("p50Ms", millis(percentile(latencies, 0.50)));
+        result.setProperty("p90Ms", millis(percentile(latencies, 0.90)));
+        result.setProperty("p99Ms", millis(percentile(latencies, 0.99)));
+        result.setProperty("p999Ms", millis(percentile(latencies, 0.999)));
+        result.setProperty("maxMs", millis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+
+        Files.createDirectories(outDir);
+        Path file = outDir.resolve(label + ".properties");
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            result.store(writer, "loadTest result");
+        }
+        result.forEach((k, v) -> System.out.printf("  %-16s %s%n", k, v));
+        System.out.println("[LoadTest] saved " + file);
+        System.exit(0);
+    }
+
+    private static String nextPath(int boards) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int roll = random.nextInt(100);
+        if (roll < 40) {
+            return "/api/v1/boards?page=" + random.nextInt(5) + "&size=20";
+        }
+        if (roll < 70) {
+            return "/api/v1/boards/" + hotBoardId(random, boards);
+        }
+        if (roll < 90) {
+            return "/api/v1/boards/" + hotBoardId(random, boards) + "/comments/slice?page=0&size=20";
+        }
+        return "/api/v1/boards/search?q=" + SEARCH_TERMS[random.nextInt(SEARCH_TERMS.length)] + "&size=20";
+    }
+
+    /** 앞쪽 10% 게시글에 요청의 80% 가 몰리도록 */
+    private static long hotBoardId(ThreadLocalRandom random, int boards) {
+        int hot = Math.max(1, boards / 10);
+        return random.nextInt(100) < 80 ? 1 + random.nextInt(hot) : 1 + random.nextInt(boards);
+    }
+
+    private static boolean send(HttpClient client, String baseUrl, String path, String authHeader) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (authHeader != null) builder.header("Authorization", authHeader);
+        try {
+            HttpResponse<Void> response = client.send(builder.build(), HttpResponse.BodyHandlers.discarding());
+            // 없는 게시글(404)은 정상 응답으로 취급 — 서버가 처리한 요청
+            return response.statusCode() < 500 && response.statusCode() != 429;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) return 0;
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.2f", nanos / 1_000_000.0);
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> opts = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) continue;
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                opts.put(arg.substring(2), "true");
+            } else {
+                opts.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return opts;
+    }
+
+    /** 워커 전용 지연 기록 버퍼 (워커 간 공유 없음 → 락 불필요) */
+    private static final class Recorder {
+        private long[] values = new long[1 << 14];
+        private int size;
+
+        void record(long nanos) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = nanos;
+        }
+
+        static long[] merge(List<Recorder> recorders) {
+            int total = recorders.stream().mapToInt(r -> r.size).sum();
+            long[] merged = new long[total];
+            int offset = 0;
+            for (Recorder r : recorders) {
+                System.arraycopy(r.values, 0, merged, offset, r.size);
+                offset += r.size;
+            }
+            return merged;
+        }
+    }
+
+    private LoadTest() {
+    }
+}
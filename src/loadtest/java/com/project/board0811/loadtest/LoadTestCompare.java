@@ -0,0 +1,48 @@
+package com.project.board0811.loadtest;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * LoadTest 결과 두 개(baseline, candidate)를 나란히 출력
+ * - 처리량은 높을수록, 지연은 낮을수록 좋음 — 변화율은 candidate 기준
+ */
+public class LoadTestCompare {
+
+    private static final String[] METRICS = {
+            "requests", "errors", "throughputRps", "p50Ms", "p90Ms", "p99Ms", "p999Ms", "maxMs"
+    };
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("usage: LoadTestCompare <baseline.properties> <candidate.properties>");
+            System.exit(1);
+        }
+        Properties baseline = load(Path.of(args[0]));
+        Properties candidate = load(Path.of(args[1]));
+
+        System.out.printf("%-14s %14s %14s %9s%n", "metric",
+                baseline.getProperty("label"), candidate.getProperty("label"), "change");
+        for (String metric : METRICS) {
+            double before = Double.parseDouble(baseline.getProperty(metric, "0"));
+            double after = Double.parseDouble(candidate.getProperty(metric, "0"));
+            String change = before == 0 ? "-" : String.format("%+.1f%%", (after - before) / before * 100);
+            System.out.printf("%-14s %14.2f %14.2f %9s%n", metric, before, after, change);
+        }
+    }
+
+    private static Properties load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        return properties;
+    }
+
+    private LoadTestCompare() {
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.board0811.common.concurrent;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 측정 지연 기반 적응형 동시 처리 한도 (Gradient2 방식)
+ * - 짧은 창 평균 지연(short)이 긴 창 평균(long, 평소 지연)보다 커지면 gradient = tolerance · long / short (< 1)
+ *   만큼 한도를 줄이고, 지연이 평소 수준이면 sqrt(limit) 만큼씩 늘려 여유를 탐색
+ * - 한도의 절반도 쓰지 않는 구간(app-limited)의 표본으로는 한도를 바꾸지 않음 (한가할 때 무한정 커지는 것 방지)
+ * - long 이 short 의 2배를 넘으면 조금씩 내려 부하가 빠진 뒤 높은 기준선이 오래 남지 않게 함
+ * - 획득/반납은 원자 연산만, 한도 재계산은 표본마다 짧게 동기화
+ */
+public class AdaptiveConcurrencyLimit {
+
+    private static final double SHORT_ALPHA = 2.0 / (10 + 1);  // 최근 10건 EMA
+    private static final double LONG_ALPHA = 2.0 / (600 + 1);  // 최근 600건 EMA
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    /**
+     * @param initialLimit 시작 한도
+     * @param minLimit     하한 (지연이 아무리 커도 이만큼은 처리)
+     * @param maxLimit     상한 (보통 서블릿 스레드 수 이하)
+     * @param tolerance    평소 대비 몇 배 지연까지 한도를 줄이지 않을지 (예: 1.5)
+     * @param smoothing    새 추정치 반영 비율 (0~1)
+     */
+    public AdaptiveConcurrencyLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing) {
+        if (minLimit < 1 || maxLimit < minLimit) throw new IllegalArgumentException("require 1 <= minLimit <= maxLimit");
+        if (tolerance < 1) throw new IllegalArgumentException("tolerance must be >= 1");
+        if (smoothing <= 0 || smoothing > 1) throw new IllegalArgumentException("smoothing must be in (0, 1]");
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /** 처리 슬롯 획득 (한도 초과면 false — 호출자는 즉시 거절) */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) return true;
+        }
+    }
+
+    /** 슬롯 반납 + 지연 표본 반영 */
+    public void release(long rttNanos) {
+        int inFlightAtSample = inFlight.getAndDecrement();
+        onSample(rttNanos, inFlightAtSample);
+    }
+
+    /** 슬롯만 반납 (비동기 응답처럼 지연이 처리 시간을 대표하지 않는 경우) */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    private synchronized void onSample(long rttNanos, int inFlightAtSample) {
+        if (rttNanos <= 0) return;
+        if (longRttNanos == 0) {
+            shortRttNanos = longRttNanos = rttNanos;
+            return;
+        }
+        shortRttNanos += (rttNanos - shortRttNanos) * SHORT_ALPHA;
+        longRttNanos += (rttNanos - longRttNanos) * LONG_ALPHA;
+        if (longRttNanos / shortRttNanos > 2) {
+            longRttNanos *= 0.95;
+        }
+
+        double current = limit;
+        if (inFlightAtSample < current / 2) return;
+
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / shortRttNanos));
+        double estimate = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + estimate * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.board0811.common.concurrent;
+
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 요청과 무관하게 도는 백그라운드 작업(기동 시 재색인 등) 실행기
+ * - spring.threads.virtual.enabled=true 이고 Java 21 이상이면 가상 스레드, 아니면 데몬 플랫폼 스레드로 실행
+ * - @Scheduled/@Async/Tomcat 요청 스레드는 같은 설정으로 스프링 부트가 전환하므로 여기서는 직접 띄우는 스레드만 담당
+ */
+@Component
+public class BackgroundTasks {
+
+    private final boolean virtual;
+
+    public BackgroundTasks(Environment environment) {
+        this.virtual = Threading.VIRTUAL.isActive(environment);
+    }
+
+    public void start(String name, Runnable task) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(name + "-");
+        executor.setVirtualThreads(virtual);
+        executor.setDaemon(true);
+        executor.execute(task);
+    }
+
+    public boolean isVirtual() {
+        return virtual;
+    }
+}
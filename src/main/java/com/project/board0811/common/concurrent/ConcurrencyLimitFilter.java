@@ -0,0 +1,119 @@
+package com.project.board0811.common.concurrent;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.common.response.CommonApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * API 요청 부하 차단 (적응형 동시 처리 한도)
+ * - /api/** 의 GET/HEAD 는 READ, 나머지 메서드는 WRITE 한도 풀 — 느린 쓰기가 읽기 처리량을 잡아먹지 않게 분리
+ * - 한도를 넘는 요청은 컨트롤러/인증/커넥션 대기 없이 즉시 503 + Retry-After (CommonApiResponse 본문)
+ * - DB 가 느려지면 측정 지연이 늘어 한도가 줄어들고, 회복되면 다시 늘어남 (AdaptiveConcurrencyLimit)
+ * - 비동기(스트리밍) 응답은 슬롯만 반납하고 지연 표본으로 쓰지 않음
+ */
+@Slf4j
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements Ordered {
+
+    public enum Pool { READ, WRITE }
+
+    private final ObjectMapper objectMapper;
+    private final Map<Pool, AdaptiveConcurrencyLimit> limits = new EnumMap<>(Pool.class);
+    private final int retryAfterSeconds;
+    private final boolean enabled;
+
+    @Autowired
+    public ConcurrencyLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${http.concurrency-limit.enabled:true}") boolean enabled,
+            @Value("${http.concurrency-limit.read.initial:50}") int readInitial,
+            @Value("${http.concurrency-limit.read.max:150}") int readMax,
+            @Value("${http.concurrency-limit.write.initial:20}") int writeInitial,
+            @Value("${http.concurrency-limit.write.max:50}") int writeMax,
+            @Value("${http.concurrency-limit.min:5}") int min,
+            @Value("${http.concurrency-limit.tolerance:1.5}") double tolerance,
+            @Value("${http.concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${http.concurrency-limit.retry-after-seconds:1}") int retryAfterSeconds) {
+        this(objectMapper,
+                new AdaptiveConcurrencyLimit(readInitial, min, readMax, tolerance, smoothing),
+                new AdaptiveConcurrencyLimit(writeInitial, min, writeMax, tolerance, smoothing),
+                retryAfterSeconds, enabled);
+    }
+
+    ConcurrencyLimitFilter(ObjectMapper objectMapper, AdaptiveConcurrencyLimit read, AdaptiveConcurrencyLimit write,
+                           int retryAfterSeconds, boolean enabled) {
+        this.objectMapper = objectMapper;
+        this.limits.put(Pool.READ, read);
+        this.limits.put(Pool.WRITE, write);
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2; // 보안 필터(인증/BCrypt)보다 먼저 차단
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Pool pool = poolOf(request);
+        AdaptiveConcurrencyLimit limit = limits.get(pool);
+        if (!limit.tryAcquire()) {
+            reject(response, pool, limit);
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                limit.releaseWithoutSample();
+            } else {
+                limit.release(System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    public AdaptiveConcurrencyLimit limit(Pool pool) {
+        return limits.get(pool);
+    }
+
+    private Pool poolOf(HttpServletRequest request) {
+        String method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method) ? Pool.READ : Pool.WRITE;
+    }
+
+    private void reject(HttpServletResponse response, Pool pool, AdaptiveConcurrencyLimit limit) throws IOException {
+        log.debug("[ConcurrencyLimit] rejected {} request - limit {}, in-flight {}", pool, limit.limit(), limit.inFlight());
+        response.setStatus(ErrorCode.SERVICE_OVERLOADED.getStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getOutputStream(), CommonApiResponse.fail(ErrorCode.SERVICE_OVERLOADED,
+                Map.of("pool", pool.name(), "retryAfterSeconds", retryAfterSeconds)));
+    }
+}
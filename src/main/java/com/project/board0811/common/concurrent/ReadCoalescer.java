@@ -0,0 +1,87 @@
+package com.project.board0811.common.concurrent;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import com.project.board0811.common.datasource.ReplicaRoutingContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 서비스 계층 동일 조회 합치기 (SingleFlight + 읽기 전용 트랜잭션)
+ * - 키 = 조회 종류(operation) + 인자 목록, 결과는 DTO 처럼 스레드 간 공유해도 되는 값이어야 함 (엔티티 금지)
+ * - 호출자가 트랜잭션 밖일 때만 합침: leader 가 새 readOnly 트랜잭션에서 loader 를 실행하므로
+ *   follower 는 커넥션을 잡지 않고 기다림. 트랜잭션 안의 호출은 자기 트랜잭션의 가시성을 지켜야 하므로 그대로 실행
+ * - fillsCache=true: 결과를 공유 캐시에 적재하는 조회 — replica 지연으로 옛 값을 캐시하지 않도록 primary 에서 실행
+ * - 키에 "primary 조회 여부"(fillsCache 또는 read-your-writes 고정 요청)를 포함 — 고정 요청이 replica 를 읽는
+ *   leader 에 합류해 쓰기 이전 값을 받지 않도록 (primary 를 읽는 leader 의 결과는 누구나 공유 가능)
+ * - 메트릭: read.coalescing.calls{operation, result=executed|collapsed|timed_out}, read.coalescing.in_flight{operation}
+ */
+@Component
+public class ReadCoalescer {
+
+    private final TransactionTemplate readOnlyTx;
+    private final MeterRegistry meterRegistry;
+    private final Duration defaultTimeout;
+    private final Map<String, SingleFlight<FlightKey, Object>> flights = new ConcurrentHashMap<>();
+
+    public ReadCoalescer(PlatformTransactionManager transactionManager,
+                         MeterRegistry meterRegistry,
+                         @Value("${read-coalescing.timeout-ms:2000}") long timeoutMs) {
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.defaultTimeout = Duration.ofMillis(timeoutMs);
+    }
+
+    public <T> T load(String operation, List<Object> args, Supplier<T> loader) {
+        return load(operation, args, false, defaultTimeout, loader);
+    }
+
+    public <T> T load(String operation, List<Object> args, boolean fillsCache, Supplier<T> loader) {
+        return load(operation, args, fillsCache, defaultTimeout, loader);
+    }
+
+    /**
+     * @param fillsCache loader 가 결과를 공유 캐시에 적재하면 true (primary 에서 조회)
+     * @param timeout    follower 가 이 조회의 결과를 기다리는 최대 시간 (초과 시 직접 조회)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String operation, List<Object> args, boolean fillsCache, Duration timeout, Supplier<T> loader) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return fillsCache ? ReplicaRoutingContext.readFromPrimary(loader) : loader.get();
+        }
+        Supplier<Object> inReadOnlyTx = () -> readOnlyTx.execute(status -> loader.get());
+        boolean readsPrimary = fillsCache || ReplicaRoutingContext.isPinnedToPrimary();
+        return (T) flightsOf(operation).execute(new FlightKey(args, readsPrimary), timeout,
+                fillsCache ? () -> ReplicaRoutingContext.readFromPrimary(inReadOnlyTx) : inReadOnlyTx);
+    }
+
+    private SingleFlight<FlightKey, Object> flightsOf(String operation) {
+        return flights.computeIfAbsent(operation, op -> {
+            SingleFlight<FlightKey, Object> flight = new SingleFlight<>();
+            FunctionCounter.builder("read.coalescing.calls", flight, SingleFlight::executedCount)
+                    .tags("operation", op, "result", "executed").register(meterRegistry);
+            FunctionCounter.builder("read.coalescing.calls", flight, SingleFlight::collapsedCount)
+                    .tags("operation", op, "result", "collapsed")
+                    .description("진행 중인 조회 결과를 공유받아 DB 조회를 생략한 호출 수").register(meterRegistry);
+            FunctionCounter.builder("read.coalescing.calls", flight, SingleFlight::timedOutCount)
+                    .tags("operation", op, "result", "timed_out").register(meterRegistry);
+            Gauge.builder("read.coalescing.in_flight", flight, SingleFlight::inFlight)
+                    .tag("operation", op).register(meterRegistry);
+            return flight;
+        });
+    }
+
+    private record FlightKey(List<Object> args, boolean primary) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.board0811.common.concurrent;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 호출을 하나의 실행으로 합침 (single-flight)
+ * - 먼저 온 호출(leader)이 호출 스레드에서 직접 loader 를 실행하고, 그동안 온 호출(follower)은 그 결과/예외를 공유
+ * - 완료되면 즉시 키를 비우므로 결과를 보관하지 않음 (캐시가 아님 — 완료 이후의 호출은 새로 실행)
+ * - 실행마다 마감 시각(시작 + timeout)을 두어, follower 는 마감까지만 기다린 뒤 직접 실행하고
+ *   마감이 지난 실행에는 새 호출이 합류하지 않음 (느린 실행 하나에 모든 호출이 묶이지 않도록)
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, Flight<V>> flights = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public V execute(K key, Duration timeout, Supplier<V> loader) {
+        long now = System.nanoTime();
+        Flight<V> mine = new Flight<>(now + timeout.toNanos());
+        while (true) {
+            Flight<V> current = flights.putIfAbsent(key, mine);
+            if (current == null) {
+                return lead(key, mine, loader);
+            }
+            if (current.deadlineNanos - now <= 0) {
+                if (flights.replace(key, current, mine)) return lead(key, mine, loader);
+                continue; // 그 사이 다른 호출이 교체/완료함 → 다시 시도
+            }
+            return follow(current, now, loader);
+        }
+    }
+
+    /** loader 를 실제로 실행한 횟수 */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /** 진행 중인 실행의 결과를 공유받은 호출 수 */
+    public long collapsedCount() {
+        return collapsed.sum();
+    }
+
+    /** 마감까지 결과를 받지 못해 직접 실행한 follower 수 */
+    public long timedOutCount() {
+        return timedOut.sum();
+    }
+
+    /** 진행 중인 실행 수 */
+    public int inFlight() {
+        return flights.size();
+    }
+
+    private V lead(K key, Flight<V> flight, Supplier<V> loader) {
+        executed.increment();
+        try {
+            V value = loader.get();
+            flight.future.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            flights.remove(key, flight);
+        }
+    }
+
+    private V follow(Flight<V> flight, long now, Supplier<V> loader) {
+        try {
+            V value = flight.future.get(Math.max(0, flight.deadlineNanos - now), TimeUnit.NANOSECONDS);
+            collapsed.increment();
+            return value;
+        } catch (TimeoutException e) {
+            timedOut.increment();
+            executed.increment();
+            return loader.get();
+        } catch (ExecutionException e) {
+            collapsed.increment();
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) throw runtime; // 예: BOARD_NOT_FOUND 를 그대로 공유
+            if (cause instanceof Error error) throw error;
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private static final class Flight<V> {
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private final long deadlineNanos;
+
+        private Flight(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+    }
+}
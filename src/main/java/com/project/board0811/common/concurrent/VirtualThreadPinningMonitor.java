@@ -0,0 +1,83 @@
+package com.project.board0811.common.concurrent;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 모드 전용 pinning 진단
+ * - synchronized 블록/네이티브 프레임 안에서 블로킹되어 캐리어 스레드를 붙잡은 경우(jdk.VirtualThreadPinned, JFR)를 임계값 이상만 기록
+ * - JDBC 드라이버 내부 synchronized 가 대표적 원인 (mysql-connector-j 9.x 는 ReentrantLock 으로 전환되어 대부분 해소)
+ * - 커넥션 풀 크기를 명시하지 않은 채 가상 스레드를 켜면 기동 시 경고 (풀이 사실상의 동시성 상한이 되므로)
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final AtomicLong pinnedCount = new AtomicLong();
+    private RecordingStream stream;
+
+    @Value("${diagnostics.virtual-threads.pinned-threshold-ms:20}")
+    private long thresholdMs;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:-1}")
+    private int maximumPoolSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (maximumPoolSize <= 0) {
+            log.warn("[VirtualThreads] spring.datasource.hikari.maximum-pool-size 미설정 - 기본 10개 커넥션에 요청이 몰려 대기할 수 있음");
+        }
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(Duration.ofMillis(thresholdMs)).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::onPinned);
+        stream.startAsync();
+        log.info("[VirtualThreads] pinning monitor started (threshold {}ms)", thresholdMs);
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedCount.incrementAndGet();
+        log.warn("[VirtualThreads] pinned {}ms on {}{}",
+                event.getDuration().toMillis(), event.getThread() == null ? "?" : event.getThread().getJavaName(),
+                topFrames(event.getStackTrace()));
+    }
+
+    private static String topFrames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) return "";
+        StringBuilder sb = new StringBuilder();
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        for (int i = 0; i < Math.min(LOGGED_FRAMES, frames.size()); i++) {
+            RecordedFrame frame = frames.get(i);
+            sb.append("\n\tat ").append(frame.getMethod().getType().getName())
+                    .append('.').append(frame.getMethod().getName())
+                    .append(':').append(frame.getLineNumber());
+        }
+        return sb.toString();
+    }
+
+    public long pinnedCount() {
+        return pinnedCount.get();
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (stream != null) stream.close();
+    }
+}
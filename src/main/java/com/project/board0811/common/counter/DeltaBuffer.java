@@ -0,0 +1,54 @@
+package com.project.board0811.common.counter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 키(엔티티 id)별 증감분을 메모리에 누적해 두는 버퍼
+ * - ConcurrentHashMap 의 버킷 단위 락(스트라이프)으로 누적하므로 같은 키에 대한 동시 증가도 유실되지 않음
+ * - drain() 으로 누적분을 원자적으로 꺼내 DB에 일괄 반영하고, 반영 실패 시 restore() 로 되돌림
+ */
+public class DeltaBuffer {
+
+    private final ConcurrentHashMap<Long, Long> deltas = new ConcurrentHashMap<>();
+
+    public void increment(Long key) {
+        add(key, 1L);
+    }
+
+    public void add(Long key, long delta) {
+        if (delta == 0) return;
+        deltas.merge(key, delta, Long::sum);
+    }
+
+    /**
+     * 현재까지 누적된 증감분을 꺼내고 버퍼에서 제거
+     * - 키 단위 remove 는 merge 와 원자적으로 직렬화되므로 drain 도중의 증가분은 다음 drain 으로 넘어감
+     */
+    public Map<Long, Long> drain() {
+        Map<Long, Long> snapshot = new HashMap<>();
+        for (Long key : deltas.keySet()) {
+            Long delta = deltas.remove(key);
+            if (delta != null && delta != 0) {
+                snapshot.put(key, delta);
+            }
+        }
+        return snapshot;
+    }
+
+    /** 반영에 실패한 증감분을 버퍼에 되돌림 (그 사이 쌓인 값과 합산) */
+    public void restore(Map<Long, Long> snapshot) {
+        snapshot.forEach(this::add);
+    }
+
+    /** 반영 대기 중인 키 개수 */
+    public int pendingKeys() {
+        return deltas.size();
+    }
+
+    /** 반영 대기 중인 증감분 합계 */
+    public long pendingTotal() {
+        return deltas.values().stream().mapToLong(Long::longValue).sum();
+    }
+}
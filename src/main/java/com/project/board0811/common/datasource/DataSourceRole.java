@@ -0,0 +1,9 @@
+package com.project.board0811.common.datasource;
+
+/**
+ * 라우팅 대상 커넥션 풀
+ */
+public enum DataSourceRole {
+    PRIMARY, // 쓰기 + 읽기 폴백
+    REPLICA  // readOnly 트랜잭션 전용
+}
@@ -0,0 +1,70 @@
+package com.project.board0811.common.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * read-your-writes 고정: 쓰기가 커밋된 요청의 응답에 "primary 고정 만료 시각" 쿠키를 내려,
+ * 만료 전까지 같은 클라이언트의 읽기는 replica 지연과 무관하게 primary 에서 처리
+ * - 상태를 쿠키에 두므로 인스턴스가 여러 대여도 동작
+ * - 쿠키 값은 클라이언트가 바꿀 수 있으나 최대 window 까지만 인정 (위조해도 자기 읽기만 primary 로 갈 뿐)
+ * - 보안 필터(로그인 시 마지막 로그인 시각 갱신 등)의 트랜잭션도 포함하도록 앞쪽 순서로 등록
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter implements Ordered {
+
+    public static final String COOKIE_NAME = "rw-primary-until";
+
+    private final long windowMillis;
+
+    public ReadYourWritesFilter(long windowMillis) {
+        this.windowMillis = windowMillis;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 1; // 문자 인코딩 필터 다음
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        ReplicaRoutingContext.open(pinnedUntil(request, now) > now, () -> pin(response));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.close();
+        }
+    }
+
+    // 커밋 직후(서비스 반환 전) 호출되므로 보통 응답 본문이 쓰이기 전 — 이미 커밋된 응답이면 생략
+    private void pin(HttpServletResponse response) {
+        if (response.isCommitted()) return;
+        Cookie cookie = new Cookie(COOKIE_NAME, String.valueOf(System.currentTimeMillis() + windowMillis));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, (windowMillis + 999) / 1000));
+        response.addCookie(cookie);
+    }
+
+    private long pinnedUntil(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return 0;
+        for (Cookie cookie : cookies) {
+            if (!COOKIE_NAME.equals(cookie.getName())) continue;
+            try {
+                return Math.min(Long.parseLong(cookie.getValue()), now + windowMillis);
+            } catch (NumberFormatException e) {
+                return 0;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,95 @@
+package com.project.board0811.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * replica 복제 지연 감시 — 지연이 max-lag-seconds 를 넘거나 조회가 실패하면 readOnly 트랜잭션도 primary 로
+ * - lag-query 결과에서 Seconds_Behind_Source(구 Seconds_Behind_Master) 컬럼, 없으면 첫 컬럼을 지연(초)으로 사용
+ *   (기본 SHOW REPLICA STATUS / 로컬·테스트는 "select 0" 같은 단일 값 쿼리로 대체)
+ * - 결과 행이 없으면 복제 대상이 아닌 단독 DB 로 보고 지연 0, 값이 NULL 이면 복제 중단으로 보고 사용 불가
+ * - 첫 감시 전에는 사용 불가 상태로 시작 (기동 직후 지연된 replica 로 읽기가 가는 것을 방지)
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final long maxLagSeconds;
+
+    private volatile boolean usable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, long maxLagSeconds) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval-ms:1000}")
+    public void check() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            Long lag = readLag(rs);
+            if (lag == null) {
+                lagSeconds = -1;
+                update(false, "replication is not running");
+                return;
+            }
+            lagSeconds = lag;
+            update(lag <= maxLagSeconds, "lag " + lag + "s exceeds " + maxLagSeconds + "s");
+        } catch (SQLException e) {
+            markUnavailable(e);
+        }
+    }
+
+    /** 커넥션 획득 실패 등 즉시 반영할 장애 (다음 check 에서 회복 여부 재판정) */
+    public void markUnavailable(SQLException cause) {
+        lagSeconds = -1;
+        update(false, cause.getMessage());
+    }
+
+    public boolean isReplicaUsable() {
+        return usable;
+    }
+
+    /** 마지막으로 측정한 지연(초), 측정 실패/복제 중단이면 -1 */
+    public long lagSeconds() {
+        return lagSeconds;
+    }
+
+    private Long readLag(ResultSet rs) throws SQLException {
+        if (!rs.next()) return 0L;
+        long lag = rs.getLong(lagColumn(rs.getMetaData()));
+        return rs.wasNull() ? null : lag;
+    }
+
+    private int lagColumn(ResultSetMetaData meta) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            for (String name : LAG_COLUMNS) {
+                if (name.equalsIgnoreCase(meta.getColumnLabel(i))) return i;
+            }
+        }
+        return 1;
+    }
+
+    private void update(boolean nowUsable, String reason) {
+        boolean was = usable;
+        usable = nowUsable;
+        if (was && !nowUsable) {
+            log.warn("[ReplicaLag] replica disabled, reads go to primary - {}", reason);
+        } else if (!was && nowUsable) {
+            log.info("[ReplicaLag] replica enabled (lag {}s)", lagSeconds);
+        }
+    }
+}
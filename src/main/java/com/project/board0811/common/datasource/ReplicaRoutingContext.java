@@ -0,0 +1,72 @@
+package com.project.board0811.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 read-your-writes 상태 (스레드 로컬)
+ * - ReadYourWritesFilter 가 요청 시작 시 open, 종료 시 close
+ * - pinned: 이 요청의 readOnly 트랜잭션도 primary 로 (직전 쓰기 쿠키가 유효하거나 이 요청에서 쓰기가 커밋됨)
+ * - 컨텍스트가 없는 스레드(스케줄러, 백그라운드 작업)는 고정 없이 라우팅 규칙만 적용
+ * - readFromPrimary: 요청 고정과 별개로, 결과가 캐시로 다른 요청에 공유되는 조회를 primary 에서 실행
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<ReplicaRoutingContext> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> PRIMARY_READ = new ThreadLocal<>();
+
+    private final Runnable onFirstWrite;
+    private boolean pinned;
+    private boolean written;
+
+    private ReplicaRoutingContext(boolean pinned, Runnable onFirstWrite) {
+        this.pinned = pinned;
+        this.onFirstWrite = onFirstWrite;
+    }
+
+    /**
+     * @param pinned       시작부터 primary 고정 여부
+     * @param onFirstWrite 이 요청에서 첫 쓰기 트랜잭션이 커밋된 직후 1회 호출 (고정 쿠키 발급)
+     */
+    public static void open(boolean pinned, Runnable onFirstWrite) {
+        CURRENT.set(new ReplicaRoutingContext(pinned, onFirstWrite));
+    }
+
+    public static void close() {
+        CURRENT.remove();
+    }
+
+    public static boolean isPinnedToPrimary() {
+        ReplicaRoutingContext context = CURRENT.get();
+        return context != null && context.pinned;
+    }
+
+    /**
+     * 캐시 적재용 조회를 primary 에서 실행 (BoardDetailCache, CommentTreeCache)
+     * - 쓰기 커밋 → 무효화 직후의 적재가 지연된 replica 에서 옛 행을 읽으면, 세대 검사로는 잡지 못한 채 TTL 동안 캐시됨
+     * - 커넥션을 잡는 시점(첫 SQL)에 적용되므로 reads 안에서 트랜잭션을 시작해야 함 (이미 커넥션을 잡은 트랜잭션에는 무효)
+     */
+    public static <T> T readFromPrimary(Supplier<T> reads) {
+        Boolean outer = PRIMARY_READ.get();
+        PRIMARY_READ.set(Boolean.TRUE);
+        try {
+            return reads.get();
+        } finally {
+            if (outer == null) PRIMARY_READ.remove();
+        }
+    }
+
+    static boolean isPrimaryReadRequested() {
+        return PRIMARY_READ.get() != null;
+    }
+
+    /** 쓰기 트랜잭션 커밋 통지 (ReplicaRoutingDataSource 가 afterCommit 에서 호출) */
+    static void markWritten() {
+        ReplicaRoutingContext context = CURRENT.get();
+        if (context == null) return;
+        context.pinned = true;
+        if (!context.written) {
+            context.written = true;
+            context.onFirstWrite.run();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.project.board0811.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * readOnly 트랜잭션은 replica, 나머지는 primary 로 보내는 라우팅 DataSource
+ * - 트랜잭션 매니저가 readOnly 표시를 하기 전에 커넥션을 잡으므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *   (실제 커넥션은 첫 SQL 실행 시점에 획득 → 그때는 readOnly 여부가 확정돼 있음)
+ * - primary 로 가는 경우: 쓰기 트랜잭션 / 트랜잭션 밖 / read-your-writes 고정 요청 / 캐시 적재 조회 / replica 지연·장애
+ * - replica 커넥션 획득 실패 시 즉시 primary 로 폴백하고 ReplicaLagMonitor 에 장애 표시
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private final DataSource primary;
+    private final ReplicaLagMonitor lagMonitor;
+
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder pinnedReads = new LongAdder();
+    private final LongAdder cacheFillReads = new LongAdder();
+    private final LongAdder fallbackReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+        this.primary = primary;
+        this.lagMonitor = lagMonitor;
+        setTargetDataSources(Map.of(DataSourceRole.PRIMARY, primary, DataSourceRole.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            pinOnCommit();
+            return DataSourceRole.PRIMARY;
+        }
+        if (ReplicaRoutingContext.isPinnedToPrimary()) {
+            pinnedReads.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (ReplicaRoutingContext.isPrimaryReadRequested()) {
+            cacheFillReads.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            fallbackReads.increment();
+            return DataSourceRole.PRIMARY;
+        }
+        replicaReads.increment();
+        return DataSourceRole.REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection();
+        } catch (SQLException e) {
+            if (target == primary) throw e;
+            return fallBackToPrimary(e);
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        DataSource target = determineTargetDataSource();
+        try {
+            return target.getConnection(username, password);
+        } catch (SQLException e) {
+            if (target == primary) throw e;
+            return fallBackToPrimary(e);
+        }
+    }
+
+    public long replicaReads() {
+        return replicaReads.sum();
+    }
+
+    public long pinnedReads() {
+        return pinnedReads.sum();
+    }
+
+    public long cacheFillReads() {
+        return cacheFillReads.sum();
+    }
+
+    public long fallbackReads() {
+        return fallbackReads.sum();
+    }
+
+    private Connection fallBackToPrimary(SQLException cause) throws SQLException {
+        log.warn("[ReplicaRouting] replica connection failed, falling back to primary - {}", cause.getMessage());
+        lagMonitor.markUnavailable(cause);
+        replicaReads.decrement();
+        fallbackReads.increment();
+        return primary.getConnection();
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 같은 요청의 이후 읽기와 다음 요청들(쿠키)을 primary 로 고정
+    private void pinOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return; // 트랜잭션 밖(마이그레이션, 풀 초기화 등) 또는 동기화 등록 전(doBegin 중 획득)
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                ReplicaRoutingContext.markWritten();
+            }
+        });
+    }
+}
@@ -28,7 +28,10 @@ public class ApiErrorController implements ErrorController {
 
         String path = requestUriObj != null ? requestUriObj.toString() : "N/A";
 
-        ErrorCode code = mapStatusToErrorCode(statusCode);
+        // 필터 단계(로그인 등)에서 던져진 CustomException 은 그 에러 코드를 그대로 사용
+        BaseErrorCode code = (exceptionObj instanceof CustomException ce)
+                ? ce.getErrorCode()
+                : mapStatusToErrorCode(statusCode);
 
         // 로그에는 실제 상태와 경로/예외 정보를 남김
         if (exceptionObj != null) {
@@ -49,6 +52,7 @@ public class ApiErrorController implements ErrorController {
             case 404 -> ErrorCode.NOT_FOUND;            // 404를 공통 포맷으로 변환
             case 405 -> ErrorCode.METHOD_NOT_ALLOWED;
             case 409 -> ErrorCode.DATA_INTEGRITY_VIOLATION;
+            case 429 -> ErrorCode.TOO_MANY_REQUESTS;
             default -> ErrorCode.INTERNAL_SERVER_ERROR;
         };
     }
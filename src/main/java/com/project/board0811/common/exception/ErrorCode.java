@@ -17,12 +17,17 @@ public enum ErrorCode implements BaseErrorCode {
     METHOD_NOT_ALLOWED("COMMON-405", "지원하지 않는 HTTP 메서드입니다.", HttpStatus.METHOD_NOT_ALLOWED),
     NOT_FOUND("COMMON-404", "요청하신 리소스를 찾을 수 없습니다.", HttpStatus.NOT_FOUND),
     INVALID_ARGUMENT("COMMON-400-ARG", "잘못된 요청입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_SORT("COMMON-400-SORT", "지원하지 않는 정렬 기준입니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CURSOR("COMMON-400-CURSOR", "페이지 커서 값이 올바르지 않습니다.", HttpStatus.BAD_REQUEST),
+    TOO_MANY_REQUESTS("COMMON-429", "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
+    SERVICE_OVERLOADED("COMMON-503", "서버가 혼잡해 요청을 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.SERVICE_UNAVAILABLE),
 
     // ===== 인증/인가 =====
     UNAUTHORIZED("AUTH-401", "인증이 필요합니다.", HttpStatus.UNAUTHORIZED),
     FORBIDDEN("AUTH-403", "접근 권한이 없습니다.", HttpStatus.FORBIDDEN),
     JWT_EXPIRED("AUTH-401-JWT_EXPIRED", "엑세스 토큰이 만료되었습니다.", HttpStatus.UNAUTHORIZED),
     JWT_INVALID("AUTH-401-JWT_INVALID", "유효하지 않은 토큰입니다.", HttpStatus.UNAUTHORIZED),
+    LOGIN_RATE_LIMITED("AUTH-429-LOGIN", "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해 주세요.", HttpStatus.TOO_MANY_REQUESTS),
 
     // ===== 데이터/DB =====
     DATA_INTEGRITY_VIOLATION("DB-409-INTEGRITY", "데이터 무결성 제약조건을 위반했습니다.", HttpStatus.CONFLICT),
@@ -0,0 +1,91 @@
+package com.project.board0811.common.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 GET(If-None-Match / If-Modified-Since) 처리 유틸
+ * - 컨트롤러는 먼저 저렴한 버전 조회로 ETag 를 구해 notModified(...) 를 확인하고, 일치하면 본문 없이 304 응답
+ * - 응답에는 Cache-Control: no-cache 를 붙여 클라이언트가 저장은 하되 매번 재검증하게 함 (Spring Security 기본 no-store 대체)
+ * - ETag 비교는 약한 비교 (W/ 접두 무시), If-None-Match 가 있으면 If-Modified-Since 는 무시 (RFC 9110)
+ */
+public final class ConditionalGet {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache();
+
+    private ConditionalGet() {
+    }
+
+    /** 클라이언트가 검증자를 보냈는지 (없으면 버전 조회를 생략하고 바로 본문 조회) */
+    public static boolean hasValidator(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                || request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) != null;
+    }
+
+    /** If-None-Match 만 확인 (Last-Modified 를 주지 않는 목록 응답용) */
+    public static boolean hasETagValidator(WebRequest request) {
+        return request.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+    }
+
+    public static boolean notModified(WebRequest request, String eTag, LocalDateTime lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return eTagMatches(ifNoneMatch, eTag);
+        }
+        if (lastModified == null) return false;
+
+        String header = request.getHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        if (header == null) return false;
+
+        long ifModifiedSince;
+        try {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, header);
+            ifModifiedSince = headers.getIfModifiedSince();
+        } catch (IllegalArgumentException e) {
+            return false; // 날짜 형식 오류는 검증자 없음으로 취급
+        }
+        return ifModifiedSince >= 0 && epochSecond(lastModified) * 1000 <= ifModifiedSince;
+    }
+
+    public static <T> ResponseEntity<T> notModifiedResponse(String eTag, LocalDateTime lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(eTag)
+                .cacheControl(REVALIDATE);
+        if (lastModified != null) builder.lastModified(epochSecond(lastModified) * 1000);
+        return builder.build();
+    }
+
+    public static <T> ResponseEntity<T> ok(T body, String eTag, LocalDateTime lastModified) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(REVALIDATE);
+        if (lastModified != null) builder.lastModified(epochSecond(lastModified) * 1000);
+        return builder.body(body);
+    }
+
+    private static boolean eTagMatches(String ifNoneMatch, String eTag) {
+        String current = opaque(eTag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || opaque(trimmed).equals(current)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String opaque(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+
+    private static long epochSecond(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toEpochSecond(); // HTTP 날짜는 초 단위
+    }
+}
@@ -0,0 +1,48 @@
+package com.project.board0811.common.http;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 약한(weak) ETag 생성기 — 값들을 순서대로 64비트 해시로 누적해 W/"{prefix}-{hex}" 형태로 만듦
+ * - 응답 DTO 에서 계산한 값과 버전 전용 쿼리에서 계산한 값이 같아지도록, 양쪽이 같은 순서로 같은 값을 add 해야 함
+ * - 약한 비교 기준이므로 조회수처럼 근사값인 필드는 넣지 않음
+ */
+public final class ETagBuilder {
+
+    private final String prefix;
+    private long hash = 0xcbf29ce484222325L; // FNV-1a offset basis
+
+    private ETagBuilder(String prefix) {
+        this.prefix = prefix;
+    }
+
+    public static ETagBuilder of(String prefix) {
+        return new ETagBuilder(prefix);
+    }
+
+    public ETagBuilder add(long value) {
+        for (int i = 0; i < Long.BYTES; i++) {
+            hash ^= (value >>> (i * 8)) & 0xff;
+            hash *= 0x100000001b3L; // FNV prime
+        }
+        return this;
+    }
+
+    public ETagBuilder add(Long value) {
+        return add(value == null ? Long.MIN_VALUE : value);
+    }
+
+    public ETagBuilder add(boolean value) {
+        return add(value ? 1L : 0L);
+    }
+
+    public ETagBuilder add(LocalDateTime value) {
+        if (value == null) return add(Long.MIN_VALUE);
+        return add(value.toEpochSecond(ZoneOffset.UTC)).add(value.getNano());
+    }
+
+    public String build() {
+        return "W/\"" + prefix + "-" + Long.toHexString(hash) + "\"";
+    }
+}
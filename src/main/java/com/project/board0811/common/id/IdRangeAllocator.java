@@ -0,0 +1,100 @@
+package com.project.board0811.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * id_sequences 테이블 기반 id 구간 선할당
+ * - 엔티티의 @TableGenerator(pooled-lo) 와 같은 행을 공유: next_val = 아직 누구에게도 주지 않은 첫 id
+ * - 대량 이관처럼 JPA 를 거치지 않고 JDBC 배치로 넣을 때, 부모/자식 id 를 미리 알기 위해 사용
+ * - 별도 트랜잭션(REQUIRES_NEW)에서 행 락을 잡고 즉시 커밋 → 호출 측이 롤백되면 해당 구간은 비어 있는 채로 남음(중복 없음)
+ * - 시퀀스 행은 대상 테이블의 max(id) + 1 에서 시작: 기동 시(요청 수신 전) 없거나 뒤처진 행을 맞추고, 할당 시 행이 없을 때도 같은 값
+ *   (IDENTITY 시절 데이터가 있는 DB 에서 테이블 생성기/구간 할당이 1 부터 시작해 기존 id 와 충돌하지 않도록)
+ */
+@Slf4j
+@Component
+public class IdRangeAllocator implements SmartInitializingSingleton {
+
+    /** 시퀀스 이름(@TableGenerator pkColumnValue) → id 를 받는 테이블 */
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            "board", "board",
+            "comments", "comments"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public IdRangeAllocator(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 모든 싱글톤 생성 후(스키마 준비 완료, 웹 서버 시작 전) 시퀀스 행을 max(id) + 1 이상으로 맞춤
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCE_TABLES.keySet().forEach(this::seed);
+    }
+
+    /**
+     * @return 할당된 구간의 시작 id — [start, start + count)
+     */
+    public long allocate(String sequence, int count) {
+        if (count <= 0) {
+            throw new IllegalArgumentException("count must be positive: " + count);
+        }
+        Long start = requiresNew.execute(status -> {
+            List<Long> current = lockRow(sequence);
+            long next = current.isEmpty() ? nextAfterMaxId(sequence) : current.get(0);
+            if (current.isEmpty()) {
+                jdbcTemplate.update("insert into id_sequences (seq_name, next_val) values (?, ?)", sequence, next + count);
+            } else {
+                jdbcTemplate.update("update id_sequences set next_val = ? where seq_name = ?", next + count, sequence);
+            }
+            return next;
+        });
+        return start;
+    }
+
+    /** 행이 없으면 max(id) + 1 로 생성, 있으면 그보다 작을 때만 당김 (줄이지는 않음) */
+    private void seed(String sequence) {
+        try {
+            requiresNew.executeWithoutResult(status -> {
+                long floor = nextAfterMaxId(sequence);
+                List<Long> current = lockRow(sequence);
+                if (current.isEmpty()) {
+                    jdbcTemplate.update("insert into id_sequences (seq_name, next_val) values (?, ?)", sequence, floor);
+                } else if (current.get(0) == null || current.get(0) < floor) {
+                    jdbcTemplate.update("update id_sequences set next_val = ? where seq_name = ?", floor, sequence);
+                    log.warn("id_sequences[{}] behind existing ids: {} -> {}", sequence, current.get(0), floor);
+                }
+            });
+        } catch (DuplicateKeyException e) {
+            seed(sequence); // 다른 노드가 먼저 행을 만든 경우 → 락을 잡고 다시 비교
+        }
+    }
+
+    private List<Long> lockRow(String sequence) {
+        return jdbcTemplate.queryForList(
+                "select next_val from id_sequences where seq_name = ? for update", Long.class, sequence);
+    }
+
+    private long nextAfterMaxId(String sequence) {
+        String table = SEQUENCE_TABLES.get(sequence);
+        if (table == null) {
+            throw new IllegalArgumentException("unknown sequence: " + sequence);
+        }
+        return jdbcTemplate.queryForObject("select coalesce(max(id), 0) + 1 from " + table, Long.class);
+    }
+}
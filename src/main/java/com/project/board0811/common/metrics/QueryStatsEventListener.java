@@ -0,0 +1,35 @@
+package com.project.board0811.common.metrics;
+
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+
+/**
+ * 엔티티 로딩/지연 로딩 계수용 Hibernate 이벤트 리스너
+ * - POST_LOAD: 엔티티 1건이 영속성 컨텍스트에 적재될 때마다
+ * - LOAD(IMMEDIATE_LOAD): 프록시 초기화 — 예) 페치 조인 없이 comment.getAuthor().getName() 호출
+ * - INIT_COLLECTION: 지연 컬렉션 초기화
+ */
+public class QueryStatsEventListener
+        implements PostLoadEventListener, LoadEventListener, InitializeCollectionEventListener {
+
+    @Override
+    public void onPostLoad(PostLoadEvent event) {
+        RequestQueryStats.entityLoaded();
+    }
+
+    @Override
+    public void onLoad(LoadEvent event, LoadType loadType) {
+        if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+            RequestQueryStats.lazyLoaded();
+        }
+    }
+
+    @Override
+    public void onInitializeCollection(InitializeCollectionEvent event) {
+        RequestQueryStats.lazyLoaded();
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.board0811.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청별 SQL 문 수 / 엔티티 로딩 수 / 지연 로딩 수를 엔드포인트(uri 패턴) 태그로 기록
+ * - http.server.requests.sql.statements, .entities.loaded, .lazy.loads (DistributionSummary, /actuator/prometheus)
+ * - SQL 문 수가 n-plus-one-threshold 를 넘으면 경고 로그 + http.server.requests.sql.flagged 카운터 증가
+ */
+@Slf4j
+@Component
+public class QueryStatsFilter extends OncePerRequestFilter {
+
+    private static final double[] BUCKETS = {1, 2, 3, 5, 10, 20, 50, 100};
+
+    private final MeterRegistry meterRegistry;
+    private final int nPlusOneThreshold;
+
+    public QueryStatsFilter(MeterRegistry meterRegistry,
+                            @Value("${metrics.sql.n-plus-one-threshold:10}") int nPlusOneThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestQueryStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            record(request, RequestQueryStats.end());
+        }
+    }
+
+    private void record(HttpServletRequest request, RequestQueryStats.Snapshot stats) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN"; // 매핑 없는 요청은 태그 폭증 방지용으로 묶음
+        Tags tags = Tags.of("method", request.getMethod(), "uri", uri);
+
+        summary("http.server.requests.sql.statements", tags).record(stats.statements());
+        summary("http.server.requests.sql.entities.loaded", tags).record(stats.entitiesLoaded());
+        summary("http.server.requests.sql.lazy.loads", tags).record(stats.lazyLoads());
+
+        if (stats.statements() > nPlusOneThreshold) {
+            meterRegistry.counter("http.server.requests.sql.flagged", tags).increment();
+            log.warn("[QueryStats] possible N+1 - {} {}: {} statements, {} entities loaded, {} lazy loads",
+                    request.getMethod(), uri, stats.statements(), stats.entitiesLoaded(), stats.lazyLoads());
+        }
+    }
+
+    private DistributionSummary summary(String name, Tags tags) {
+        return DistributionSummary.builder(name)
+                .tags(tags)
+                .serviceLevelObjectives(BUCKETS)
+                .register(meterRegistry);
+    }
+}
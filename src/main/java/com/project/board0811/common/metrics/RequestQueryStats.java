@@ -0,0 +1,65 @@
+package com.project.board0811.common.metrics;
+
+/**
+ * 요청 단위 SQL/엔티티 로딩 집계 (스레드 로컬)
+ * - QueryStatsFilter 가 요청 시작 시 begin, 종료 시 end 로 꺼내 메트릭에 기록
+ * - 집계 중이 아닌 스레드(스케줄러, 백그라운드 작업)의 호출은 무시
+ */
+public final class RequestQueryStats {
+
+    private static final ThreadLocal<Counts> CURRENT = new ThreadLocal<>();
+
+    private RequestQueryStats() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new Counts());
+    }
+
+    public static Snapshot end() {
+        Counts counts = CURRENT.get();
+        CURRENT.remove();
+        return counts == null ? Snapshot.EMPTY : counts.snapshot();
+    }
+
+    /** 진행 중인 집계의 현재 값 (집계 중이 아니면 EMPTY) */
+    public static Snapshot current() {
+        Counts counts = CURRENT.get();
+        return counts == null ? Snapshot.EMPTY : counts.snapshot();
+    }
+
+    static void statementPrepared() {
+        Counts counts = CURRENT.get();
+        if (counts != null) counts.statements++;
+    }
+
+    static void entityLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) counts.entitiesLoaded++;
+    }
+
+    static void lazyLoaded() {
+        Counts counts = CURRENT.get();
+        if (counts != null) counts.lazyLoads++;
+    }
+
+    /** 한 스레드에서만 접근하므로 동기화 불필요 */
+    private static final class Counts {
+        private int statements;
+        private int entitiesLoaded;
+        private int lazyLoads;
+
+        private Snapshot snapshot() {
+            return new Snapshot(statements, entitiesLoaded, lazyLoads);
+        }
+    }
+
+    /**
+     * @param statements     실행 준비된 SQL 문 수 (StatementInspector 기준)
+     * @param entitiesLoaded 영속성 컨텍스트에 로딩된 엔티티 수
+     * @param lazyLoads      지연 로딩(프록시 초기화 + 컬렉션 초기화) 횟수
+     */
+    public record Snapshot(int statements, int entitiesLoaded, int lazyLoads) {
+        public static final Snapshot EMPTY = new Snapshot(0, 0, 0);
+    }
+}
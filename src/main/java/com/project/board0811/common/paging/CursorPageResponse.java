@@ -0,0 +1,19 @@
+package com.project.board0811.common.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> { // 커서(keyset) 페이징 응답 — count 쿼리 없음
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;   // 다음 페이지 요청 시 그대로 전달 (hasNext=false면 null)
+}
@@ -0,0 +1,18 @@
+package com.project.board0811.common.paging;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorRequestDto {
+
+    private String cursor; // 이전 응답의 nextCursor (null이면 첫 페이지)
+
+    @Min(1) @Max(100)
+    private int size = 20;
+}
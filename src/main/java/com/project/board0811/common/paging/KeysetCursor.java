@@ -0,0 +1,52 @@
+package com.project.board0811.common.paging;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * (createdAt, id) 기반 keyset 커서
+ * - 클라이언트에는 Base64(URL-safe) 문자열로만 노출하여 내부 구조에 의존하지 않도록 함
+ * - createdAt 이 같은 행은 id 로 순서를 확정 (createdAt desc, id desc)
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public static KeysetCursor of(LocalDateTime createdAt, Long id) {
+        return new KeysetCursor(createdAt, id);
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /** null/blank 이면 첫 페이지(null) 반환, 형식이 잘못되면 INVALID_CURSOR */
+    public static KeysetCursor decode(String encoded) {
+        if (encoded == null || encoded.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep < 0) throw new CustomException(ErrorCode.INVALID_CURSOR);
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, sep)),
+                    Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR, e);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.project.board0811.common.paging;
 
 import java.util.function.Function;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public final class PageConverters {
     private PageConverters() {}
@@ -23,4 +24,18 @@ public final class PageConverters {
                 .direction(direction)
                 .build();
     }
+
+    public static <S, T> SliceResponse<T> toSliceResponse(
+            Slice<S> slice, Function<S, T> mapper, String sort, String direction) {
+
+        return SliceResponse.<T>builder()
+                .content(slice.map(mapper).getContent())
+                .page(slice.getNumber())
+                .size(slice.getSize())
+                .first(slice.isFirst())
+                .hasNext(slice.hasNext())
+                .sort(sort)
+                .direction(direction)
+                .build();
+    }
 }
@@ -20,10 +20,13 @@ public class PageRequestDto {
     private String sort = "createdAt"; // 필드명
     private String direction = "desc"; // asc | desc
 
-    public org.springframework.data.domain.Pageable toPageable() {
-        var sortObj = "desc".equalsIgnoreCase(direction)
-                ? org.springframework.data.domain.Sort.by(sort).descending()
-                : org.springframework.data.domain.Sort.by(sort).ascending();
-        return org.springframework.data.domain.PageRequest.of(page, size, sortObj);
+    /** 리소스 정렬 정책으로 sort/direction 해석 (허용되지 않은 키/방향, ROUTED 키의 asc 는 INVALID_SORT) */
+    public SortPolicy.ResolvedSort resolveSort(SortPolicy policy) {
+        return policy.resolve(sort, direction);
+    }
+
+    /** 정책이 허용한 인덱스 정렬 + id 동순위 정렬로 Pageable 생성 (ROUTED 키는 unsorted) */
+    public org.springframework.data.domain.Pageable toPageable(SortPolicy policy) {
+        return org.springframework.data.domain.PageRequest.of(page, size, resolveSort(policy).sort());
     }
 }
@@ -0,0 +1,25 @@
+package com.project.board0811.common.paging;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 전체 건수 없이 "다음 페이지 존재 여부"만 제공하는 페이지 응답 (count 쿼리 생략)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SliceResponse<T> {
+    private List<T> content;
+    private int page;             // 0-based
+    private int size;
+    private boolean first;
+    private boolean hasNext;
+    private String sort;
+    private String direction;
+}
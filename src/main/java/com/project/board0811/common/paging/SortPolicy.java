@@ -0,0 +1,110 @@
+package com.project.board0811.common.paging;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 리소스별 정렬 허용 목록 — 클라이언트 sort 키를 인덱스가 받쳐 주는 정렬로만 변환
+ * - INDEXED: 지정한 속성 순서로 정렬하고 마지막에 id 를 같은 방향으로 덧붙임 (동순위 행이 페이지 경계에서 중복/누락되지 않도록)
+ * - ROUTED: DB 정렬 대신 미리 계산된 구조(예: 인기 랭킹)에서 응답하도록 호출 측에 위임 (Sort 는 unsorted, 방향은 desc 고정)
+ * - 그 외 키/방향은 INVALID_SORT(400) — LOB/비인덱스 컬럼 정렬로 전체 스캔 + filesort 가 나지 않게 차단
+ */
+public final class SortPolicy {
+
+    private static final String TIEBREAKER = "id";
+
+    private final String defaultKey;
+    private final Map<String, Rule> rules;
+
+    private SortPolicy(String defaultKey, Map<String, Rule> rules) {
+        this.defaultKey = defaultKey;
+        this.rules = Collections.unmodifiableMap(rules);
+    }
+
+    public static Builder builder(String defaultKey) {
+        return new Builder(defaultKey);
+    }
+
+    /**
+     * sort 키/방향 해석 (키가 비어 있으면 기본 키, 방향은 asc|desc)
+     */
+    public ResolvedSort resolve(String key, String direction) {
+        String resolvedKey = (key == null || key.isBlank()) ? defaultKey : key;
+        Rule rule = rules.get(resolvedKey);
+        if (rule == null) {
+            throw new CustomException(ErrorCode.INVALID_SORT);
+        }
+        Sort.Direction dir = parseDirection(direction);
+
+        if (rule.routed()) {
+            if (dir != Sort.Direction.DESC) {
+                throw new CustomException(ErrorCode.INVALID_SORT); // 랭킹은 상위 K 내림차순만 — asc 를 조용히 무시하지 않음
+            }
+            return new ResolvedSort(resolvedKey, dir, Sort.unsorted(), true);
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        for (String property : rule.properties()) {
+            orders.add(new Sort.Order(dir, property));
+        }
+        if (!rule.properties().contains(TIEBREAKER)) {
+            orders.add(new Sort.Order(dir, TIEBREAKER));
+        }
+        return new ResolvedSort(resolvedKey, dir, Sort.by(orders), false);
+    }
+
+    private static Sort.Direction parseDirection(String direction) {
+        if (direction == null || direction.isBlank() || "desc".equalsIgnoreCase(direction)) return Sort.Direction.DESC;
+        if ("asc".equalsIgnoreCase(direction)) return Sort.Direction.ASC;
+        throw new CustomException(ErrorCode.INVALID_SORT);
+    }
+
+    private record Rule(List<String> properties, boolean routed) {
+    }
+
+    /**
+     * 해석 결과 — routed 이면 sort 는 unsorted 이고 key 로 대상 구조를 고름
+     */
+    public record ResolvedSort(String key, Sort.Direction direction, Sort sort, boolean routed) {
+
+        public String directionName() {
+            return direction.name().toLowerCase();
+        }
+    }
+
+    public static final class Builder {
+        private final String defaultKey;
+        private final Map<String, Rule> rules = new LinkedHashMap<>();
+
+        private Builder(String defaultKey) {
+            this.defaultKey = defaultKey;
+        }
+
+        /** 인덱스 순서와 일치하는 정렬 (properties 를 생략하면 key 와 같은 이름의 속성 1개) */
+        public Builder indexed(String key, String... properties) {
+            rules.put(key, new Rule(properties.length == 0 ? List.of(key) : List.of(properties), false));
+            return this;
+        }
+
+        /** DB 정렬 대신 미리 계산된 구조로 보낼 키 */
+        public Builder routed(String key) {
+            rules.put(key, new Rule(List.of(), true));
+            return this;
+        }
+
+        public SortPolicy build() {
+            Rule rule = rules.get(defaultKey);
+            if (rule == null || rule.routed()) {
+                throw new IllegalStateException("default sort key must be an indexed rule: " + defaultKey);
+            }
+            return new SortPolicy(defaultKey, new LinkedHashMap<>(rules));
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.board0811.common.ratelimit;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 키(사용자명, IP 등)별 토큰 버킷 — 메모리 전용, 인스턴스 단위
+ * - 키 해시로 고른 스트라이프 1개만 잠그므로 서로 다른 키의 동시 요청은 거의 경합하지 않음
+ * - 스트라이프마다 접근 순서 LRU 로 보관 건수를 제한 (밀려난 버킷은 가득 찬 상태로 다시 시작)
+ * - 토큰은 마지막 접근 이후 경과 시간만큼 게으르게 채움 (별도 타이머 없음)
+ */
+public class StripedTokenBuckets {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private final Stripe[] stripes;
+
+    /**
+     * @param capacity    버킷 크기 (연속 허용 횟수)
+     * @param refillEvery 토큰 1개가 다시 채워지는 시간
+     * @param stripes     잠금 단위 수 (2의 거듭제곱으로 올림)
+     * @param maxKeys     전체 보관 키 상한
+     */
+    public StripedTokenBuckets(int capacity, Duration refillEvery, int stripes, int maxKeys) {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        if (refillEvery.isZero() || refillEvery.isNegative()) throw new IllegalArgumentException("refillEvery must be positive");
+        this.capacity = capacity;
+        this.tokensPerNano = 1.0 / refillEvery.toNanos();
+
+        int size = 1;
+        while (size < stripes) size <<= 1;
+        int perStripe = Math.max(1, maxKeys / size);
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < size; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /**
+     * 토큰 1개 소비 시도
+     * @return 0 이면 허용, 양수면 거절 — 다음 토큰까지 남은 시간(nanos)
+     */
+    public long tryAcquire(String key, long nowNanos) {
+        return stripeOf(key).tryAcquire(key, nowNanos);
+    }
+
+    /**
+     * 소비한 토큰 1개 반환 (capacity 초과 불가) — 예: 성공한 시도는 제한에 세지 않을 때
+     * - 그 사이 LRU 로 밀려난 키는 이미 가득 찬 상태로 다시 시작하므로 무시
+     */
+    public void refund(String key) {
+        stripeOf(key).refund(key);
+    }
+
+    /** 보관 중인 키 수 (근사) */
+    public int size() {
+        int total = 0;
+        for (Stripe stripe : stripes) {
+            total += stripe.size();
+        }
+        return total;
+    }
+
+    private Stripe stripeOf(String key) {
+        int h = key.hashCode();
+        return stripes[(h ^ (h >>> 16)) & (stripes.length - 1)];
+    }
+
+    private final class Stripe {
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+
+        private synchronized long tryAcquire(String key, long nowNanos) {
+            Bucket bucket = buckets.get(key);
+            if (bucket == null) {
+                buckets.put(key, new Bucket(capacity - 1, nowNanos));
+                return 0;
+            }
+            bucket.tokens = Math.min(capacity, bucket.tokens + (nowNanos - bucket.updatedAt) * tokensPerNano);
+            bucket.updatedAt = nowNanos;
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return Math.max(1, (long) Math.ceil((1 - bucket.tokens) / tokensPerNano));
+        }
+
+        private synchronized void refund(String key) {
+            Bucket bucket = buckets.get(key);
+            if (bucket != null) {
+                bucket.tokens = Math.min(capacity, bucket.tokens + 1);
+            }
+        }
+
+        private synchronized int size() {
+            return buckets.size();
+        }
+    }
+
+    private static final class Bucket {
+        private double tokens;
+        private long updatedAt;
+
+        private Bucket(double tokens, long updatedAt) {
+            this.tokens = tokens;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.board0811.config;
+
+import com.project.board0811.common.concurrent.AdaptiveConcurrencyLimit;
+import com.project.board0811.common.concurrent.ConcurrencyLimitFilter;
+import com.project.board0811.domain.board.cache.BoardDetailCache;
+import com.project.board0811.domain.board.content.BoardContentMigrationJob;
+import com.project.board0811.domain.board.content.BoardContentStore;
+import com.project.board0811.domain.board.ranking.BoardRanking;
+import com.project.board0811.domain.board.ranking.RankingType;
+import com.project.board0811.domain.board.search.BoardSearchIndex;
+import com.project.board0811.domain.board.service.ViewCountAggregator;
+import com.project.board0811.domain.comment.cache.CommentTreeCache;
+import com.project.board0811.domain.comment.service.CommentLikeCounter;
+import com.project.board0811.domain.user.security.LoginAttemptLimiter;
+import com.project.board0811.domain.user.security.PasswordHashingExecutor;
+import com.project.board0811.domain.user.security.PooledPasswordEncoder;
+import com.project.board0811.domain.user.service.LastLoginRecorder;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+
+/**
+ * 관리자 통계 API 로만 보이던 내부 상태를 Micrometer 게이지/카운터로 등록 (/actuator/prometheus)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder boardMetrics(ViewCountAggregator viewCountAggregator,
+                                    BoardDetailCache boardDetailCache,
+                                    BoardSearchIndex boardSearchIndex,
+                                    BoardRanking boardRanking) {
+        return registry -> {
+            Gauge.builder("board.view_count.pending.boards", viewCountAggregator, ViewCountAggregator::pendingBoards)
+                    .description("조회수 버퍼에 반영 대기 중인 게시글 수").register(registry);
+            Gauge.builder("board.view_count.pending.views", viewCountAggregator, ViewCountAggregator::pendingViews)
+                    .description("조회수 버퍼에 반영 대기 중인 조회수 합계").register(registry);
+
+            Gauge.builder("board.cache.size", boardDetailCache, BoardDetailCache::estimatedSize)
+                    .register(registry);
+            FunctionCounter.builder("board.cache.requests", boardDetailCache, c -> c.stats().hitCount())
+                    .tag("result", "hit").register(registry);
+            FunctionCounter.builder("board.cache.requests", boardDetailCache, c -> c.stats().missCount())
+                    .tag("result", "miss").register(registry);
+            FunctionCounter.builder("board.cache.evictions", boardDetailCache, c -> c.stats().evictionCount())
+                    .register(registry);
+
+            Gauge.builder("board.search.documents", boardSearchIndex, BoardSearchIndex::documentCount)
+                    .register(registry);
+            Gauge.builder("board.search.terms", boardSearchIndex, BoardSearchIndex::termCount)
+                    .register(registry);
+            Gauge.builder("board.search.ready", boardSearchIndex, index -> index.isReady() ? 1 : 0)
+                    .register(registry);
+
+            for (RankingType type : RankingType.values()) {
+                Gauge.builder("board.ranking.entries", boardRanking, r -> r.size(type))
+                        .tag("type", type.name().toLowerCase()).register(registry);
+            }
+            Gauge.builder("board.ranking.age.seconds", boardRanking,
+                            r -> r.lastRebuiltAt() == 0 ? 0 : (System.currentTimeMillis() - r.lastRebuiltAt()) / 1000.0)
+                    .description("마지막 랭킹 재구축 이후 경과 시간").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder boardContentMetrics(BoardContentStore boardContentStore, BoardContentMigrationJob migrationJob) {
+        return registry -> {
+            Gauge.builder("board.content.legacy_reads", boardContentStore, s -> s.isLegacyReads() ? 1 : 0)
+                    .description("본문 이관 미완료로 구 컬럼 대체 조회 중 여부").register(registry);
+            FunctionCounter.builder("board.content.migration.rows", migrationJob, BoardContentMigrationJob::migratedRows)
+                    .register(registry);
+            FunctionCounter.builder("board.content.migration.bytes", migrationJob, BoardContentMigrationJob::originalBytes)
+                    .tag("stage", "original").register(registry);
+            FunctionCounter.builder("board.content.migration.bytes", migrationJob, BoardContentMigrationJob::storedBytes)
+                    .tag("stage", "stored").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder commentMetrics(CommentTreeCache commentTreeCache, CommentLikeCounter commentLikeCounter) {
+        return registry -> {
+            Gauge.builder("comment.tree_cache.size", commentTreeCache, CommentTreeCache::estimatedSize)
+                    .register(registry);
+            Gauge.builder("comment.like.pending.comments", commentLikeCounter, CommentLikeCounter::pendingComments)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder passwordHashingMetrics(PasswordHashingExecutor executor, PooledPasswordEncoder passwordEncoder) {
+        return registry -> {
+            Gauge.builder("user.password_hashing.queue.depth", executor, PasswordHashingExecutor::queueDepth)
+                    .register(registry);
+            Gauge.builder("user.password_hashing.active", executor, PasswordHashingExecutor::activeCount)
+                    .register(registry);
+            Gauge.builder("user.password_hashing.latency.avg", executor, PasswordHashingExecutor::averageLatencyMs)
+                    .baseUnit("milliseconds").register(registry);
+            Gauge.builder("user.password_hashing.latency.max", executor, PasswordHashingExecutor::maxLatencyMs)
+                    .baseUnit("milliseconds").register(registry);
+            FunctionCounter.builder("user.password_hashing.completed", executor, PasswordHashingExecutor::completedCount)
+                    .register(registry);
+            FunctionCounter.builder("user.password_hashing.rejected", executor,
+                            e -> e.rejectedCount() + e.timedOutCount())
+                    .register(registry);
+            Gauge.builder("user.password_hashing.strength", passwordEncoder, PooledPasswordEncoder::getStrength)
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder loginMetrics(LoginAttemptLimiter loginAttemptLimiter, LastLoginRecorder lastLoginRecorder) {
+        return registry -> {
+            FunctionCounter.builder("user.login.rate_limited", loginAttemptLimiter, LoginAttemptLimiter::rejectedCount)
+                    .description("시도 제한으로 조회/BCrypt 전에 거절된 로그인 수").register(registry);
+            Gauge.builder("user.login.rate_limit.keys", loginAttemptLimiter, LoginAttemptLimiter::trackedKeys)
+                    .register(registry);
+            Gauge.builder("user.last_login.pending", lastLoginRecorder, LastLoginRecorder::pendingUsers)
+                    .description("마지막 로그인 시각 반영 대기 중인 사용자 수").register(registry);
+        };
+    }
+
+    @Bean
+    public MeterBinder userSecondLevelCacheMetrics(CacheManager secondLevelCacheManager) {
+        // cache.gets{cache=user,result=hit|miss}, cache.puts, cache.removals — 적중률 = hit / (hit + miss)
+        return registry -> JCacheMetrics.monitor(registry,
+                secondLevelCacheManager.getCache(SecondLevelCacheConfig.USER_REGION));
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(ConcurrencyLimitFilter concurrencyLimitFilter) {
+        return registry -> {
+            for (ConcurrencyLimitFilter.Pool pool : ConcurrencyLimitFilter.Pool.values()) {
+                AdaptiveConcurrencyLimit limit = concurrencyLimitFilter.limit(pool);
+                String tag = pool.name().toLowerCase();
+                Gauge.builder("http.server.concurrency.limit", limit, AdaptiveConcurrencyLimit::limit)
+                        .tag("pool", tag).description("적응형 동시 처리 한도").register(registry);
+                Gauge.builder("http.server.concurrency.in_flight", limit, AdaptiveConcurrencyLimit::inFlight)
+                        .tag("pool", tag).register(registry);
+                FunctionCounter.builder("http.server.concurrency.rejected", limit, AdaptiveConcurrencyLimit::rejectedCount)
+                        .tag("pool", tag).description("한도 초과로 503 거절된 요청 수").register(registry);
+            }
+        };
+    }
+}
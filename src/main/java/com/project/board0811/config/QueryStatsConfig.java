@@ -0,0 +1,36 @@
+package com.project.board0811.config;
+
+import com.project.board0811.common.metrics.CountingStatementInspector;
+import com.project.board0811.common.metrics.QueryStatsEventListener;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 요청 단위 SQL 계수(RequestQueryStats)용 Hibernate 연결
+ */
+@Configuration
+public class QueryStatsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer countingStatementInspector() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new CountingStatementInspector());
+    }
+
+    @Bean
+    public QueryStatsEventListener queryStatsEventListener(EntityManagerFactory entityManagerFactory) {
+        QueryStatsEventListener listener = new QueryStatsEventListener();
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, listener);
+        registry.appendListeners(EventType.LOAD, listener);
+        registry.appendListeners(EventType.INIT_COLLECTION, listener);
+        return listener;
+    }
+}
@@ -0,0 +1,104 @@
+package com.project.board0811.config;
+
+import com.project.board0811.common.datasource.ReadYourWritesFilter;
+import com.project.board0811.common.datasource.ReplicaLagMonitor;
+import com.project.board0811.common.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * primary / replica 커넥션 풀 분리 (datasource.replica.enabled=true 일 때만)
+ * - primary: spring.datasource.* (+ spring.datasource.hikari.*), replica: datasource.replica.* (+ .hikari.*)
+ * - 애플리케이션(JPA, JdbcTemplate, Flyway)이 보는 DataSource 는 LazyConnectionDataSourceProxy(ReplicaRoutingDataSource) 하나
+ * - 개별 풀은 기본 주입 후보에서 제외 — 이름(@Qualifier)으로만 주입
+ */
+@Configuration
+@ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("datasource.replica")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("replica");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaLagMonitor replicaLagMonitor(
+            @Qualifier("replicaDataSource") DataSource replica,
+            @Value("${datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${datasource.replica.max-lag-seconds:3}") long maxLagSeconds) {
+        return new ReplicaLagMonitor(replica, lagQuery, maxLagSeconds);
+    }
+
+    @Bean(defaultCandidate = false)
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primary,
+            @Qualifier("replicaDataSource") DataSource replica,
+            ReplicaLagMonitor replicaLagMonitor) {
+        return new ReplicaRoutingDataSource(primary, replica, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    /** 복제 지연이 이 시간 안에 따라잡는다고 보고 쓰기 직후 읽기를 primary 로 고정 (max-lag-seconds 이상으로) */
+    @Bean
+    public ReadYourWritesFilter readYourWritesFilter(
+            @Value("${datasource.replica.sticky-window-ms:5000}") long windowMillis) {
+        return new ReadYourWritesFilter(windowMillis);
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(
+            @Qualifier("replicaRoutingDataSource") ReplicaRoutingDataSource routing,
+            ReplicaLagMonitor lagMonitor) {
+        return registry -> {
+            FunctionCounter.builder("datasource.routing.reads", routing, ReplicaRoutingDataSource::replicaReads)
+                    .tag("target", "replica").register(registry);
+            FunctionCounter.builder("datasource.routing.reads", routing, ReplicaRoutingDataSource::pinnedReads)
+                    .tag("target", "primary-pinned").register(registry);
+            FunctionCounter.builder("datasource.routing.reads", routing, ReplicaRoutingDataSource::cacheFillReads)
+                    .tag("target", "primary-cache-fill").register(registry);
+            FunctionCounter.builder("datasource.routing.reads", routing, ReplicaRoutingDataSource::fallbackReads)
+                    .tag("target", "primary-fallback").register(registry);
+            Gauge.builder("datasource.replica.lag.seconds", lagMonitor, ReplicaLagMonitor::lagSeconds)
+                    .description("마지막으로 측정한 replica 복제 지연 (측정 실패 시 -1)").register(registry);
+            Gauge.builder("datasource.replica.usable", lagMonitor, m -> m.isReplicaUsable() ? 1 : 0)
+                    .register(registry);
+        };
+    }
+}
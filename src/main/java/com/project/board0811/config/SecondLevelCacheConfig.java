@@ -0,0 +1,59 @@
+package com.project.board0811.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hibernate 2차 캐시 (JCache + Caffeine, 노드 로컬)
+ * - 대상은 작성자로 반복 조회되는 User 엔티티 하나 (영역 "user") — 다른 영역이 생기면 기동 실패(missing_cache_strategy=fail)
+ * - 이 노드의 변경은 READ_WRITE 전략 + 커밋 후 명시적 evict(UserCacheEvictor)로 반영
+ * - 다른 노드의 변경은 전파되지 않으므로 ttl-seconds 가 노드 간 최대 지연 (권한 판단은 ActorResolver 프로젝션이라 캐시 미사용)
+ * - CacheManager URI 는 컨텍스트마다 번호를 붙여 구분 — 운영은 항상 "-1" (메트릭 태그 고정), 테스트 컨텍스트끼리는 캐시/JMX 통계 비공유
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String USER_REGION = "user";
+
+    private static final AtomicInteger CONTEXT_SEQUENCE = new AtomicInteger();
+
+    @Bean(destroyMethod = "close")
+    public CacheManager secondLevelCacheManager(
+            @Value("${user.cache.maximum-size:10000}") long maximumSize,
+            @Value("${user.cache.ttl-seconds:60}") long ttlSeconds) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("board0811-second-level-" + CONTEXT_SEQUENCE.incrementAndGet()),
+                        SecondLevelCacheConfig.class.getClassLoader());
+
+        CaffeineConfiguration<Object, Object> user = new CaffeineConfiguration<>();
+        user.setMaximumSize(OptionalLong.of(maximumSize));
+        user.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+        user.setStoreByValue(false);      // Hibernate 가 이미 분해(disassembled) 상태로 저장 — 복사 불필요
+        user.setStatisticsEnabled(true);  // JMX CacheStatistics → JCacheMetrics (cache.gets{result=hit|miss})
+        cacheManager.createCache(USER_REGION, user);
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager secondLevelCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, secondLevelCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+}
@@ -1,18 +1,73 @@
 package com.project.board0811.config;
 
+import com.project.board0811.domain.user.security.BcryptStrengthCalibrator;
+import com.project.board0811.domain.user.security.LoginAttemptLimiter;
+import com.project.board0811.domain.user.security.PasswordHashingExecutor;
+import com.project.board0811.domain.user.security.PooledPasswordEncoder;
+import com.project.board0811.domain.user.security.RateLimitedAuthenticationProvider;
+import com.project.board0811.domain.user.security.UserAccountService;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.web.SecurityFilterChain;
+
+import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
 public class SecurityConfig {
 
     /**
-     * BCryptPasswordEncoder를 공통 Bean으로 등록
+     * 요청 권한 규칙 — Spring Boot 기본 체인(폼 로그인 + HTTP Basic, 전 요청 인증)에 관리자 경로만 추가
+     * - /api/v1/admin/** : 운영/관리 기능 — 관리자 전용 (일반 사용자는 403)
+     * - /actuator/**     : 메트릭 스크레이퍼는 관리자 계정 basic auth
+     * - ERROR 디스패치(/error)는 허용 — 인증 단계에서 던져진 429(로그인 시도 제한, 해싱 대기열 초과)가
+     *   익명 요청이라는 이유로 401/로그인 리다이렉트로 바뀌지 않고 ApiErrorController 까지 도달하도록
+     */
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+        http
+                .authorizeHttpRequests(auth -> auth
+                        .dispatcherTypeMatchers(DispatcherType.ERROR).permitAll()
+                        .requestMatchers("/api/v1/admin/**", "/actuator/**").hasRole("ADMIN")
+                        .anyRequest().authenticated())
+                .formLogin(withDefaults())
+                .httpBasic(withDefaults());
+        return http.build();
+    }
+
+    /**
+     * BCrypt PasswordEncoder를 공통 Bean으로 등록
+     * - 해싱/검증은 전용 실행기(PasswordHashingExecutor)에서 수행
+     * - strength 미지정(0)이면 기동 시 target-ms 에 맞춰 강도 보정
+     */
+    @Bean
+    public PooledPasswordEncoder passwordEncoder(
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${user.password.bcrypt.strength:0}") int strength,
+            @Value("${user.password.bcrypt.target-ms:100}") long targetMs,
+            @Value("${user.password.bcrypt.min-strength:" + BcryptStrengthCalibrator.DEFAULT_MIN_STRENGTH + "}") int minStrength,
+            @Value("${user.password.bcrypt.max-strength:" + BcryptStrengthCalibrator.DEFAULT_MAX_STRENGTH + "}") int maxStrength
+    ) {
+        int resolved = strength > 0 ? strength : BcryptStrengthCalibrator.calibrate(targetMs, minStrength, maxStrength);
+        return new PooledPasswordEncoder(resolved, passwordHashingExecutor);
+    }
+
+    /**
+     * 로그인 인증 provider
+     * - 시도 제한(LoginAttemptLimiter)을 통과한 요청만 사용자 조회 + BCrypt 검증(DaoAuthenticationProvider) 수행
+     * - 검증 성공 시 약한 해시는 현재 강도로 재해싱 (UserAccountService.updatePassword)
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public AuthenticationProvider authenticationProvider(UserAccountService userAccountService,
+                                                         PooledPasswordEncoder passwordEncoder,
+                                                         LoginAttemptLimiter loginAttemptLimiter) {
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider(passwordEncoder);
+        dao.setUserDetailsService(userAccountService);
+        dao.setUserDetailsPasswordService(userAccountService);
+        return new RateLimitedAuthenticationProvider(loginAttemptLimiter, dao);
     }
 }
@@ -0,0 +1,88 @@
+package com.project.board0811.domain.board.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.board0811.domain.board.dto.response.BoardResponseDto;
+import com.project.board0811.domain.board.event.BoardChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게시글 단건(BoardResponseDto) read-through 캐시
+ * - Caffeine(W-TinyLFU): 최대 건수/TTL 로 제한하고, 접근 빈도가 낮은 글은 인기 글을 밀어내지 못하도록 입장 제어
+ * - 수정/삭제/상태 변경 커밋 후 BoardChangedEvent 로 무효화
+ * - 무효화 세대(generation) 검사 + @Version 단조 증가 검사로,
+ *   쓰기 커밋과 경합한 조회가 이전 버전을 다시 캐시에 넣지 못하도록 막음
+ * - 조회수(viewCount)는 버전과 무관하게 증가하므로 최대 TTL 만큼 지연될 수 있음
+ */
+@Component
+public class BoardDetailCache {
+
+    private static final int GENERATION_STRIPES = 1024; // 2의 거듭제곱
+
+    private final Cache<Long, BoardResponseDto> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public BoardDetailCache(@Value("${board.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${board.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+    }
+
+    public BoardResponseDto getIfPresent(Long boardId) {
+        return cache.getIfPresent(boardId);
+    }
+
+    /** DB 조회 직전에 읽어 두었다가 put 시 전달 */
+    public long generation(Long boardId) {
+        return generations.get(stripe(boardId));
+    }
+
+    /**
+     * 조회 결과 적재
+     * - 조회 도중 해당 글의 쓰기가 커밋되었으면(세대 변경) 적재하지 않음
+     * - 이미 더 높은 버전이 캐시에 있으면 유지
+     */
+    public void put(Long boardId, BoardResponseDto loaded, long generationAtLoad) {
+        cache.asMap().compute(boardId, (id, existing) -> {
+            if (generations.get(stripe(id)) != generationAtLoad) return existing;
+            if (existing != null && isNewer(existing, loaded)) return existing;
+            return loaded;
+        });
+    }
+
+    public void invalidate(Long boardId) {
+        generations.incrementAndGet(stripe(boardId)); // 진행 중인 조회의 적재를 먼저 막고
+        cache.invalidate(boardId);                    // 기존 항목 제거
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        invalidate(event.getBoardId());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static boolean isNewer(BoardResponseDto existing, BoardResponseDto loaded) {
+        return existing.getVersion() != null && loaded.getVersion() != null
+                && existing.getVersion() > loaded.getVersion();
+    }
+
+    private static int stripe(Long boardId) {
+        return Long.hashCode(boardId) & (GENERATION_STRIPES - 1);
+    }
+}
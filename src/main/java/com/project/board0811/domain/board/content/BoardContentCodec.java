@@ -0,0 +1,79 @@
+package com.project.board0811.domain.board.content;
+
+import com.project.board0811.domain.board.enums.ContentEncoding;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 게시글 본문 저장 형식 변환
+ * - UTF-8 바이트가 임계값 이상이면 Deflate(zlib) 압축, 압축 결과가 원본보다 작을 때만 채택
+ * - 짧은 본문은 압축 헤더/CPU 비용이 이득보다 커서 PLAIN 그대로 저장
+ */
+public final class BoardContentCodec {
+
+    private BoardContentCodec() {}
+
+    public record Encoded(ContentEncoding encoding, byte[] body, int originalLength) {}
+
+    public static Encoded encode(String text, int compressThresholdBytes) {
+        byte[] plain = text.getBytes(StandardCharsets.UTF_8);
+        if (plain.length >= compressThresholdBytes) {
+            byte[] compressed = deflate(plain);
+            if (compressed.length < plain.length) {
+                return new Encoded(ContentEncoding.DEFLATE, compressed, plain.length);
+            }
+        }
+        return new Encoded(ContentEncoding.PLAIN, plain, plain.length);
+    }
+
+    public static String decode(ContentEncoding encoding, byte[] body, int originalLength) {
+        return switch (encoding) {
+            case PLAIN -> new String(body, StandardCharsets.UTF_8);
+            case DEFLATE -> new String(inflate(body, originalLength), StandardCharsets.UTF_8);
+        };
+    }
+
+    private static byte[] deflate(byte[] plain) {
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        try {
+            deflater.setInput(plain);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 2 + 16);
+            byte[] buffer = new byte[Math.min(plain.length, 8192)];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end(); // 네이티브 zlib 메모리 즉시 해제
+        }
+    }
+
+    // 원본 길이를 알고 있으므로 출력 버퍼를 한 번에 할당
+    private static byte[] inflate(byte[] compressed, int originalLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] out = new byte[originalLength];
+            int written = 0;
+            while (written < originalLength && !inflater.finished()) {
+                int n = inflater.inflate(out, written, originalLength - written);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                written += n;
+            }
+            if (written != originalLength || !inflater.finished()) {
+                throw new IllegalStateException("board content length mismatch: expected "
+                        + originalLength + " bytes, inflated " + written);
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("corrupted board content", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
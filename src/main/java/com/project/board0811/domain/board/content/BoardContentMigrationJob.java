@@ -0,0 +1,180 @@
+package com.project.board0811.domain.board.content;
+
+import com.project.board0811.common.concurrent.BackgroundTasks;
+import com.project.board0811.domain.board.repository.BoardContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * board.content(구 LOB 컬럼) → board_content 이관 작업
+ * - id keyset 청크마다 짧은 트랜잭션: 대상 행 잠금(FOR UPDATE) → 인코딩해 INSERT → 구 컬럼 NULL 처리
+ * - 수정 요청도 같은 board 행을 잠그므로 동시 수정과 직렬화되고, 이미 본문 행이 있는 게시글은 구 값으로 덮어쓰지 않음
+ * - 이관이 끝날 때까지 BoardContentStore 는 본문 행이 없는 게시글을 구 컬럼에서 읽음
+ *   (구 컬럼 감지는 웹 서버 시작 전에 끝냄 — 요청/재색인이 빈 본문을 캐시하거나 색인하지 않도록)
+ * - 구 컬럼이 없는 스키마(신규 설치/테스트)에서는 아무것도 하지 않음 — 컬럼 삭제는 전체 이관 확인 후 별도 마이그레이션으로
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardContentMigrationJob implements SmartInitializingSingleton {
+
+    private static final String SELECT_CHUNK = """
+            select id, content from board where id > ? and content is not null
+            order by id limit ? for update
+            """;
+    private static final String INSERT_CONTENT =
+            "insert into board_content (board_id, encoding, original_length, body) values (?, ?, ?, ?)";
+    private static final int[] CONTENT_TYPES = {Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.VARBINARY};
+    private static final String CLEAR_LEGACY = "update board set content = null where id = ?";
+
+    private final BoardContentStore boardContentStore;
+    private final BoardContentRepository boardContentRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundTasks backgroundTasks;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final AtomicLong migratedRows = new AtomicLong();
+    private final AtomicLong originalBytes = new AtomicLong();
+    private final AtomicLong storedBytes = new AtomicLong();
+
+    @Value("${board.content.migration-chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${board.content.migrate-on-startup:true}")
+    private boolean migrateOnStartup;
+
+    /**
+     * 모든 싱글톤 생성 후(스키마 준비 완료, 웹 서버 시작 전) 구 컬럼이 남아 있으면 구 컬럼 읽기를 켬
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (legacyColumnExists()) {
+            boardContentStore.setLegacyReads(true);
+        }
+    }
+
+    /** 기동 직후 구 컬럼이 남아 있으면 백그라운드 이관 */
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateOnStartup() {
+        if (migrateOnStartup && boardContentStore.isLegacyReads()) {
+            backgroundTasks.start("board-content-migration", this::migrate);
+        }
+    }
+
+    /**
+     * 구 컬럼에 남은 본문 전체 이관
+     * @return 이번 실행에서 옮긴 게시글 수 (이미 실행 중이면 -1)
+     */
+    public long migrate() {
+        if (!runLock.tryLock()) return -1;
+        try {
+            if (!legacyColumnExists()) {
+                boardContentStore.setLegacyReads(false);
+                return 0;
+            }
+            long startedAt = System.currentTimeMillis();
+            long migrated = 0;
+            long lastId = 0L;
+
+            while (true) {
+                final long after = lastId;
+                ChunkResult result = transactionTemplate.execute(status -> migrateChunk(after));
+                if (result == null || result.scanned() == 0) break;
+
+                migrated += result.migrated();
+                lastId = result.lastId();
+            }
+
+            boardContentStore.setLegacyReads(false); // 이후 본문은 board_content 에서만 읽음
+            log.info("[BoardContent] migrated {} boards in {}ms (stored {} of {} bytes)",
+                    migrated, System.currentTimeMillis() - startedAt, storedBytes.get(), originalBytes.get());
+            return migrated;
+        } catch (RuntimeException e) {
+            log.error("[BoardContent] migration failed - {}", e.getMessage(), e);
+            throw e; // 구 컬럼 읽기는 유지 — 다음 실행에서 남은 청크부터 이어감
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ChunkResult migrateChunk(long afterId) {
+        List<LegacyRow> rows = jdbcTemplate.query(SELECT_CHUNK,
+                (rs, n) -> new LegacyRow(rs.getLong(1), rs.getString(2)), afterId, chunkSize);
+        if (rows.isEmpty()) return new ChunkResult(afterId, 0, 0);
+
+        Set<Long> existing = new HashSet<>(boardContentRepository.findExistingIds(
+                rows.stream().map(LegacyRow::id).toList()));
+
+        List<Object[]> inserts = new ArrayList<>(rows.size());
+        List<Object[]> clears = new ArrayList<>(rows.size());
+        long original = 0;
+        long stored = 0;
+        for (LegacyRow row : rows) {
+            clears.add(new Object[]{row.id()});
+            if (existing.contains(row.id())) continue; // 이관 전 수정으로 이미 새 본문이 저장됨
+
+            BoardContentCodec.Encoded encoded = boardContentStore.encode(row.content());
+            inserts.add(new Object[]{row.id(), encoded.encoding().name(), encoded.originalLength(), encoded.body()});
+            original += encoded.originalLength();
+            stored += encoded.body().length;
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_CONTENT, inserts, CONTENT_TYPES);
+        }
+        jdbcTemplate.batchUpdate(CLEAR_LEGACY, clears);
+
+        migratedRows.addAndGet(inserts.size());
+        originalBytes.addAndGet(original);
+        storedBytes.addAndGet(stored);
+        return new ChunkResult(rows.get(rows.size() - 1).id(), rows.size(), inserts.size());
+    }
+
+    // information_schema 쿼리 대신 JDBC 메타데이터 (MySQL/H2 공통)
+    private boolean legacyColumnExists() {
+        Boolean exists = jdbcTemplate.execute((ConnectionCallback<Boolean>) con -> {
+            try (ResultSet rs = con.getMetaData().getColumns(con.getCatalog(), con.getSchema(), "board", "content")) {
+                return rs.next();
+            }
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    public boolean isRunning() {
+        return runLock.isLocked();
+    }
+
+    public long migratedRows() {
+        return migratedRows.get();
+    }
+
+    public long originalBytes() {
+        return originalBytes.get();
+    }
+
+    public long storedBytes() {
+        return storedBytes.get();
+    }
+
+    private record LegacyRow(long id, String content) {}
+
+    private record ChunkResult(long lastId, int scanned, int migrated) {}
+}
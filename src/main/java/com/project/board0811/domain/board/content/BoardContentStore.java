@@ -0,0 +1,92 @@
+package com.project.board0811.domain.board.content;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.entity.BoardContent;
+import com.project.board0811.domain.board.repository.BoardContentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 본문 저장/조회 창구 (board_content)
+ * - 호출 측 트랜잭션 안에서 사용 — 게시글 저장/수정과 같은 트랜잭션으로 본문 반영
+ * - 이관 진행 중(legacyReads)에는 본문 행이 없는 게시글을 board.content(구 컬럼)에서 읽음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardContentStore {
+
+    private static final String SELECT_LEGACY = "select id, content from board where content is not null and id in (%s)";
+
+    private final BoardContentRepository boardContentRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${board.content.compress-threshold-bytes:512}")
+    private int compressThresholdBytes;
+
+    // BoardContentMigrationJob 이 구 컬럼 존재 여부/이관 완료에 맞춰 전환
+    private volatile boolean legacyReads;
+
+    public void create(Board board, String text) {
+        boardContentRepository.save(BoardContent.of(board, text, compressThresholdBytes));
+    }
+
+    // 아직 이관되지 않은 게시글이면 새 행으로 저장 (이관 작업은 본문 행이 있는 게시글을 건너뜀)
+    public void replace(Board board, String text) {
+        boardContentRepository.findById(board.getId()).ifPresentOrElse(
+                content -> content.replace(text, compressThresholdBytes),
+                () -> create(board, text));
+    }
+
+    public String read(Long boardId) {
+        return boardContentRepository.findById(boardId)
+                .map(BoardContent::text)
+                .orElseGet(() -> readAll(List.of(boardId)).getOrDefault(boardId, ""));
+    }
+
+    /** 여러 게시글 본문을 한 번에 조회 (본문이 없는 id 는 결과에서 빠짐) */
+    public Map<Long, String> readAll(Collection<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) return Collections.emptyMap();
+
+        Map<Long, String> texts = new HashMap<>(boardIds.size() * 2);
+        for (BoardContent content : boardContentRepository.findAllById(boardIds)) {
+            texts.put(content.getBoardId(), content.text());
+        }
+        if (legacyReads && texts.size() < boardIds.size()) {
+            List<Long> missing = new ArrayList<>();
+            for (Long id : boardIds) {
+                if (!texts.containsKey(id)) missing.add(id);
+            }
+            String sql = SELECT_LEGACY.formatted(String.join(",", Collections.nCopies(missing.size(), "?")));
+            jdbcTemplate.query(sql, rs -> {
+                texts.put(rs.getLong(1), rs.getString(2));
+            }, missing.toArray());
+        }
+        if (texts.size() < boardIds.size() && !legacyReads) {
+            log.warn("[BoardContent] missing content rows for {} of {} boards", boardIds.size() - texts.size(), boardIds.size());
+        }
+        return texts;
+    }
+
+    public BoardContentCodec.Encoded encode(String text) {
+        return BoardContentCodec.encode(text, compressThresholdBytes);
+    }
+
+    public boolean isLegacyReads() {
+        return legacyReads;
+    }
+
+    void setLegacyReads(boolean legacyReads) {
+        this.legacyReads = legacyReads;
+    }
+}
@@ -0,0 +1,150 @@
+package com.project.board0811.domain.board.controller;
+
+import com.project.board0811.common.response.CommonApiResponse;
+import com.project.board0811.domain.board.cache.BoardDetailCache;
+import com.project.board0811.domain.board.content.BoardContentMigrationJob;
+import com.project.board0811.domain.board.content.BoardContentStore;
+import com.project.board0811.domain.board.dto.response.CacheStatsResponseDto;
+import com.project.board0811.domain.board.dto.response.ContentMigrationStatsResponseDto;
+import com.project.board0811.domain.board.dto.response.SearchIndexStatsResponseDto;
+import com.project.board0811.domain.board.dto.response.ThreadImportResultDto;
+import com.project.board0811.domain.board.dto.response.ViewCountStatsResponseDto;
+import com.project.board0811.domain.board.export.ThreadExportService;
+import com.project.board0811.domain.board.search.BoardSearchIndex;
+import com.project.board0811.domain.board.search.BoardSearchIndexer;
+import com.project.board0811.domain.board.service.CommentCountReconciler;
+import com.project.board0811.domain.board.service.ThreadImportService;
+import com.project.board0811.domain.board.service.ViewCountAggregator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/boards")
+public class BoardAdminController {
+
+    private final ViewCountAggregator viewCountAggregator;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardSearchIndexer boardSearchIndexer;
+    private final BoardDetailCache boardDetailCache;
+    private final CommentCountReconciler commentCountReconciler;
+    private final ThreadImportService threadImportService;
+    private final ThreadExportService threadExportService;
+    private final BoardContentStore boardContentStore;
+    private final BoardContentMigrationJob boardContentMigrationJob;
+
+    /** 조회수 버퍼에 반영 대기 중인 증분 현황 */
+    @GetMapping("/view-count/pending")
+    public ResponseEntity<CommonApiResponse<ViewCountStatsResponseDto>> pendingViewCounts() {
+        ViewCountStatsResponseDto response = ViewCountStatsResponseDto.builder()
+                .pendingBoards(viewCountAggregator.pendingBoards())
+                .pendingViews(viewCountAggregator.pendingViews())
+                .build();
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+
+    /** 게시글 단건 캐시 통계 */
+    @GetMapping("/cache")
+    public ResponseEntity<CommonApiResponse<CacheStatsResponseDto>> cacheStats() {
+        CacheStatsResponseDto response = CacheStatsResponseDto.of(
+                boardDetailCache.estimatedSize(), boardDetailCache.stats());
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+
+    /** 검색 색인 상태 */
+    @GetMapping("/search-index")
+    public ResponseEntity<CommonApiResponse<SearchIndexStatsResponseDto>> searchIndexStats() {
+        return ResponseEntity.ok(CommonApiResponse.ok(searchIndexStats(null)));
+    }
+
+    /** 검색 색인 전체 재구축 (DB 기준, 완료 시까지 기존 색인으로 검색) */
+    @PostMapping("/search-index/rebuild")
+    public ResponseEntity<CommonApiResponse<SearchIndexStatsResponseDto>> rebuildSearchIndex() {
+        long rebuilt = boardSearchIndexer.rebuild();
+        return ResponseEntity.ok(CommonApiResponse.ok(searchIndexStats(rebuilt >= 0 ? rebuilt : null)));
+    }
+
+    /** 댓글 수(comment_count) 보정 즉시 실행 — 보정된 게시글 수 반환 (이미 실행 중이면 -1) */
+    @PostMapping("/comment-count/reconcile")
+    public ResponseEntity<CommonApiResponse<Long>> reconcileCommentCounts() {
+        return ResponseEntity.ok(CommonApiResponse.ok(commentCountReconciler.reconcile()));
+    }
+
+    /** 본문 분리(board.content → board_content) 이관 상태 */
+    @GetMapping("/content-migration")
+    public ResponseEntity<CommonApiResponse<ContentMigrationStatsResponseDto>> contentMigrationStats() {
+        return ResponseEntity.ok(CommonApiResponse.ok(contentMigrationStats(null)));
+    }
+
+    /** 본문 이관 즉시 실행 (남은 행만 청크 단위로, 완료 시까지 응답 대기) */
+    @PostMapping("/content-migration/run")
+    public ResponseEntity<CommonApiResponse<ContentMigrationStatsResponseDto>> runContentMigration() {
+        long migrated = boardContentMigrationJob.migrate();
+        return ResponseEntity.ok(CommonApiResponse.ok(contentMigrationStats(migrated)));
+    }
+
+    /**
+     * 스레드(게시글 + 댓글 트리) 대량 이관 — 요청 본문은 UTF-8 NDJSON (한 줄 = ThreadImportLineDto)
+     * - 본문을 메모리에 올리지 않고 스트리밍으로 읽어 배치 단위 저장, 실패한 줄은 결과에 기록
+     */
+    @PostMapping(value = "/import", consumes = {"application/x-ndjson", "application/json", "text/plain"})
+    public ResponseEntity<CommonApiResponse<ThreadImportResultDto>> importThreads(InputStream body) {
+        return ResponseEntity.ok(CommonApiResponse.ok(threadImportService.importThreads(body)));
+    }
+
+    /**
+     * 게시글 + 댓글 트리 전체 내보내기 (NDJSON, 선택적으로 gzip) — 응답으로 바로 스트리밍
+     * - 출력 형식은 /import 입력과 호환
+     * - PRIVATE 글(includeDeleted=true 면 삭제 글까지) 포함 — 관리자 전용 (SecurityConfig)
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportThreads(
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(defaultValue = "false") boolean includeDeleted
+    ) {
+        StreamingResponseBody body = out -> {
+            OutputStream target = gzip ? new GZIPOutputStream(out, 64 * 1024) : out;
+            threadExportService.export(target, includeDeleted);
+            if (target instanceof GZIPOutputStream compressed) {
+                compressed.finish();
+            }
+        };
+        String filename = gzip ? "boards.ndjson.gz" : "boards.ndjson";
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : "application/x-ndjson"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .body(body);
+    }
+
+    private ContentMigrationStatsResponseDto contentMigrationStats(Long migratedThisRun) {
+        return ContentMigrationStatsResponseDto.builder()
+                .legacyReads(boardContentStore.isLegacyReads())
+                .running(boardContentMigrationJob.isRunning())
+                .migratedRows(boardContentMigrationJob.migratedRows())
+                .originalBytes(boardContentMigrationJob.originalBytes())
+                .storedBytes(boardContentMigrationJob.storedBytes())
+                .migratedThisRun(migratedThisRun)
+                .build();
+    }
+
+    private SearchIndexStatsResponseDto searchIndexStats(Long rebuiltDocuments) {
+        return SearchIndexStatsResponseDto.builder()
+                .ready(boardSearchIndex.isReady())
+                .documents(boardSearchIndex.documentCount())
+                .terms(boardSearchIndex.termCount())
+                .rebuiltDocuments(rebuiltDocuments)
+                .build();
+    }
+}
@@ -1,13 +1,19 @@
 package com.project.board0811.domain.board.controller;
 
+import com.project.board0811.common.http.ConditionalGet;
+import com.project.board0811.common.paging.CursorPageResponse;
+import com.project.board0811.common.paging.CursorRequestDto;
 import com.project.board0811.common.paging.PageRequestDto;
 import com.project.board0811.common.paging.PageResponse;
 import com.project.board0811.common.response.CommonApiResponse;
 import com.project.board0811.domain.board.dto.request.BoardCreateRequestDto;
 import com.project.board0811.domain.board.dto.request.BoardUpdateRequestDto;
+import com.project.board0811.domain.board.dto.response.BoardDetailVersionView;
 import com.project.board0811.domain.board.dto.response.BoardResponseDto;
 import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
 import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.ranking.RankingType;
+import com.project.board0811.domain.board.service.BoardETags;
 import com.project.board0811.domain.board.service.BoardService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +21,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -34,30 +43,78 @@ public class BoardController {
                 .body(CommonApiResponse.ok(response));
     }
 
-    /** 게시글 단건 조회 */
+    /** 게시글 단건 조회 (ETag/Last-Modified — 일치하면 버전 조회만으로 304) */
     @GetMapping("/{id}")
-    public ResponseEntity<CommonApiResponse<BoardResponseDto>> get(@PathVariable Long id) {
+    public ResponseEntity<CommonApiResponse<BoardResponseDto>> get(@PathVariable Long id, WebRequest request) {
+        if (ConditionalGet.hasValidator(request)) {
+            BoardDetailVersionView version = boardService.getVersion(id);
+            String eTag = BoardETags.detail(id, version.getVersion());
+            if (ConditionalGet.notModified(request, eTag, version.getUpdatedAt())) {
+                return ConditionalGet.notModifiedResponse(eTag, version.getUpdatedAt());
+            }
+        }
         BoardResponseDto response = boardService.get(id);
-        return ResponseEntity.ok(CommonApiResponse.ok(response));
+        return ConditionalGet.ok(CommonApiResponse.ok(response),
+                BoardETags.detail(response.getId(), response.getVersion()), response.getUpdatedAt());
     }
 
-    /** 게시글 목록 (카테고리 선택 필터 + 공통 페이징) */
+    /**
+     * 게시글 목록 (카테고리 선택 필터 + 공통 페이징, ETag — 일치하면 버전 컬럼 조회만으로 304)
+     * - sort: createdAt(기본) | hot | trending (hot/trending 은 인기 랭킹 상위 K 안에서 페이징), 그 외는 400
+     */
     @GetMapping
     public ResponseEntity<CommonApiResponse<PageResponse<BoardSummaryResponseDto>>> list(
             @Valid PageRequestDto pageReq,
-            @RequestParam(required = false) BoardCategory category
+            @RequestParam(required = false) BoardCategory category,
+            WebRequest request
     ) {
+        if (ConditionalGet.hasETagValidator(request)) {
+            String eTag = boardService.listETag(pageReq, category);
+            if (ConditionalGet.notModified(request, eTag, null)) {
+                return ConditionalGet.notModifiedResponse(eTag, null);
+            }
+        }
         PageResponse<BoardSummaryResponseDto> response = boardService.list(pageReq, category);
+        return ConditionalGet.ok(CommonApiResponse.ok(response), BoardETags.list(response), null);
+    }
+
+    /** 게시글 목록 — 커서 페이징 (깊은 스크롤용, 전체 건수 미제공) */
+    @GetMapping("/cursor")
+    public ResponseEntity<CommonApiResponse<CursorPageResponse<BoardSummaryResponseDto>>> listByCursor(
+            @Valid CursorRequestDto cursorReq,
+            @RequestParam(required = false) BoardCategory category
+    ) {
+        CursorPageResponse<BoardSummaryResponseDto> response = boardService.listByCursor(cursorReq, category);
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+
+    /** 인기 게시글 — 시간 감쇠(긴 반감기) 조회/댓글/좋아요 점수 순 (카테고리 선택) */
+    @GetMapping("/hot")
+    public ResponseEntity<CommonApiResponse<List<BoardSummaryResponseDto>>> hot(
+            @RequestParam(required = false) BoardCategory category,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<BoardSummaryResponseDto> response = boardService.ranking(RankingType.HOT, category, size);
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+
+    /** 급상승 게시글 — 시간 감쇠(짧은 반감기) 점수 순, 최근 몇 시간의 반응 위주 (카테고리 선택) */
+    @GetMapping("/trending")
+    public ResponseEntity<CommonApiResponse<List<BoardSummaryResponseDto>>> trending(
+            @RequestParam(required = false) BoardCategory category,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        List<BoardSummaryResponseDto> response = boardService.ranking(RankingType.TRENDING, category, size);
         return ResponseEntity.ok(CommonApiResponse.ok(response));
     }
 
-    /** 제목 검색 (삭제 제외) */
+    /** 제목/본문 전문 검색 — 관련도 순 (삭제 제외) */
     @GetMapping("/search")
     public ResponseEntity<CommonApiResponse<PageResponse<BoardSummaryResponseDto>>> search(
             @RequestParam("q") String keyword,
             @Valid PageRequestDto pageReq
     ) {
-        PageResponse<BoardSummaryResponseDto> response = boardService.searchByTitle(keyword, pageReq);
+        PageResponse<BoardSummaryResponseDto> response = boardService.search(keyword, pageReq);
         return ResponseEntity.ok(CommonApiResponse.ok(response));
     }
 
@@ -71,6 +128,16 @@ public class BoardController {
         return ResponseEntity.ok(CommonApiResponse.ok(response));
     }
 
+    /** 작성자 기준 목록 — 커서 페이징 (삭제 제외) */
+    @GetMapping("/author/{authorId}/cursor")
+    public ResponseEntity<CommonApiResponse<CursorPageResponse<BoardSummaryResponseDto>>> listByAuthorCursor(
+            @PathVariable Long authorId,
+            @Valid CursorRequestDto cursorReq
+    ) {
+        CursorPageResponse<BoardSummaryResponseDto> response = boardService.listByAuthorCursor(authorId, cursorReq);
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+
     /** 게시글 수정 (본인 또는 관리자) */
     @PatchMapping("/{id}")
     public ResponseEntity<CommonApiResponse<BoardResponseDto>> update(
@@ -27,12 +27,11 @@ public class BoardCreateRequestDto {
     // 기본값 PUBLIC (관리자 전용 입력으로 둘 수도 있음)
     private BoardStatus status = BoardStatus.PUBLIC;
 
-    // 인증 사용자(User)를 주입받아 엔티티 생성
+    // 인증 사용자(User)를 주입받아 엔티티 생성 (본문은 BoardContentStore 가 따로 저장)
     public Board toEntity(User author) {
         return Board.builder()
                 .author(author)
                 .title(title)
-                .content(content)
                 .category(category != null ? category : BoardCategory.FREE)
                 .status(status != null ? status : BoardStatus.PUBLIC)
                 .build();
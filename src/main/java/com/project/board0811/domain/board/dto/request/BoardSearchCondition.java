@@ -0,0 +1,20 @@
+package com.project.board0811.domain.board.dto.request;
+
+import com.project.board0811.domain.board.enums.BoardCategory;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardSearchCondition { // 목록 조회 조건 (null 인 항목은 조건에서 제외)
+
+    private BoardCategory category;  // 지정 시 공개글(PUBLIC) 중 해당 카테고리, 미지정 시 삭제 제외 전체
+
+    private Long authorId;           // 작성자 기준 필터
+
+    private String titleKeyword;     // 제목 부분일치 (대소문자 무시)
+}
@@ -22,8 +22,13 @@ public class BoardUpdateRequestDto {
 
     private BoardStatus status; // null이면 변경 안함
 
-    // 부분 업데이트 적용
+    // 부분 업데이트 적용 (본문은 board_content 에 따로 반영 — hasContent() 참고)
     public void applyTo(Board board) {
-        board.update(title, content, category, status);
+        board.update(title, category, status);
+    }
+
+    // 본문 변경 요청 여부 (공백이면 변경 안함)
+    public boolean hasContent() {
+        return content != null && !content.isBlank();
     }
 }
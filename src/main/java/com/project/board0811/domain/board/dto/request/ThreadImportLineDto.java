@@ -0,0 +1,45 @@
+package com.project.board0811.domain.board.dto.request;
+
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 대량 이관 NDJSON 한 줄 = 게시글 1건 + 댓글 트리
+ * - comments 는 루트 댓글, 각 루트의 replies 는 답글(depth=1) — 답글의 replies 는 허용하지 않음
+ * - createdAt 이 없으면 이관 시각 사용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadImportLineDto {
+
+    private Long authorId;
+    private String title;
+    private String content;
+    private BoardCategory category;
+    private BoardStatus status;
+    private Integer viewCount;
+    private LocalDateTime createdAt;
+    private List<CommentLine> comments;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CommentLine {
+        private Long authorId;
+        private String content;
+        private boolean deleted;
+        private Integer likeCount; // 표시용 스냅샷 (comment_likes 행은 이관되지 않음)
+        private LocalDateTime createdAt;
+        private List<CommentLine> replies;
+    }
+}
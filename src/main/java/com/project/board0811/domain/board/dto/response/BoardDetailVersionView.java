@@ -0,0 +1,18 @@
+package com.project.board0811.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 단건 조건부 GET 검증자(ETag/Last-Modified) 계산용 경량 뷰 (id, version, updatedAt)
+ * - 상세 ETag 는 @Version 만 사용 — 캐시된 상세 응답(댓글 수 없음)에서도 빠짐없이 채울 수 있는 값만 둠
+ */
+@Getter
+@AllArgsConstructor
+public class BoardDetailVersionView {
+    private Long id;
+    private Long version;
+    private LocalDateTime updatedAt;
+}
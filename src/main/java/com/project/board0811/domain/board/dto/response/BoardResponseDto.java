@@ -51,11 +51,12 @@ public class BoardResponseDto { // 단건 조회
         private String email;
     }
 
-    public static BoardResponseDto from(Board board) {
+    // 본문은 board_content 에서 따로 읽어 전달
+    public static BoardResponseDto from(Board board, String content) {
         return BoardResponseDto.builder()
                 .id(board.getId())
                 .title(board.getTitle())
-                .content(board.getContent())
+                .content(content)
                 .category(board.getCategory())
                 .status(board.getStatus())
                 .viewCount(board.getViewCount())
@@ -22,6 +22,8 @@ public class BoardSummaryResponseDto { // 목록(요약) 조회
     private BoardCategory category;
     private BoardStatus status;
     private int viewCount;
+    private int commentCount;
+    private Long version; // 목록 ETag 계산용
 
     @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
     private LocalDateTime createdAt;
@@ -35,6 +37,8 @@ public class BoardSummaryResponseDto { // 목록(요약) 조회
                 .category(board.getCategory())
                 .status(board.getStatus())
                 .viewCount(board.getViewCount())
+                .commentCount(board.getCommentCount())
+                .version(board.getVersion())
                 .createdAt(board.getCreatedAt())
                 .authorName(board.getAuthor().getName())
                 .build();
@@ -0,0 +1,19 @@
+package com.project.board0811.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 목록 조건부 GET ETag 계산용 경량 뷰 (id, version, commentCount, updatedAt) — 단건은 BoardDetailVersionView
+ * - 본문(LOB)/작성자 조인 없이 버전 관련 컬럼만 프로젝션
+ */
+@Getter
+@AllArgsConstructor
+public class BoardVersionView {
+    private Long id;
+    private Long version;
+    private int commentCount;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,20 @@
+package com.project.board0811.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ContentMigrationStatsResponseDto { // 본문 분리 이관 상태
+
+    private boolean legacyReads;   // 구 컬럼(board.content) 대체 조회 사용 중 여부 (false 면 이관 완료)
+    private boolean running;       // 이관 실행 중 여부
+    private long migratedRows;     // 기동 이후 옮긴 게시글 수
+    private long originalBytes;    // 옮긴 본문의 원본 UTF-8 바이트 합계
+    private long storedBytes;      // 인코딩(압축) 후 저장 바이트 합계
+    private Long migratedThisRun;  // 방금 실행한 이관 건수 (조회 시 null, 이미 실행 중이면 -1)
+}
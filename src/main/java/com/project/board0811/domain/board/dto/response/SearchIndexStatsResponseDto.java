@@ -0,0 +1,18 @@
+package com.project.board0811.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchIndexStatsResponseDto { // 검색 색인 상태
+
+    private boolean ready;      // 최초 전체 색인 완료 여부
+    private int documents;      // 색인된 게시글 수
+    private int terms;          // 색인 term(bigram) 수
+    private Long rebuiltDocuments; // 재색인 요청 시 처리한 문서 수 (이미 재색인 중이면 null)
+}
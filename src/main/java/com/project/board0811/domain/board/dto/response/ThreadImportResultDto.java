@@ -0,0 +1,31 @@
+package com.project.board0811.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ThreadImportResultDto {
+    private long lines;              // 읽은 줄 수 (빈 줄 제외)
+    private long importedBoards;
+    private long importedComments;
+    private long failedLines;
+    private List<Failure> failures;  // 앞쪽 일부만 (최대 100건)
+    private long elapsedMs;
+    private double rowsPerSecond;    // (게시글 + 댓글) / 초
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Failure {
+        private long line;   // 1-based
+        private String code; // ErrorCode.code
+        private String message;
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.board0811.domain.board.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ViewCountStatsResponseDto { // 조회수 버퍼 상태
+
+    private int pendingBoards;  // 반영 대기 중인 게시글 수
+    private long pendingViews;  // 반영 대기 중인 조회수 합계
+}
@@ -16,16 +16,20 @@ import java.time.LocalDateTime;
 @Table(
         name = "board",
         indexes = {
-                @Index(name = "idx_board_created_at", columnList = "created_at"),
-                @Index(name = "idx_board_author_id", columnList = "author_id"),
-                @Index(name = "idx_board_status", columnList = "status"),
-                @Index(name = "idx_board_category", columnList = "category")
+                // 스키마는 Flyway(db/migration) 가 관리 — 아래는 매핑 문서화/테스트 스키마용으로 마이그레이션과 동일하게 유지
+                @Index(name = "idx_board_created_id_status", columnList = "created_at, id, status"), // 전체 목록/랭킹 재구축 정렬용
+                @Index(name = "idx_board_author_created_id_status", columnList = "author_id, created_at, id, status"), // 작성자 목록 정렬용
+                @Index(name = "idx_board_status_category_created", columnList = "status, category, created_at") // 카테고리 목록(keyset) 정렬용
         }
 )
 public class Board {
 
+    // IDENTITY 는 INSERT 배치를 막으므로 테이블 생성기(pooled-lo, 100개 단위 선할당) 사용
+    // 대량 이관(IdRangeAllocator)도 같은 id_sequences 행에서 구간을 할당받음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "board_id")
+    @TableGenerator(name = "board_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "board", allocationSize = 100)
     private Long id;
 
     // 작성자
@@ -37,10 +41,7 @@ public class Board {
     @Column(nullable = false, length = 150)
     private String title;
 
-    // 본문은 대용량 가능성 -> LOB
-    @Lob
-    @Column(nullable = false)
-    private String content;
+    // 본문은 board_content(BoardContent) 로 분리 — 상세 조회에서만 읽음
 
     // 카테고리
     @Enumerated(EnumType.STRING)
@@ -56,6 +57,10 @@ public class Board {
     @Column(name = "view_count", nullable = false)
     private int viewCount = 0;
 
+    // 댓글 수 (삭제되지 않은 댓글+답글, 댓글 작성/삭제 시 증분 쿼리로 유지 — CommentCountReconciler 가 주기 보정)
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount = 0;
+
     // 낙관적 락
     @Version
     private Long version;
@@ -73,24 +78,26 @@ public class Board {
     private LocalDateTime updatedAt;
 
     @Builder
-    private Board(User author, String title, String content,
-                  BoardCategory category, BoardStatus status) {
+    private Board(User author, String title, BoardCategory category, BoardStatus status) {
         this.author = author;
         this.title = title;
-        this.content = content;
         if (category != null) this.category = category;
         if (status != null) this.status = status;
     }
 
     // 수정: 선택 필드만 변경
-    public void update(String title, String content, BoardCategory category, BoardStatus status) {
+    public void update(String title, BoardCategory category, BoardStatus status) {
         if (title != null && !title.isBlank()) this.title = title;
-        if (content != null && !content.isBlank()) this.content = content;
         if (category != null) this.category = category;
         if (status != null) this.status = status;
         if (this.status != BoardStatus.DELETED) this.deletedAt = null; // 상태가 삭제가 아니면 삭제표시 해제
     }
 
+    // 본문(board_content)만 바뀐 경우에도 board 행을 갱신 → version/updated_at 증가 (ETag/캐시 판단 기준)
+    public void markContentChanged() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
     // 조회수 증가
     public void increaseViewCount() {
         this.viewCount += 1;
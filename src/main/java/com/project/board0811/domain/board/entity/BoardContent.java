@@ -0,0 +1,61 @@
+package com.project.board0811.domain.board.entity;
+
+import com.project.board0811.domain.board.content.BoardContentCodec;
+import com.project.board0811.domain.board.enums.ContentEncoding;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게시글 본문 (board 와 1:1, PK 공유)
+ * - 목록/참조/상태 변경 등 대부분의 게시글 로딩은 본문이 필요 없으므로 별도 테이블로 분리 — 상세 조회에서만 PK 로 읽음
+ * - 본문은 BoardContentCodec 으로 인코딩(임계값 이상이면 Deflate)한 바이트로 보관
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "board_content")
+public class BoardContent {
+
+    @Id
+    @Column(name = "board_id")
+    private Long boardId;
+
+    // Board 쪽에는 역방향 매핑을 두지 않음 (게시글 로딩 시 본문 조인/조회가 생기지 않도록)
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "board_id", foreignKey = @ForeignKey(name = "fk_board_content_board"))
+    private Board board;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ContentEncoding encoding;
+
+    // 인코딩 전 UTF-8 바이트 수 (압축 해제 버퍼 크기 / 절감량 집계용)
+    @Column(name = "original_length", nullable = false)
+    private int originalLength;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] body;
+
+    public static BoardContent of(Board board, String text, int compressThresholdBytes) {
+        BoardContent content = new BoardContent();
+        content.board = board;
+        content.replace(text, compressThresholdBytes);
+        return content;
+    }
+
+    // 본문 교체
+    public void replace(String text, int compressThresholdBytes) {
+        BoardContentCodec.Encoded encoded = BoardContentCodec.encode(text, compressThresholdBytes);
+        this.encoding = encoded.encoding();
+        this.body = encoded.body();
+        this.originalLength = encoded.originalLength();
+    }
+
+    public String text() {
+        return BoardContentCodec.decode(encoding, body, originalLength);
+    }
+}
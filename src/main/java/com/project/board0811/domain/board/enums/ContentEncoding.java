@@ -0,0 +1,6 @@
+package com.project.board0811.domain.board.enums;
+
+public enum ContentEncoding {
+    PLAIN,      // UTF-8 그대로
+    DEFLATE     // zlib(Deflate) 압축된 UTF-8
+}
@@ -0,0 +1,50 @@
+package com.project.board0811.domain.board.event;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 게시글 생성/수정/삭제 이벤트
+ * - 서비스 트랜잭션 안에서 발행하고, 구독 측은 @TransactionalEventListener(AFTER_COMMIT)로 커밋 이후에만 반영
+ * - 구독 측이 게시글을 다시 조회하지 않도록 변경 시점의 스냅샷(제목/본문 등)을 함께 전달
+ * - 본문은 엔티티에 없으므로(board_content 분리) 서비스가 저장/조회한 값을 넘김
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Type type;
+    private final Long boardId;
+    private final String title;
+    private final String content;
+    private final BoardCategory category;
+    private final BoardStatus status;
+
+    public static BoardChangedEvent created(Board board, String content) {
+        return of(Type.CREATED, board, content);
+    }
+
+    /** 수정 결과 상태가 DELETED 이면 삭제 이벤트로 취급 */
+    public static BoardChangedEvent updated(Board board, String content) {
+        return of(board.isActive() ? Type.UPDATED : Type.DELETED, board, content);
+    }
+
+    public static BoardChangedEvent deleted(Long boardId) {
+        return new BoardChangedEvent(Type.DELETED, boardId, null, null, null, BoardStatus.DELETED);
+    }
+
+    private static BoardChangedEvent of(Type type, Board board, String content) {
+        return new BoardChangedEvent(type, board.getId(), board.getTitle(), content,
+                board.getCategory(), board.getStatus());
+    }
+
+    public boolean isDeleted() {
+        return type == Type.DELETED;
+    }
+}
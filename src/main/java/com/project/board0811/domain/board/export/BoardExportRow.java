@@ -0,0 +1,21 @@
+package com.project.board0811.domain.board.export;
+
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BoardExportRow { // 내보내기용 게시글 원본 (엔티티 미로딩 프로젝션, 본문은 청크 단위로 따로 조회)
+
+    private Long id;
+    private Long authorId;
+    private String title;
+    private BoardCategory category;
+    private BoardStatus status;
+    private int viewCount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,229 @@
+package com.project.board0811.domain.board.export;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board0811.domain.board.content.BoardContentStore;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.dto.CommentExportRow;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 + 댓글 트리 NDJSON 스트리밍 내보내기
+ * - 한 줄 = 게시글 1건 (comments: 루트 댓글, 각 루트의 replies: 답글) — ThreadImportLineDto 와 같은 필드라 그대로 재이관 가능
+ * - 게시글은 id keyset 청크(본문은 같은 청크의 board_content IN 조회), 루트 댓글은 (boardId, id) keyset 청크,
+ *   답글은 루트 청크 범위에서 (boardId, parentId, id) keyset 청크 — 루트와 같은 순서라 쓰는 도중 필요한 만큼만 읽음
+ * - 엔티티 대신 프로젝션만 읽고 청크마다 짧은 읽기 트랜잭션 → 영속성 컨텍스트가 쌓이지 않음
+ * - 메모리는 청크 크기에만 비례 (전체 건수와 무관), 청크마다 flush 하여 바로 응답으로 흘려보냄
+ */
+@Slf4j
+@Service
+public class ThreadExportService {
+
+    private final BoardRepository boardRepository;
+    private final BoardContentStore boardContentStore;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final int boardChunkSize;
+    private final int commentChunkSize;
+
+    public ThreadExportService(BoardRepository boardRepository,
+                               BoardContentStore boardContentStore,
+                               CommentRepository commentRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${board.export.board-chunk-size:500}") int boardChunkSize,
+                               @Value("${board.export.comment-chunk-size:1000}") int commentChunkSize) {
+        this.boardRepository = boardRepository;
+        this.boardContentStore = boardContentStore;
+        this.commentRepository = commentRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.boardChunkSize = boardChunkSize;
+        this.commentChunkSize = commentChunkSize;
+    }
+
+    /**
+     * @return 내보낸 게시글 수 (out 은 닫지 않음 — gzip finish 등은 호출 측 책임)
+     */
+    public long export(OutputStream out, boolean includeDeleted) throws IOException {
+        long started = System.nanoTime();
+        long exported = 0;
+
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setPrettyPrinter(new MinimalPrettyPrinter("")); // 줄 구분은 직접 '\n'
+
+            long lastId = 0;
+            while (true) {
+                long after = lastId;
+                BoardChunk chunk = readOnlyTx.execute(status -> {
+                    List<BoardExportRow> rows = boardRepository.findExportRowsAfter(after, includeDeleted, boardChunkSize);
+                    return new BoardChunk(rows, boardContentStore.readAll(rows.stream().map(BoardExportRow::getId).toList()));
+                });
+                if (chunk == null || chunk.boards().isEmpty()) break;
+                List<BoardExportRow> boards = chunk.boards();
+
+                writeChunk(gen, chunk);
+                gen.flush();
+
+                exported += boards.size();
+                lastId = boards.get(boards.size() - 1).getId();
+                if (boards.size() < boardChunkSize) break;
+            }
+        }
+
+        log.info("[ThreadExport] boards={} in {}ms", exported, (System.nanoTime() - started) / 1_000_000);
+        return exported;
+    }
+
+    // 게시글 청크 하나: 루트 댓글 페이지를 (boardId, id) 순으로 흘리면서 게시글 경계마다 줄을 닫음
+    private void writeChunk(JsonGenerator gen, BoardChunk chunk) throws IOException {
+        List<Long> boardIds = chunk.boards().stream().map(BoardExportRow::getId).toList();
+        Map<Long, String> contents = chunk.contents();
+        Iterator<BoardExportRow> it = chunk.boards().iterator();
+        BoardExportRow current = it.next();
+        openBoard(gen, current, contents);
+
+        Long lastBoardId = null;
+        Long lastRootId = null;
+        while (true) {
+            List<CommentExportRow> roots = readRootPage(boardIds, lastBoardId, lastRootId);
+            ReplyCursor replies = new ReplyCursor(roots.stream().map(CommentExportRow::getId).toList());
+            for (CommentExportRow root : roots) {
+                while (!root.getBoardId().equals(current.getId())) {
+                    closeBoard(gen);
+                    current = it.next();
+                    openBoard(gen, current, contents);
+                }
+                writeComment(gen, root, replies);
+            }
+            if (roots.size() < commentChunkSize) break;
+
+            CommentExportRow last = roots.get(roots.size() - 1);
+            lastBoardId = last.getBoardId();
+            lastRootId = last.getId();
+        }
+        closeBoard(gen);
+
+        while (it.hasNext()) { // 남은 (댓글 없는) 게시글
+            openBoard(gen, it.next(), contents);
+            closeBoard(gen);
+        }
+    }
+
+    private List<CommentExportRow> readRootPage(List<Long> boardIds, Long lastBoardId, Long lastRootId) {
+        List<CommentExportRow> roots = readOnlyTx.execute(status -> commentRepository.findRootExportRows(
+                boardIds, lastBoardId, lastRootId, commentChunkSize));
+        return roots == null ? List.of() : roots;
+    }
+
+    private static void openBoard(JsonGenerator gen, BoardExportRow board,
+                                  Map<Long, String> contents) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", board.getId());
+        gen.writeNumberField("authorId", board.getAuthorId());
+        gen.writeStringField("title", board.getTitle());
+        gen.writeStringField("content", contents.get(board.getId()));
+        gen.writeStringField("category", board.getCategory().name());
+        gen.writeStringField("status", board.getStatus().name());
+        gen.writeNumberField("viewCount", board.getViewCount());
+        writeDateTime(gen, board.getCreatedAt());
+        gen.writeArrayFieldStart("comments");
+    }
+
+    private static void closeBoard(JsonGenerator gen) throws IOException {
+        gen.writeEndArray();
+        gen.writeEndObject();
+        gen.writeRaw('\n');
+    }
+
+    private static void writeComment(JsonGenerator gen, CommentExportRow comment,
+                                     ReplyCursor replies) throws IOException {
+        writeCommentFields(gen, comment);
+        gen.writeArrayFieldStart("replies");
+        CommentExportRow reply;
+        while ((reply = replies.nextOf(comment.getId())) != null) {
+            writeCommentFields(gen, reply);
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    // 여는 중괄호 + 공통 필드 (닫기는 호출 측)
+    private static void writeCommentFields(JsonGenerator gen, CommentExportRow comment) throws IOException {
+        gen.writeStartObject();
+        gen.writeNumberField("id", comment.getId());
+        gen.writeNumberField("authorId", comment.getAuthorId());
+        gen.writeStringField("content", comment.getContent());
+        gen.writeBooleanField("deleted", comment.isDeleted());
+        gen.writeNumberField("likeCount", comment.getLikeCount());
+        writeDateTime(gen, comment.getCreatedAt());
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime createdAt) throws IOException {
+        if (createdAt != null) {
+            gen.writeStringField("createdAt", createdAt.toString()); // ISO-8601 (이관 입력과 동일 형식)
+        }
+    }
+
+    private record BoardChunk(List<BoardExportRow> boards, Map<Long, String> contents) {}
+
+    /**
+     * 루트 청크 하나의 답글을 keyset 청크로 읽어 루트 순서대로 내어줌 (메모리는 청크 하나분)
+     */
+    private final class ReplyCursor {
+        private final List<Long> parentIds;
+        private List<CommentExportRow> page = List.of();
+        private int next;
+        private boolean exhausted;
+        private CommentExportRow last;
+
+        ReplyCursor(List<Long> parentIds) {
+            this.parentIds = parentIds;
+            this.exhausted = parentIds.isEmpty();
+        }
+
+        /** parentId 의 다음 답글 (없으면 null — 다음 답글은 뒤쪽 루트의 것) */
+        CommentExportRow nextOf(Long parentId) {
+            if (next == page.size()) {
+                if (exhausted) return null;
+                fetch();
+                if (page.isEmpty()) return null;
+            }
+            CommentExportRow head = page.get(next);
+            if (!head.getParentId().equals(parentId)) return null;
+            next++;
+            return head;
+        }
+
+        private void fetch() {
+            CommentExportRow after = last;
+            List<CommentExportRow> rows = readOnlyTx.execute(status -> commentRepository.findReplyExportRows(
+                    parentIds,
+                    after == null ? null : after.getBoardId(),
+                    after == null ? null : after.getParentId(),
+                    after == null ? null : after.getId(),
+                    commentChunkSize));
+            page = rows == null ? List.of() : rows;
+            next = 0;
+            exhausted = page.size() < commentChunkSize;
+            if (!page.isEmpty()) last = page.get(page.size() - 1);
+        }
+    }
+}
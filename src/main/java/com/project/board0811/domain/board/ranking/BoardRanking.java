@@ -0,0 +1,305 @@
+package com.project.board0811.domain.board.ranking;
+
+import com.project.board0811.common.paging.KeysetCursor;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.event.BoardChangedEvent;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.event.CommentChangedEvent;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 게시글 인기(HOT)/급상승(TRENDING) 랭킹
+ * - 랭킹 종류별로 전체 + 카테고리별 DecayingTopK 를 메모리에 유지하고 상위 K 조회는 DB 없이 O(K)
+ * - 대상은 공개(PUBLIC) 글만 — 비공개 전환/삭제 이벤트에서 즉시 제거
+ * - 증분 반영: 조회수 flush 묶음(ViewCountAggregator), 댓글 작성/좋아요 커밋 이벤트, 게시글 삭제/공개 범위/카테고리 변경 이벤트
+ * - 주기적 재구축: 최근 window 기간 게시글의 누적 조회수/댓글 수/좋아요 합으로 새 구조를 만든 뒤 통째로 교체
+ *   (누적값의 발생 시각은 모르므로 작성 이후 고르게 발생했다고 보고 감쇠 평균을 적용)
+ * - 취소성 이벤트(좋아요 취소, 댓글 삭제)는 증분 반영하지 않고 다음 재구축에서 DB 값으로 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardRanking {
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Value("${board.ranking.top-k:100}")
+    private int topK;
+
+    @Value("${board.ranking.capacity:1000}")
+    private int capacity;
+
+    @Value("${board.ranking.hot-half-life-hours:24}")
+    private long hotHalfLifeHours;
+
+    @Value("${board.ranking.trending-half-life-hours:2}")
+    private long trendingHalfLifeHours;
+
+    @Value("${board.ranking.weight.view:1}")
+    private double viewWeight;
+
+    @Value("${board.ranking.weight.comment:8}")
+    private double commentWeight;
+
+    @Value("${board.ranking.weight.like:3}")
+    private double likeWeight;
+
+    @Value("${board.ranking.rebuild-window-days:7}")
+    private int rebuildWindowDays;
+
+    @Value("${board.ranking.rebuild-chunk-size:1000}")
+    private int chunkSize;
+
+    private volatile State state;
+
+    @PostConstruct
+    void init() {
+        state = newState(System.currentTimeMillis());
+    }
+
+    /** 상위 size 건의 게시글 id (category 가 null 이면 전체, size 는 top-k 로 제한) */
+    public List<Long> top(RankingType type, BoardCategory category, int size) {
+        return state.rankings.get(type).of(category).top(Math.min(size, topK));
+    }
+
+    /** 랭킹에 올라 있는 게시글 수 (전체 기준) */
+    public int size(RankingType type) {
+        return state.rankings.get(type).all.size();
+    }
+
+    /** 마지막 재구축 완료 시각 (epoch millis, 재구축 전이면 0) */
+    public long lastRebuiltAt() {
+        return state.rebuiltAt;
+    }
+
+    // ====== 증분 반영 ======
+
+    /** 조회수 flush 묶음 반영 (boardId -> 증분) — DB 반영에 성공한 묶음만 전달됨 */
+    public void recordViews(Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+        State current = state;
+        long now = System.currentTimeMillis();
+
+        Set<Long> unknown = new HashSet<>();
+        for (Long boardId : deltas.keySet()) {
+            if (!current.categories.containsKey(boardId)) unknown.add(boardId);
+        }
+        if (!unknown.isEmpty()) {
+            current.categories.putAll(boardRepository.findPublicCategories(unknown)); // 비공개/삭제글은 빠짐
+        }
+
+        deltas.forEach((boardId, delta) -> {
+            BoardCategory category = current.categories.get(boardId);
+            if (category != null) {
+                current.add(boardId, category, delta * viewWeight, now);
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        double weight = switch (event.getType()) {
+            case CREATED -> commentWeight;
+            case LIKED -> likeWeight;
+            default -> 0;
+        };
+        if (weight == 0) return;
+
+        State current = state;
+        BoardCategory category = resolveCategory(current, event.getBoardId());
+        if (category != null) {
+            current.add(event.getBoardId(), category, weight, System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        State current = state;
+        Long boardId = event.getBoardId();
+        if (event.isDeleted() || event.getStatus() != BoardStatus.PUBLIC) {
+            current.remove(boardId);
+            current.categories.remove(boardId);
+            return;
+        }
+
+        BoardCategory previous = current.categories.put(boardId, event.getCategory());
+        if (previous != null && previous != event.getCategory()) {
+            current.move(boardId, previous, event.getCategory(), System.currentTimeMillis());
+        }
+    }
+
+    // ====== 재구축 ======
+
+    @Scheduled(fixedDelayString = "${board.ranking.rebuild-interval-ms:600000}",
+            initialDelayString = "${board.ranking.rebuild-initial-delay-ms:0}")
+    public void scheduledRebuild() {
+        rebuild();
+    }
+
+    /**
+     * DB 기준 전체 재구축 (최근 rebuild-window-days 일 이내 작성된 공개 게시글)
+     * @return 반영된 게시글 수 (이미 재구축 중이면 -1)
+     */
+    public long rebuild() {
+        if (!rebuildLock.tryLock()) return -1;
+        try {
+            long startedAt = System.currentTimeMillis();
+            State next = newState(startedAt);
+            LocalDateTime createdFrom = LocalDateTime.now().minusDays(rebuildWindowDays);
+
+            long loaded = 0;
+            KeysetCursor after = null;
+            while (true) {
+                final KeysetCursor cursor = after;
+                List<BoardRankingCandidate> chunk = transactionTemplate.execute(
+                        status -> boardRepository.findRankingCandidates(createdFrom, cursor, chunkSize));
+                if (chunk == null || chunk.isEmpty()) break;
+
+                List<Long> ids = new ArrayList<>(chunk.size());
+                chunk.forEach(c -> ids.add(c.getId()));
+                Map<Long, Long> likes = transactionTemplate.execute(
+                        status -> commentRepository.sumActiveLikesByBoardIds(ids));
+
+                for (BoardRankingCandidate c : chunk) {
+                    double engagement = c.getViewCount() * viewWeight
+                            + c.getCommentCount() * commentWeight
+                            + (likes == null ? 0 : likes.getOrDefault(c.getId(), 0L)) * likeWeight;
+                    long ageMillis = startedAt - c.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+
+                    next.categories.put(c.getId(), c.getCategory());
+                    next.rankings.forEach((type, rankings) -> rankings.add(c.getId(), c.getCategory(),
+                            engagement * averageDecay(ageMillis, halfLifeMillis(type)), startedAt));
+                }
+                loaded += chunk.size();
+                BoardRankingCandidate last = chunk.get(chunk.size() - 1);
+                after = KeysetCursor.of(last.getCreatedAt(), last.getId());
+            }
+
+            next.rebuiltAt = System.currentTimeMillis();
+            state = next; // 재구축 중 들어온 증분은 이전 구조에만 반영되고 버려짐 (다음 주기의 DB 값에 포함)
+            log.info("[BoardRanking] rebuilt from {} boards in {}ms", loaded, next.rebuiltAt - startedAt);
+            return loaded;
+        } catch (RuntimeException e) {
+            log.error("[BoardRanking] rebuild failed - {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 작성 이후 ageMillis 동안 반응이 고르게 발생했다고 볼 때의 평균 감쇠율 = (1 - e^(-λA)) / (λA)
+     */
+    static double averageDecay(long ageMillis, long halfLifeMillis) {
+        if (ageMillis <= 0) return 1;
+        double lambdaAge = Math.log(2) * ageMillis / halfLifeMillis;
+        return -Math.expm1(-lambdaAge) / lambdaAge;
+    }
+
+    // ====== Helpers ======
+
+    private BoardCategory resolveCategory(State current, Long boardId) {
+        BoardCategory category = current.categories.get(boardId);
+        if (category != null) return category;
+
+        category = boardRepository.findPublicCategories(List.of(boardId)).get(boardId);
+        if (category != null) current.categories.put(boardId, category);
+        return category;
+    }
+
+    private long halfLifeMillis(RankingType type) {
+        long hours = type == RankingType.HOT ? hotHalfLifeHours : trendingHalfLifeHours;
+        return Duration.ofHours(hours).toMillis();
+    }
+
+    private State newState(long epochMillis) {
+        Map<RankingType, Rankings> rankings = new EnumMap<>(RankingType.class);
+        for (RankingType type : RankingType.values()) {
+            rankings.put(type, new Rankings(halfLifeMillis(type), capacity, epochMillis));
+        }
+        return new State(rankings);
+    }
+
+    /** 교체 단위: 랭킹 종류별 구조 + 게시글 카테고리 색인 */
+    private static final class State {
+        private final Map<RankingType, Rankings> rankings;
+        private final Map<Long, BoardCategory> categories = new ConcurrentHashMap<>();
+        private volatile long rebuiltAt;
+
+        private State(Map<RankingType, Rankings> rankings) {
+            this.rankings = rankings;
+        }
+
+        void add(long boardId, BoardCategory category, double weight, long now) {
+            rankings.values().forEach(r -> r.add(boardId, category, weight, now));
+        }
+
+        void remove(long boardId) {
+            rankings.values().forEach(r -> r.remove(boardId));
+        }
+
+        void move(long boardId, BoardCategory from, BoardCategory to, long now) {
+            rankings.values().forEach(r -> r.move(boardId, from, to, now));
+        }
+    }
+
+    /** 랭킹 1종의 전체 + 카테고리별 구조 */
+    private static final class Rankings {
+        private final DecayingTopK all;
+        private final Map<BoardCategory, DecayingTopK> byCategory = new EnumMap<>(BoardCategory.class);
+
+        private Rankings(long halfLifeMillis, int capacity, long epochMillis) {
+            this.all = new DecayingTopK(halfLifeMillis, capacity, epochMillis);
+            for (BoardCategory category : BoardCategory.values()) {
+                byCategory.put(category, new DecayingTopK(halfLifeMillis, capacity, epochMillis));
+            }
+        }
+
+        DecayingTopK of(BoardCategory category) {
+            return category == null ? all : byCategory.get(category);
+        }
+
+        void add(long boardId, BoardCategory category, double weight, long now) {
+            all.add(boardId, weight, now);
+            byCategory.get(category).add(boardId, weight, now);
+        }
+
+        void remove(long boardId) {
+            all.remove(boardId);
+            byCategory.values().forEach(r -> r.remove(boardId));
+        }
+
+        // 카테고리 변경: 현재(감쇠된) 점수를 그대로 새 카테고리로 옮김
+        void move(long boardId, BoardCategory from, BoardCategory to, long now) {
+            DecayingTopK source = byCategory.get(from);
+            double score = source.score(boardId, now);
+            source.remove(boardId);
+            if (score > 0) byCategory.get(to).add(boardId, score, now);
+        }
+    }
+}
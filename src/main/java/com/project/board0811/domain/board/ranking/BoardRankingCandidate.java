@@ -0,0 +1,18 @@
+package com.project.board0811.domain.board.ranking;
+
+import com.project.board0811.domain.board.enums.BoardCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class BoardRankingCandidate { // 랭킹 재구축용 원본 (누적 조회수/댓글 수 + 작성 시각)
+
+    private Long id;
+    private BoardCategory category;
+    private int viewCount;
+    private int commentCount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,143 @@
+package com.project.board0811.domain.board.ranking;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 시간 감쇠 점수 기반 상위 K 구조 (랭킹 1개 = 카테고리 1개 단위)
+ * - 점수 = Σ weight · 2^((이벤트 시각 - epoch) / halfLife)
+ *   과거 점수를 매번 깎는 대신 새 이벤트의 가중치를 키워 표현 → 시간이 흘러도 항목 간 순서가 그대로이므로
+ *   갱신은 해당 게시글 1건의 재배치(O(log n))만 필요하고 상위 k 조회는 앞에서부터 k 건 순회(O(k))
+ * - 쓰기는 구조 단위 락으로 직렬화, 읽기는 락 없이 순서 집합을 순회 (갱신 중인 1건이 잠시 빠져 보일 수 있음)
+ * - capacity 를 넘으면 최하위부터 제거 (밀려난 글은 다음 재구축에서 DB 값으로 복원)
+ */
+public class DecayingTopK {
+
+    private static final double MAX_EXPONENT = 40; // 가중치 배율이 2^40 을 넘으면 epoch 재설정 (double 정밀도 보호)
+
+    private static final Comparator<Entry> ORDER = Comparator
+            .comparingDouble(Entry::score).reversed()
+            .thenComparingLong(Entry::boardId);
+
+    private final long halfLifeMillis;
+    private final int capacity;
+
+    private final ConcurrentSkipListSet<Entry> ordered = new ConcurrentSkipListSet<>(ORDER);
+    private final Map<Long, Entry> byId = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private volatile long epochMillis;
+
+    public DecayingTopK(long halfLifeMillis, int capacity, long epochMillis) {
+        if (halfLifeMillis <= 0) throw new IllegalArgumentException("halfLifeMillis must be positive");
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        this.halfLifeMillis = halfLifeMillis;
+        this.capacity = capacity;
+        this.epochMillis = epochMillis;
+    }
+
+    /**
+     * nowMillis 시점에 발생한 이벤트만큼 점수 가산
+     * - 음수 가중치로 점수가 0 이하가 되면 항목 제거
+     */
+    public void add(long boardId, double weight, long nowMillis) {
+        writeLock.lock();
+        try {
+            if (exponent(nowMillis) > MAX_EXPONENT) {
+                rebase(nowMillis);
+            }
+            Entry prev = byId.get(boardId);
+            double score = (prev == null ? 0 : prev.score()) + weight * growth(nowMillis);
+            if (prev != null) {
+                ordered.remove(prev);
+            }
+            if (score <= 0) {
+                byId.remove(boardId);
+                return;
+            }
+            Entry next = new Entry(boardId, score);
+            ordered.add(next);
+            byId.put(boardId, next);
+            trim();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void remove(long boardId) {
+        writeLock.lock();
+        try {
+            Entry prev = byId.remove(boardId);
+            if (prev != null) {
+                ordered.remove(prev);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 점수 상위 k 건의 게시글 id (점수 내림차순, 동점이면 id 오름차순) */
+    public List<Long> top(int k) {
+        List<Long> ids = new ArrayList<>(Math.min(k, capacity));
+        Iterator<Entry> it = ordered.iterator();
+        while (ids.size() < k && it.hasNext()) {
+            ids.add(it.next().boardId());
+        }
+        return ids;
+    }
+
+    /** nowMillis 시점으로 감쇠된 현재 점수 (없으면 0) */
+    public double score(long boardId, long nowMillis) {
+        Entry entry = byId.get(boardId);
+        return entry == null ? 0 : entry.score() / growth(nowMillis);
+    }
+
+    public boolean contains(long boardId) {
+        return byId.containsKey(boardId);
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private double exponent(long nowMillis) {
+        return (double) (nowMillis - epochMillis) / halfLifeMillis;
+    }
+
+    private double growth(long nowMillis) {
+        return Math.pow(2, exponent(nowMillis));
+    }
+
+    // 보통은 주기적 재구축이 새 epoch 로 교체하므로 재구축이 오래 멈췄을 때만 도달
+    private void rebase(long nowMillis) {
+        double factor = 1 / growth(nowMillis);
+        List<Entry> rescaled = new ArrayList<>(ordered.size());
+        for (Entry e : ordered) {
+            rescaled.add(new Entry(e.boardId(), e.score() * factor));
+        }
+        ordered.clear();
+        byId.clear();
+        for (Entry e : rescaled) {
+            ordered.add(e);
+            byId.put(e.boardId(), e);
+        }
+        epochMillis = nowMillis;
+    }
+
+    private void trim() {
+        while (byId.size() > capacity) {
+            Entry lowest = ordered.pollLast();
+            if (lowest == null) return;
+            byId.remove(lowest.boardId());
+        }
+    }
+
+    private record Entry(long boardId, double score) {
+    }
+}
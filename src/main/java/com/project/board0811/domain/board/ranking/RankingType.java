@@ -0,0 +1,6 @@
+package com.project.board0811.domain.board.ranking;
+
+public enum RankingType {
+    HOT,        // 인기 — 긴 반감기 (하루 단위로 꾸준히 반응을 모은 글)
+    TRENDING    // 급상승 — 짧은 반감기 (최근 몇 시간 사이 반응이 몰리는 글)
+}
@@ -0,0 +1,18 @@
+package com.project.board0811.domain.board.repository;
+
+import com.project.board0811.domain.board.entity.BoardContent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BoardContentRepository extends JpaRepository<BoardContent, Long> {
+
+    // 본문 행이 이미 있는 게시글 id (이관 작업이 새 경로로 저장된 본문을 덮어쓰지 않도록)
+    @Query("select c.boardId from BoardContent c where c.boardId in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+}
@@ -1,22 +1,22 @@
 package com.project.board0811.domain.board.repository;
 
+import com.project.board0811.domain.board.dto.response.BoardDetailVersionView;
 import com.project.board0811.domain.board.entity.Board;
 import com.project.board0811.domain.board.enums.BoardCategory;
 import com.project.board0811.domain.board.enums.BoardStatus;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Optional;
 
 @Repository
-public interface BoardRepository extends JpaRepository<Board, Long> {
+public interface BoardRepository extends JpaRepository<Board, Long>, BoardRepositoryCustom {
 
     // ===== 단건 조회 =====
     Optional<Board> findByIdAndStatusNot(Long id, BoardStatus status); // 삭제(DELETED) 아닌 글 단건
@@ -25,35 +25,58 @@ public interface BoardRepository extends JpaRepository<Board, Long> {
     @Query("select b from Board b where b.id = :id")
     Optional<Board> findWithAuthorById(@Param("id") Long id); // 작성자(author)까지 즉시 로딩하여 단건 조회
 
+    // 조건부 GET 용 버전 조회 (본문/작성자 미조회, 삭제글 제외)
+    @Query("select new com.project.board0811.domain.board.dto.response.BoardDetailVersionView(b.id, b.version, b.updatedAt)"
+            + " from Board b where b.id = :id and b.status <> com.project.board0811.domain.board.enums.BoardStatus.DELETED")
+    Optional<BoardDetailVersionView> findActiveVersionById(@Param("id") Long id);
+
 
     // ===== 목록 조회 =====
-    // 상태/카테고리 별 페이지 조회
-    Page<Board> findByStatusAndCategory(BoardStatus status, BoardCategory category, Pageable pageable);
+    // 목록(요약)은 BoardRepositoryCustom 의 프로젝션 쿼리 사용 (본문 LOB 미조회, 작성자 이름 join)
 
-    // 삭제 아닌 전체 목록
-    Page<Board> findAllByStatusNot(BoardStatus status, Pageable pageable);
 
-    // 작성자 기준 목록 (삭제 제외)
-    Page<Board> findByAuthor_IdAndStatusNot(Long authorId, BoardStatus status, Pageable pageable);
+    // ===== 부가 기능 =====
+    // 버퍼에 모인 조회수 증분을 같은 증분값끼리 묶어 일괄 반영 (ViewCountAggregator 전용)
+    @Modifying
+    @Query("update Board b set b.viewCount = b.viewCount + :delta where b.id in :ids")
+    int addViewCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
 
-    // 제목 키워드 검색 (삭제 제외)
-    Page<Board> findByTitleContainingIgnoreCaseAndStatusNot(String title, BoardStatus status, Pageable pageable);
+    // 댓글 작성/삭제 시 댓글 수 증감 (엔티티 로딩/버전 증가 없이 단일 UPDATE)
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount + 1 where b.id = :id")
+    int increaseCommentCount(@Param("id") Long id);
 
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount - 1 where b.id = :id and b.commentCount > 0")
+    int decreaseCommentCount(@Param("id") Long id);
 
-    // ===== 부가 기능 =====
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update Board b set b.viewCount = b.viewCount + 1 where b.id = :id")
-    int increaseViewCount(@Param("id") Long id); // 본문/제목 없이 조회수만 안전하게 증가
+    // 보정 작업 전용: 조회 시점 값(expected)이 그대로일 때만 실제 값으로 교체 (그 사이 증감이 있었으면 다음 주기로)
+    @Modifying
+    @Query("update Board b set b.commentCount = :actual where b.id = :id and b.commentCount = :expected")
+    int correctCommentCount(@Param("id") Long id, @Param("expected") int expected, @Param("actual") int actual);
 
+    /**
+     * 소프트 삭제 — 존재/미삭제/권한(작성자 또는 관리자) 검사를 조건절로 합친 단일 UPDATE
+     * - 0건이면 호출 측에서 원인(없음/권한 없음)을 구분
+     * - @Version 을 함께 올려 버전 기반 캐시 검사가 단조 증가를 유지하도록 함
+     */
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Transactional
     @Query("""
         update Board b
-           set b.status = :status,
-               b.updatedAt = CURRENT_TIMESTAMP
+           set b.status = com.project.board0811.domain.board.enums.BoardStatus.DELETED,
+               b.deletedAt = :now,
+               b.updatedAt = :now,
+               b.version = b.version + 1
          where b.id = :id
+           and b.status <> com.project.board0811.domain.board.enums.BoardStatus.DELETED
+           and (:admin = true or b.author.id = :actorId)
         """)
-    int softDeleteById(@Param("id") Long id, @Param("status") BoardStatus status);
+    int softDeleteIfPermitted(@Param("id") Long id, @Param("actorId") Long actorId,
+                              @Param("admin") boolean admin, @Param("now") LocalDateTime now);
+
+    // 삭제되지 않은 글의 작성자 id (소프트 삭제 실패 원인 판별용)
+    @Query("select b.author.id from Board b where b.id = :id and b.status <> com.project.board0811.domain.board.enums.BoardStatus.DELETED")
+    Optional<Long> findActiveAuthorId(@Param("id") Long id);
 
     boolean existsByIdAndAuthor_Id(Long id, Long authorId); // 작성자 소유 여부 체크 (권한 확인에 사용)
 }
\ No newline at end of file
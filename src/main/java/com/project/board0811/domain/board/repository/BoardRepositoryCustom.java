@@ -0,0 +1,68 @@
+package com.project.board0811.domain.board.repository;
+
+import com.project.board0811.common.paging.KeysetCursor;
+import com.project.board0811.domain.board.dto.request.BoardSearchCondition;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.dto.response.BoardVersionView;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.export.BoardExportRow;
+import com.project.board0811.domain.board.ranking.BoardRankingCandidate;
+import com.project.board0811.domain.board.search.BoardSearchDocument;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface BoardRepositoryCustom {
+    /**
+     * 목록(요약) 페이지 조회 — 본문(LOB) 없이 요약 컬럼 + 작성자 이름만 DTO로 직접 조회
+     * - 내용 쿼리 1회 + count 쿼리 1회 (마지막 페이지 등 계산 가능한 경우 count 생략)
+     */
+    Page<BoardSummaryResponseDto> findSummaryPage(BoardSearchCondition condition, Pageable pageable);
+
+    /**
+     * findSummaryPage 와 같은 조건/정렬/페이지의 버전 컬럼만 조회 (조건부 GET 용 ETag 계산)
+     * - 작성자 join/DTO 조립 없이 (id, version, commentCount, updatedAt) + count
+     */
+    Page<BoardVersionView> findVersionPage(BoardSearchCondition condition, Pageable pageable);
+
+    /**
+     * keyset(커서) 페이지 조회 — (createdAt desc, id desc) 순서, count 쿼리 없음
+     * - hasNext 판별을 위해 호출 측에서 limit 을 size + 1 로 전달
+     */
+    List<BoardSummaryResponseDto> findSummaryKeysetPage(BoardSearchCondition condition, KeysetCursor cursor, int limit);
+
+    /**
+     * id 목록으로 요약 조회 (삭제 제외, 순서 보장 안 함 — 호출 측에서 재정렬)
+     */
+    List<BoardSummaryResponseDto> findSummariesByIds(Collection<Long> ids);
+
+    /**
+     * 검색 색인 재구축용 청크 조회 — id > lastId 인 삭제 제외 게시글을 id 오름차순으로 limit 건
+     */
+    List<BoardSearchDocument> findSearchDocumentsAfter(Long lastId, int limit);
+
+    /**
+     * 댓글 수 보정용 청크 조회 — id > lastId 인 게시글의 (id -> 저장된 commentCount), id 오름차순 limit 건
+     */
+    Map<Long, Integer> findCommentCountsAfter(Long lastId, int limit);
+
+    /**
+     * 내보내기용 청크 조회 — id > lastId 인 게시글을 id 오름차순으로 limit 건 (삭제글 포함 여부 선택)
+     */
+    List<BoardExportRow> findExportRowsAfter(Long lastId, boolean includeDeleted, int limit);
+
+    /**
+     * id 목록의 (id -> 카테고리), 공개(PUBLIC) 글만 — 랭킹 반영 시 카테고리를 모르는 게시글만 일괄 조회
+     */
+    Map<Long, BoardCategory> findPublicCategories(Collection<Long> ids);
+
+    /**
+     * 랭킹 재구축용 청크 조회 — createdFrom 이후 작성된 공개(PUBLIC) 게시글을 (createdAt, id) 오름차순 keyset 으로 limit 건
+     * - after 가 null 이면 처음부터 (created_at 인덱스 범위 스캔)
+     */
+    List<BoardRankingCandidate> findRankingCandidates(LocalDateTime createdFrom, KeysetCursor after, int limit);
+}
@@ -0,0 +1,267 @@
+package com.project.board0811.domain.board.repository;
+
+import static com.project.board0811.domain.board.entity.QBoard.board;
+import static com.project.board0811.domain.user.entity.QUser.user;
+
+import com.project.board0811.common.paging.KeysetCursor;
+import com.project.board0811.domain.board.dto.request.BoardSearchCondition;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.dto.response.BoardVersionView;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.export.BoardExportRow;
+import com.project.board0811.domain.board.ranking.BoardRankingCandidate;
+import com.project.board0811.domain.board.search.BoardSearchDocument;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardRepositoryImpl implements BoardRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * BoardSummaryResponseDto 생성자 프로젝션
+     * - content(LOB) 컬럼을 읽지 않고, 작성자 이름은 join 으로 같은 쿼리에서 가져와 N+1 제거
+     */
+    private static final ConstructorExpression<BoardSummaryResponseDto> SUMMARY = Projections.constructor(
+            BoardSummaryResponseDto.class,
+            board.id,
+            board.title,
+            board.category,
+            board.status,
+            board.viewCount,
+            board.commentCount,
+            board.version,
+            board.createdAt,
+            user.name
+    );
+
+    private static final ConstructorExpression<BoardVersionView> VERSION_VIEW = Projections.constructor(
+            BoardVersionView.class,
+            board.id,
+            board.version,
+            board.commentCount,
+            board.updatedAt
+    );
+
+    @Override
+    public Page<BoardSummaryResponseDto> findSummaryPage(BoardSearchCondition condition, Pageable pageable) {
+        // 1) 내용 쿼리: 요약 컬럼 + 작성자 이름
+        List<BoardSummaryResponseDto> content = queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .join(board.author, user)
+                .where(conditions(condition))
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        // 2) count 쿼리: join 없이 board 만 (필요할 때만 실행)
+        JPAQuery<Long> countQuery = queryFactory
+                .select(board.count())
+                .from(board)
+                .where(conditions(condition));
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    @Override
+    public Page<BoardVersionView> findVersionPage(BoardSearchCondition condition, Pageable pageable) {
+        // findSummaryPage 와 같은 조건/정렬/페이징, 작성자 join 없이 버전 컬럼만
+        List<BoardVersionView> content = queryFactory
+                .select(VERSION_VIEW)
+                .from(board)
+                .where(conditions(condition))
+                .orderBy(toOrderSpecifiers(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .fetch();
+
+        JPAQuery<Long> countQuery = queryFactory
+                .select(board.count())
+                .from(board)
+                .where(conditions(condition));
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> {
+            Long total = countQuery.fetchOne();
+            return total != null ? total : 0L;
+        });
+    }
+
+    /**
+     * keyset 페이지 조회
+     * - OFFSET 없이 "(created_at, id) < (:createdAt, :id)" 조건으로 이어 읽으므로 깊은 페이지도 비용이 일정
+     * - 카테고리 목록은 idx_board_status_category_created, 전체 목록은 idx_board_created_id_status, 작성자 목록은 idx_board_author_created_id_status 를 역순 스캔
+     */
+    @Override
+    public List<BoardSummaryResponseDto> findSummaryKeysetPage(BoardSearchCondition condition, KeysetCursor cursor, int limit) {
+        return queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .join(board.author, user)
+                .where(conditions(condition))
+                .where(after(cursor))
+                .orderBy(board.createdAt.desc(), board.id.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<BoardSummaryResponseDto> findSummariesByIds(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return List.of();
+        return queryFactory
+                .select(SUMMARY)
+                .from(board)
+                .join(board.author, user)
+                .where(board.id.in(ids), board.status.ne(BoardStatus.DELETED))
+                .fetch();
+    }
+
+    @Override
+    public List<BoardSearchDocument> findSearchDocumentsAfter(Long lastId, int limit) {
+        return queryFactory
+                .select(Projections.constructor(BoardSearchDocument.class, board.id, board.title))
+                .from(board)
+                .where(board.id.gt(lastId), board.status.ne(BoardStatus.DELETED))
+                .orderBy(board.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, Integer> findCommentCountsAfter(Long lastId, int limit) {
+        List<Tuple> rows = queryFactory
+                .select(board.id, board.commentCount)
+                .from(board)
+                .where(board.id.gt(lastId))
+                .orderBy(board.id.asc())
+                .limit(limit)
+                .fetch();
+
+        Map<Long, Integer> counts = new LinkedHashMap<>();
+        for (Tuple row : rows) {
+            counts.put(row.get(board.id), row.get(board.commentCount));
+        }
+        return counts;
+    }
+
+    @Override
+    public List<BoardExportRow> findExportRowsAfter(Long lastId, boolean includeDeleted, int limit) {
+        return queryFactory
+                .select(Projections.constructor(BoardExportRow.class,
+                        board.id, board.author.id, board.title,
+                        board.category, board.status, board.viewCount, board.createdAt))
+                .from(board)
+                .where(board.id.gt(lastId), includeDeleted ? null : board.status.ne(BoardStatus.DELETED))
+                .orderBy(board.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public Map<Long, BoardCategory> findPublicCategories(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return Collections.emptyMap();
+
+        List<Tuple> rows = queryFactory
+                .select(board.id, board.category)
+                .from(board)
+                .where(board.id.in(ids), board.status.eq(BoardStatus.PUBLIC)) // 카테고리 목록(findByStatusAndCategory)과 같은 노출 기준
+                .fetch();
+
+        Map<Long, BoardCategory> categories = new HashMap<>();
+        for (Tuple row : rows) {
+            categories.put(row.get(board.id), row.get(board.category));
+        }
+        return categories;
+    }
+
+    @Override
+    public List<BoardRankingCandidate> findRankingCandidates(LocalDateTime createdFrom, KeysetCursor after, int limit) {
+        BooleanExpression afterCursor = after == null ? null
+                : board.createdAt.gt(after.getCreatedAt())
+                        .or(board.createdAt.eq(after.getCreatedAt()).and(board.id.gt(after.getId())));
+        return queryFactory
+                .select(Projections.constructor(BoardRankingCandidate.class,
+                        board.id, board.category, board.viewCount, board.commentCount, board.createdAt))
+                .from(board)
+                .where(board.createdAt.goe(createdFrom), afterCursor, board.status.eq(BoardStatus.PUBLIC))
+                .orderBy(board.createdAt.asc(), board.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // ===== 조건 (null 반환 시 QueryDSL 이 where 절에서 무시) =====
+    private BooleanExpression[] conditions(BoardSearchCondition condition) {
+        return new BooleanExpression[]{
+                statusAndCategory(condition.getCategory()),
+                authorIdEq(condition.getAuthorId()),
+                titleContains(condition.getTitleKeyword())
+        };
+    }
+
+    private BooleanExpression statusAndCategory(BoardCategory category) {
+        return category == null
+                ? board.status.ne(BoardStatus.DELETED)
+                : board.status.eq(BoardStatus.PUBLIC).and(board.category.eq(category));
+    }
+
+    private BooleanExpression authorIdEq(Long authorId) {
+        return authorId == null ? null : board.author.id.eq(authorId);
+    }
+
+    private BooleanExpression titleContains(String keyword) {
+        return (keyword == null || keyword.isBlank()) ? null : board.title.containsIgnoreCase(keyword);
+    }
+
+    private BooleanExpression after(KeysetCursor cursor) {
+        if (cursor == null) return null;
+        return board.createdAt.lt(cursor.getCreatedAt())
+                .or(board.createdAt.eq(cursor.getCreatedAt()).and(board.id.lt(cursor.getId())));
+    }
+
+    /**
+     * Spring Data의 Sort 정보를 QueryDSL의 OrderSpecifier 배열로 변환 (허용 필드만 — 허용 키는 BoardSorts 가 결정)
+     */
+    private OrderSpecifier<?>[] toOrderSpecifiers(Sort sort) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>();
+        for (Sort.Order s : sort) {
+            Order direction = s.isAscending() ? Order.ASC : Order.DESC;
+            switch (s.getProperty()) {
+                case "createdAt" -> orders.add(new OrderSpecifier<>(direction, board.createdAt));
+                case "id"        -> orders.add(new OrderSpecifier<>(direction, board.id));
+                default -> { /* 미허용 필드는 무시 */ }
+            }
+        }
+        if (orders.isEmpty()) {
+            orders.add(new OrderSpecifier<>(Order.DESC, board.createdAt)); // 기본 정렬: 최신순
+        }
+        return orders.toArray(new OrderSpecifier<?>[0]);
+    }
+}
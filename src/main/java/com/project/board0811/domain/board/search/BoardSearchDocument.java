@@ -0,0 +1,12 @@
+package com.project.board0811.domain.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class BoardSearchDocument { // 재색인용 원본 (id/제목만 — 본문은 BoardContentStore 로 청크 단위 조회)
+
+    private Long id;
+    private String title;
+}
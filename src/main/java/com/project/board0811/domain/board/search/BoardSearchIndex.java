@@ -0,0 +1,376 @@
+package com.project.board0811.domain.board.search;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문 역색인 (in-process)
+ * - term(bigram) -> posting(boardId 오름차순 + 가중 빈도, 원시 타입 배열) 과 문서별 posting 참조를 유지
+ * - 검색: 질의의 모든 gram 을 포함하는 문서만(AND) BM25 로 점수화, 제목 gram 은 TITLE_WEIGHT 배 가중
+ * - 전체 재색인은 새 Segment 를 만들어 교체하므로 재색인 중에도 기존 색인으로 검색 가능
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Segment active = new Segment();
+    private Segment building;        // 재색인 중인 Segment (없으면 null)
+    private volatile boolean ready;  // 최초 전체 색인 완료 여부 (미완료 시 호출 측은 LIKE 검색으로 대체)
+
+    // ===== 증분 반영 =====
+
+    /** 문서 추가/갱신 (기존 term 은 제거 후 재색인) */
+    public void upsert(Long boardId, String title, String content) {
+        Map<String, Integer> terms = weightedTerms(title, content);
+        lock.writeLock().lock();
+        try {
+            active.put(boardId, terms);
+            if (building != null) {
+                building.put(boardId, terms);
+                building.touched.add(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long boardId) {
+        lock.writeLock().lock();
+        try {
+            active.remove(boardId);
+            if (building != null) {
+                building.remove(boardId);
+                building.touched.add(boardId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 전체 재색인 =====
+
+    /** 재색인 시작: 이후 증분 변경은 기존/신규 Segment 양쪽에 반영 */
+    public void beginRebuild() {
+        lock.writeLock().lock();
+        try {
+            building = new Segment();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 재색인용 문서 적재
+     * - 재색인 시작 이후 증분 이벤트로 이미 반영된 문서는 (DB에서 더 오래된 값을 읽었을 수 있으므로) 건너뜀
+     */
+    public void addForRebuild(Long boardId, String title, String content) {
+        Map<String, Integer> terms = weightedTerms(title, content);
+        lock.writeLock().lock();
+        try {
+            if (building == null) throw new IllegalStateException("재색인이 시작되지 않았습니다.");
+            if (!building.touched.contains(boardId)) {
+                building.put(boardId, terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 재색인 완료: 신규 Segment 로 교체 */
+    public void commitRebuild() {
+        lock.writeLock().lock();
+        try {
+            if (building == null) throw new IllegalStateException("재색인이 시작되지 않았습니다.");
+            building.touched.clear();
+            building.compact();
+            active = building;
+            building = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void abortRebuild() {
+        lock.writeLock().lock();
+        try {
+            building = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // ===== 검색 =====
+
+    /**
+     * 관련도 순 검색
+     * @return 전체 매칭 수 + 요청 구간(offset/limit)의 게시글 id (점수 내림차순, 동점 시 최신 id 우선)
+     */
+    public SearchHits search(String query, long offset, int limit) {
+        Set<String> queryTerms = NGramTokenizer.termFrequencies(query).keySet();
+        if (queryTerms.isEmpty()) return SearchHits.EMPTY;
+
+        lock.readLock().lock();
+        try {
+            return active.search(queryTerms, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /** 질의가 색인 gram 을 만들 수 있는지 (한 글자 질의 등은 불가) */
+    public boolean isSearchable(String query) {
+        return !NGramTokenizer.termFrequencies(query).isEmpty();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int documentCount() {
+        lock.readLock().lock();
+        try {
+            return active.docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return active.postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Map<String, Integer> weightedTerms(String title, String content) {
+        Map<String, Integer> terms = NGramTokenizer.termFrequencies(content);
+        NGramTokenizer.termFrequencies(title)
+                .forEach((term, tf) -> terms.merge(term, tf * TITLE_WEIGHT, Integer::sum));
+        return terms;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SearchHits {
+        static final SearchHits EMPTY = new SearchHits(0, List.of());
+
+        private final long total;
+        private final List<Long> boardIds;
+    }
+
+    /**
+     * 색인 저장 단위 (락은 바깥 BoardSearchIndex 가 관리)
+     * - term -> Posting(boardId 오름차순 long[] + 가중 빈도 int[]), 문서는 자신이 속한 Posting 참조만 보관
+     */
+    private static class Segment {
+        private final Map<String, Posting> postings = new HashMap<>();
+        private final Map<Long, DocEntry> docs = new HashMap<>();
+        private final Set<Long> touched = new HashSet<>();
+        private long totalLength;
+
+        void put(Long boardId, Map<String, Integer> terms) {
+            remove(boardId);
+            Posting[] refs = new Posting[terms.size()];
+            int i = 0;
+            int length = 0;
+            for (Map.Entry<String, Integer> e : terms.entrySet()) {
+                Posting posting = postings.computeIfAbsent(e.getKey(), Posting::new);
+                posting.put(boardId, e.getValue());
+                refs[i++] = posting;
+                length += e.getValue();
+            }
+            docs.put(boardId, new DocEntry(refs, length));
+            totalLength += length;
+        }
+
+        void remove(Long boardId) {
+            DocEntry old = docs.remove(boardId);
+            if (old == null) return;
+            for (Posting posting : old.postings) {
+                posting.remove(boardId);
+                if (posting.isEmpty()) postings.remove(posting.term);
+            }
+            totalLength -= old.length;
+        }
+
+        /** 재색인 완료 시 1회: 삭제 표시 정리 + 배열 여유분 반납 */
+        void compact() {
+            postings.values().forEach(Posting::compact);
+        }
+
+        SearchHits search(Set<String> queryTerms, long offset, int limit) {
+            Posting[] lists = new Posting[queryTerms.size()];
+            int k = 0;
+            for (String term : queryTerms) {
+                Posting posting = postings.get(term);
+                if (posting == null) return SearchHits.EMPTY; // AND 검색: 하나라도 없으면 결과 없음
+                lists[k++] = posting;
+            }
+            Arrays.sort(lists, Comparator.comparingInt(Posting::documentFrequency)); // 가장 짧은 posting 을 기준으로 교집합
+
+            int n = docs.size();
+            double avgLength = n == 0 ? 1 : (double) totalLength / n;
+            double[] idf = new double[lists.length];
+            for (int i = 0; i < lists.length; i++) {
+                int df = lists[i].documentFrequency();
+                idf[i] = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+            }
+
+            // 상위 (offset + limit) 건만 최소 힙으로 유지 → 매칭이 많아도 전체 정렬하지 않음
+            Comparator<ScoredDoc> byRank = Comparator.comparingDouble(ScoredDoc::score)
+                    .thenComparingLong(ScoredDoc::boardId);
+            int keep = (int) Math.min(offset + limit, Integer.MAX_VALUE);
+            PriorityQueue<ScoredDoc> top = new PriorityQueue<>(byRank);
+            long total = 0;
+
+            // 모든 posting 이 id 오름차순이므로 다른 posting 은 커서를 앞으로만 옮기며 탐색 (galloping)
+            int[] cursors = new int[lists.length];
+            int[] tfs = new int[lists.length];
+            Posting lead = lists[0];
+            candidates:
+            for (int p = 0; p < lead.size; p++) {
+                if (lead.tfs[p] == 0) continue; // 삭제 표시
+                long boardId = lead.ids[p];
+                tfs[0] = lead.tfs[p];
+                for (int i = 1; i < lists.length; i++) {
+                    int at = lists[i].seek(boardId, cursors[i]);
+                    cursors[i] = at;
+                    if (at >= lists[i].size) break candidates; // 더 긴 posting 이 끝났으면 이후 후보도 없음
+                    if (lists[i].ids[at] != boardId || lists[i].tfs[at] == 0) continue candidates;
+                    tfs[i] = lists[i].tfs[at];
+                }
+                double lengthNorm = K1 * (1 - B + B * docs.get(boardId).length / avgLength);
+                double score = 0;
+                for (int i = 0; i < lists.length; i++) {
+                    score += idf[i] * (tfs[i] * (K1 + 1)) / (tfs[i] + lengthNorm);
+                }
+                total++;
+                ScoredDoc doc = new ScoredDoc(boardId, score);
+                if (top.size() < keep) {
+                    top.add(doc);
+                } else if (keep > 0 && byRank.compare(doc, top.peek()) > 0) {
+                    top.poll();
+                    top.add(doc);
+                }
+            }
+
+            List<ScoredDoc> ranked = new ArrayList<>(top);
+            ranked.sort(byRank.reversed()); // 점수 내림차순, 동점 시 최신 id 우선
+            int from = (int) Math.min(offset, ranked.size());
+            List<Long> ids = ranked.subList(from, ranked.size()).stream().map(ScoredDoc::boardId).toList();
+            return new SearchHits(total, ids);
+        }
+    }
+
+    /**
+     * term 하나의 posting 목록 (boxing 없는 병렬 배열)
+     * - ids 는 오름차순 — 새 글은 id 가 가장 크므로 대부분 끝에 추가, 재색인도 id 순서로 적재
+     * - 삭제는 tf = 0 으로 표시만 하고 절반 이상이 삭제 표시가 되면 압축 → 수정(삭제 후 재추가)은 같은 칸을 되살림
+     */
+    private static final class Posting {
+        private static final int INITIAL_CAPACITY = 4;
+
+        private final String term;
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int[] tfs = new int[INITIAL_CAPACITY];
+        private int size;
+        private int deleted;
+
+        Posting(String term) {
+            this.term = term;
+        }
+
+        int documentFrequency() {
+            return size - deleted;
+        }
+
+        boolean isEmpty() {
+            return size == deleted;
+        }
+
+        void put(long boardId, int tf) {
+            if (size > 0 && ids[size - 1] < boardId) {
+                append(boardId, tf);
+                return;
+            }
+            int at = Arrays.binarySearch(ids, 0, size, boardId);
+            if (at >= 0) {
+                if (tfs[at] == 0) deleted--;
+                tfs[at] = tf;
+                return;
+            }
+            int insertAt = -at - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            System.arraycopy(tfs, insertAt, tfs, insertAt + 1, size - insertAt);
+            ids[insertAt] = boardId;
+            tfs[insertAt] = tf;
+            size++;
+        }
+
+        void remove(long boardId) {
+            int at = Arrays.binarySearch(ids, 0, size, boardId);
+            if (at < 0 || tfs[at] == 0) return;
+            tfs[at] = 0;
+            deleted++;
+            if (deleted > INITIAL_CAPACITY && deleted * 2 > size) compact();
+        }
+
+        /** from 이후에서 boardId 이상인 첫 위치 (없으면 size) — 지수 탐색으로 범위를 잡은 뒤 이진 탐색 */
+        int seek(long boardId, int from) {
+            int bound = 1;
+            while (from + bound < size && ids[from + bound] < boardId) {
+                bound <<= 1;
+            }
+            int at = Arrays.binarySearch(ids, from + (bound >> 1), Math.min(from + bound + 1, size), boardId);
+            return at >= 0 ? at : -at - 1;
+        }
+
+        void compact() {
+            int live = 0;
+            for (int i = 0; i < size; i++) {
+                if (tfs[i] == 0) continue;
+                ids[live] = ids[i];
+                tfs[live] = tfs[i];
+                live++;
+            }
+            size = live;
+            deleted = 0;
+            int capacity = Math.max(size, INITIAL_CAPACITY);
+            if (ids.length > capacity) {
+                ids = Arrays.copyOf(ids, capacity);
+                tfs = Arrays.copyOf(tfs, capacity);
+            }
+        }
+
+        private void append(long boardId, int tf) {
+            ensureCapacity(size + 1);
+            ids[size] = boardId;
+            tfs[size] = tf;
+            size++;
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= ids.length) return;
+            int capacity = Math.max(required, ids.length + (ids.length >> 1));
+            ids = Arrays.copyOf(ids, capacity);
+            tfs = Arrays.copyOf(tfs, capacity);
+        }
+    }
+
+    private record DocEntry(Posting[] postings, int length) {}
+
+    private record ScoredDoc(long boardId, double score) {}
+}
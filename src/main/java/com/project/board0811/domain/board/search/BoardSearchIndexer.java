@@ -0,0 +1,102 @@
+package com.project.board0811.domain.board.search;
+
+import com.project.board0811.common.concurrent.BackgroundTasks;
+import com.project.board0811.domain.board.content.BoardContentStore;
+import com.project.board0811.domain.board.event.BoardChangedEvent;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 검색 색인 유지 담당
+ * - 게시글 생성/수정/삭제 커밋 후 BoardChangedEvent 로 증분 반영
+ * - 전체 재색인: id keyset 청크 단위로 읽어 새 Segment 를 구축한 뒤 교체 (청크마다 짧은 읽기 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardSearchIndexer {
+
+    private final BoardSearchIndex index;
+    private final BoardRepository boardRepository;
+    private final BoardContentStore boardContentStore;
+    private final TransactionTemplate transactionTemplate;
+    private final BackgroundTasks backgroundTasks;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    @Value("${board.search.rebuild-chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${board.search.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @TransactionalEventListener
+    public void onBoardChanged(BoardChangedEvent event) {
+        if (event.isDeleted()) {
+            index.remove(event.getBoardId());
+        } else {
+            index.upsert(event.getBoardId(), event.getTitle(), event.getContent());
+        }
+    }
+
+    /** 기동 직후 백그라운드에서 최초 색인 (완료 전까지 검색은 LIKE 로 대체됨) */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) return;
+        backgroundTasks.start("board-search-rebuild", this::rebuild);
+    }
+
+    /**
+     * DB 기준 전체 재색인
+     * @return 색인된 문서 수 (이미 재색인 중이면 -1)
+     */
+    public long rebuild() {
+        if (!rebuildLock.tryLock()) return -1;
+        try {
+            long startedAt = System.currentTimeMillis();
+            index.beginRebuild();
+
+            long indexed = 0;
+            long lastId = 0L;
+            while (true) {
+                final long after = lastId;
+                Chunk chunk = transactionTemplate.execute(status -> {
+                    List<BoardSearchDocument> docs = boardRepository.findSearchDocumentsAfter(after, chunkSize);
+                    return new Chunk(docs, boardContentStore.readAll(
+                            docs.stream().map(BoardSearchDocument::getId).toList()));
+                });
+                if (chunk == null || chunk.docs().isEmpty()) break;
+
+                for (BoardSearchDocument doc : chunk.docs()) {
+                    index.addForRebuild(doc.getId(), doc.getTitle(), chunk.contents().get(doc.getId()));
+                }
+                indexed += chunk.docs().size();
+                lastId = chunk.docs().get(chunk.docs().size() - 1).getId();
+            }
+
+            index.commitRebuild();
+            log.info("[BoardSearch] rebuilt index: {} documents, {} terms in {}ms",
+                    indexed, index.termCount(), System.currentTimeMillis() - startedAt);
+            return indexed;
+        } catch (RuntimeException e) {
+            index.abortRebuild();
+            log.error("[BoardSearch] rebuild failed - {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    private record Chunk(List<BoardSearchDocument> docs, Map<Long, String> contents) {}
+}
@@ -0,0 +1,40 @@
+package com.project.board0811.domain.board.search;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 2-gram(bigram) 토크나이저
+ * - 한국어는 띄어쓰기/조사 때문에 형태소 분석 없이 단어 단위로 자르면 부분 검색이 안 되므로 글자 단위 bigram 사용
+ * - NFKC 정규화 + 소문자화 후 문자/숫자 연속 구간마다 bigram 생성 (한 글자 구간은 버림)
+ *   예) "스프링 게시판" → [스프, 프링, 게시, 시판]
+ */
+public final class NGramTokenizer {
+
+    public static final int GRAM_SIZE = 2;
+
+    private NGramTokenizer() {}
+
+    /** gram -> 출현 횟수 */
+    public static Map<String, Integer> termFrequencies(String text) {
+        Map<String, Integer> freq = new HashMap<>();
+        if (text == null || text.isEmpty()) return freq;
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int runStart = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean inRun = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (inRun && runStart < 0) {
+                runStart = i;
+            } else if (!inRun && runStart >= 0) {
+                for (int j = runStart; j + GRAM_SIZE <= i; j++) {
+                    freq.merge(normalized.substring(j, j + GRAM_SIZE), 1, Integer::sum);
+                }
+                runStart = -1;
+            }
+        }
+        return freq;
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.common.http.ETagBuilder;
+import com.project.board0811.common.paging.PageResponse;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.dto.response.BoardVersionView;
+import org.springframework.data.domain.Page;
+
+/**
+ * 게시글 응답 ETag 계산
+ * - 단건: id + @Version (수정/삭제 시 증가). 조회수는 근사값(버퍼 반영 지연)이므로 제외 → 약한 ETag
+ * - 목록: 전체 건수 + 페이지 행별 (id, version, commentCount)
+ * - 응답 DTO 기준과 버전 전용 쿼리 기준이 같은 값을 같은 순서로 누적하도록 한 곳에 모아 둠
+ */
+public final class BoardETags {
+
+    private BoardETags() {
+    }
+
+    public static String detail(Long boardId, Long version) {
+        return ETagBuilder.of("b" + boardId).add(version).build();
+    }
+
+    public static String list(PageResponse<BoardSummaryResponseDto> page) {
+        ETagBuilder builder = ETagBuilder.of("bl").add(page.getTotalElements());
+        for (BoardSummaryResponseDto row : page.getContent()) {
+            builder.add(row.getId()).add(row.getVersion()).add(row.getCommentCount());
+        }
+        return builder.build();
+    }
+
+    public static String list(Page<BoardVersionView> versions) {
+        ETagBuilder builder = ETagBuilder.of("bl").add(versions.getTotalElements());
+        for (BoardVersionView row : versions.getContent()) {
+            builder.add(row.getId()).add(row.getVersion()).add(row.getCommentCount());
+        }
+        return builder.build();
+    }
+}
@@ -1,36 +1,60 @@
 package com.project.board0811.domain.board.service;
 
+import com.project.board0811.common.paging.CursorPageResponse;
+import com.project.board0811.common.paging.CursorRequestDto;
 import com.project.board0811.common.paging.PageRequestDto;
 import com.project.board0811.common.paging.PageResponse;
 import com.project.board0811.domain.board.enums.BoardCategory;
 import com.project.board0811.domain.board.dto.request.BoardCreateRequestDto;
 import com.project.board0811.domain.board.dto.request.BoardUpdateRequestDto;
+import com.project.board0811.domain.board.dto.response.BoardDetailVersionView;
 import com.project.board0811.domain.board.dto.response.BoardResponseDto;
 import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.ranking.RankingType;
+
+import java.util.List;
 
 public interface BoardService {
 
     /** 게시글 생성 */
     BoardResponseDto create(Long authorId, BoardCreateRequestDto request);
 
-    /** 단건 조회 (삭제글 제외) */
+    /** 단건 조회 (삭제글 제외, 인기 글은 캐시에서 응답) */
     BoardResponseDto get(Long id);
 
+    /** 단건 조건부 조회용 버전 (캐시에 있으면 쿼리 없음, 없으면 버전 컬럼만 조회 / 삭제글은 BOARD_NOT_FOUND) */
+    BoardDetailVersionView getVersion(Long id);
+
+    /** 목록 조건부 조회용 ETag (list 와 같은 조건/페이지의 버전 컬럼만 조회) */
+    String listETag(PageRequestDto pageReq, BoardCategory category);
+
     /** 목록 조회 (카테고리 필터 선택) */
     PageResponse<BoardSummaryResponseDto> list(PageRequestDto pageReq, BoardCategory category);
 
+    /** 목록 조회 — 커서(keyset) 방식, count 쿼리 없음 */
+    CursorPageResponse<BoardSummaryResponseDto> listByCursor(CursorRequestDto cursorReq, BoardCategory category);
+
+    /** 제목/본문 전문 검색 — 관련도 순 (색인 준비 전 또는 한 글자 질의는 제목 LIKE 검색으로 대체) */
+    PageResponse<BoardSummaryResponseDto> search(String keyword, PageRequestDto pageReq);
+
+    /** 인기/급상승 목록 — 메모리 랭킹 상위 size 건 (size 는 board.ranking.top-k 이하, 카테고리 필터 선택) */
+    List<BoardSummaryResponseDto> ranking(RankingType type, BoardCategory category, int size);
+
     /** 제목 키워드 검색 (삭제글 제외) */
     PageResponse<BoardSummaryResponseDto> searchByTitle(String keyword, PageRequestDto pageReq);
 
     /** 작성자 기준 목록 (삭제글 제외) */
     PageResponse<BoardSummaryResponseDto> listByAuthor(Long authorId, PageRequestDto pageReq);
 
+    /** 작성자 기준 목록 — 커서(keyset) 방식 (삭제글 제외) */
+    CursorPageResponse<BoardSummaryResponseDto> listByAuthorCursor(Long authorId, CursorRequestDto cursorReq);
+
     /** 게시글 수정 (소유자 또는 관리자 권한 체크는 구현체에서 처리) */
     BoardResponseDto update(Long id, Long editorUserId, BoardUpdateRequestDto request);
 
     /** 소프트 삭제 */
     void delete(Long id, Long requesterUserId);
 
-    /** 조회수 +1 (성공 시 true 반환하도록 해도 됨) */
+    /** 조회수 +1 (메모리에 누적 후 주기적으로 일괄 반영, 최대 지연 = board.view-count.flush-interval-ms) */
     void increaseViewCount(Long id);
 }
@@ -1,26 +1,51 @@
 package com.project.board0811.domain.board.service;
 
+import com.project.board0811.common.concurrent.ReadCoalescer;
 import com.project.board0811.common.exception.CustomException;
 import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.common.paging.CursorPageResponse;
+import com.project.board0811.common.paging.CursorRequestDto;
+import com.project.board0811.common.paging.KeysetCursor;
 import com.project.board0811.common.paging.PageConverters;
 import com.project.board0811.common.paging.PageRequestDto;
 import com.project.board0811.common.paging.PageResponse;
+import com.project.board0811.common.paging.SortPolicy;
+import com.project.board0811.domain.board.cache.BoardDetailCache;
+import com.project.board0811.domain.board.content.BoardContentStore;
 import com.project.board0811.domain.board.entity.Board;
 import com.project.board0811.domain.user.entity.User;
 import com.project.board0811.domain.board.enums.BoardCategory;
 import com.project.board0811.domain.board.enums.BoardStatus;
-import com.project.board0811.domain.user.enums.UserRole;
 import com.project.board0811.domain.board.dto.request.BoardCreateRequestDto;
+import com.project.board0811.domain.board.dto.request.BoardSearchCondition;
 import com.project.board0811.domain.board.dto.request.BoardUpdateRequestDto;
+import com.project.board0811.domain.board.dto.response.BoardDetailVersionView;
 import com.project.board0811.domain.board.dto.response.BoardResponseDto;
 import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.event.BoardChangedEvent;
+import com.project.board0811.domain.board.ranking.BoardRanking;
+import com.project.board0811.domain.board.ranking.RankingType;
 import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.board.search.BoardSearchIndex;
+import com.project.board0811.domain.user.dto.response.UserAuthView;
 import com.project.board0811.domain.user.repository.UserRepository;
+import com.project.board0811.domain.user.service.ActorResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional
@@ -28,6 +53,14 @@ public class BoardServiceImpl implements BoardService {
 
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ActorResolver actorResolver;
+    private final ViewCountAggregator viewCountAggregator;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardRanking boardRanking;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardContentStore boardContentStore;
+    private final ReadCoalescer readCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ====== Create ======
     @Override
@@ -37,52 +70,120 @@ public class BoardServiceImpl implements BoardService {
 
         Board board = request.toEntity(author);
         Board saved = boardRepository.save(board);
-        return BoardResponseDto.from(saved);
+        boardContentStore.create(saved, request.getContent());
+        eventPublisher.publishEvent(BoardChangedEvent.created(saved, request.getContent()));
+        return BoardResponseDto.from(saved, request.getContent());
     }
 
     // ====== Read One ======
-    @Transactional(readOnly = true)
+    // 캐시 적중은 트랜잭션 없이 반환, 미스는 같은 id 의 동시 조회를 하나의 readOnly 트랜잭션 조회로 합침 (ReadCoalescer)
+    // 캐시에 적재할 조회이므로 replica 가 아닌 primary 에서 읽음 — 지연된 replica 의 옛 행이 TTL 동안 캐시되지 않도록
+    // 본문은 게시글(작성자 페치 조인) 조회 후 board_content 를 PK 로 한 번 더 읽음 — 본문이 필요한 곳은 여기뿐
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     @Override
     public BoardResponseDto get(Long id) {
-        Board board = findActiveBoardOrThrow(id);
-        return BoardResponseDto.from(board);
+        BoardResponseDto cached = boardDetailCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        return readCoalescer.load("board.get", List.of(id), true, () -> {
+            long generation = boardDetailCache.generation(id); // 조회 도중 쓰기 커밋 여부 판별용
+            Board board = findActiveBoardOrThrow(id);
+            BoardResponseDto loaded = BoardResponseDto.from(board, boardContentStore.read(id));
+            boardDetailCache.put(id, loaded, generation);
+            return loaded;
+        });
+    }
+
+    // ====== Version (Conditional GET) ======
+    @Transactional(readOnly = true)
+    @Override
+    public BoardDetailVersionView getVersion(Long id) {
+        BoardResponseDto cached = boardDetailCache.getIfPresent(id);
+        if (cached != null) {
+            return new BoardDetailVersionView(cached.getId(), cached.getVersion(), cached.getUpdatedAt());
+        }
+        return boardRepository.findActiveVersionById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String listETag(PageRequestDto pageReq, BoardCategory category) {
+        if (pageReq.resolveSort(BoardSorts.LIST).routed()) {
+            return BoardETags.list(list(pageReq, category)); // 랭킹 목록은 버전 전용 쿼리 없이 응답 기준으로
+        }
+        BoardSearchCondition condition = BoardSearchCondition.builder().category(category).build();
+        return BoardETags.list(boardRepository.findVersionPage(condition, pageReq.toPageable(BoardSorts.LIST)));
     }
 
     // ====== List ======
     @Transactional(readOnly = true)
     @Override
     public PageResponse<BoardSummaryResponseDto> list(PageRequestDto pageReq, BoardCategory category) {
-        var pageable = pageReq.toPageable();
-        Page<Board> page = (category == null)
-                ? boardRepository.findAllByStatusNot(BoardStatus.DELETED, pageable)
-                : boardRepository.findByStatusAndCategory(BoardStatus.PUBLIC, category, pageable);
+        SortPolicy.ResolvedSort sort = pageReq.resolveSort(BoardSorts.LIST);
+        if (sort.routed()) {
+            return rankedPage(BoardSorts.ranking(sort), category, pageReq, sort);
+        }
+        return findSummaryPage(BoardSearchCondition.builder().category(category).build(), pageReq, BoardSorts.LIST);
+    }
+
+    // ====== List (Cursor) ======
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<BoardSummaryResponseDto> listByCursor(CursorRequestDto cursorReq, BoardCategory category) {
+        return findByCursor(BoardSearchCondition.builder().category(category).build(), cursorReq);
+    }
+
+    // ====== Full-text Search ======
+    @Transactional(readOnly = true)
+    @Override
+    public PageResponse<BoardSummaryResponseDto> search(String keyword, PageRequestDto pageReq) {
+        if (!boardSearchIndex.isReady() || !boardSearchIndex.isSearchable(keyword)) {
+            return searchByTitle(keyword, pageReq);
+        }
+
+        var pageable = PageRequest.of(pageReq.getPage(), pageReq.getSize()); // 관련도 순 고정 — sort 파라미터 미사용
+        BoardSearchIndex.SearchHits hits = boardSearchIndex.search(
+                keyword, pageable.getOffset(), pageable.getPageSize());
+
+        // 색인이 준 관련도 순서대로 요약 DTO 재정렬
+        List<BoardSummaryResponseDto> content = summariesInOrder(hits.getBoardIds());
+
+        Page<BoardSummaryResponseDto> page = new PageImpl<>(content, pageable, hits.getTotal());
+        return PageConverters.toResponse(page, Function.identity(), "relevance", "desc");
+    }
 
-        return PageConverters.toResponse(page, BoardSummaryResponseDto::from,
-                pageReq.getSort(), pageReq.getDirection());
+    // ====== Ranking (Hot / Trending) ======
+    @Transactional(readOnly = true)
+    @Override
+    public List<BoardSummaryResponseDto> ranking(RankingType type, BoardCategory category, int size) {
+        if (size < 1) {
+            throw new CustomException(ErrorCode.INVALID_ARGUMENT);
+        }
+        return summariesInOrder(boardRanking.top(type, category, size));
     }
 
     // ====== Search by Title ======
     @Transactional(readOnly = true)
     @Override
     public PageResponse<BoardSummaryResponseDto> searchByTitle(String keyword, PageRequestDto pageReq) {
-        var pageable = pageReq.toPageable();
-        Page<Board> page = boardRepository.findByTitleContainingIgnoreCaseAndStatusNot(
-                keyword, BoardStatus.DELETED, pageable);
-
-        return PageConverters.toResponse(page, BoardSummaryResponseDto::from,
-                pageReq.getSort(), pageReq.getDirection());
+        return findSummaryPage(BoardSearchCondition.builder().titleKeyword(keyword).build(), pageReq, BoardSorts.FILTERED);
     }
 
     // ====== List by Author ======
     @Transactional(readOnly = true)
     @Override
     public PageResponse<BoardSummaryResponseDto> listByAuthor(Long authorId, PageRequestDto pageReq) {
-        var pageable = pageReq.toPageable();
-        Page<Board> page = boardRepository.findByAuthor_IdAndStatusNot(
-                authorId, BoardStatus.DELETED, pageable);
+        return findSummaryPage(BoardSearchCondition.builder().authorId(authorId).build(), pageReq, BoardSorts.FILTERED);
+    }
 
-        return PageConverters.toResponse(page, BoardSummaryResponseDto::from,
-                pageReq.getSort(), pageReq.getDirection());
+    // ====== List by Author (Cursor) ======
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPageResponse<BoardSummaryResponseDto> listByAuthorCursor(Long authorId, CursorRequestDto cursorReq) {
+        return findByCursor(BoardSearchCondition.builder().authorId(authorId).build(), cursorReq);
     }
 
     // ====== Update ======
@@ -90,41 +191,50 @@ public class BoardServiceImpl implements BoardService {
     public BoardResponseDto update(Long id, Long editorUserId, BoardUpdateRequestDto request) {
         Board board = findActiveBoardOrThrow(id);
 
-        User editor = userRepository.findById(editorUserId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        UserAuthView editor = actorResolver.resolve(editorUserId, board.getAuthor()); // 본인 글이면 조회 없음
 
         checkOwnershipOrAdmin(board, editor); // 권한 체크 → FORBIDDEN
 
         request.applyTo(board); // 엔티티 update 호출
-        return BoardResponseDto.from(board);
+
+        String content;
+        if (request.hasContent()) {
+            content = request.getContent();
+            boardContentStore.replace(board, content);
+            board.markContentChanged();
+        } else {
+            content = boardContentStore.read(id); // 응답/검색 색인용 현재 본문
+        }
+        eventPublisher.publishEvent(BoardChangedEvent.updated(board, content));
+        return BoardResponseDto.from(board, content);
     }
 
     // ====== Soft Delete ======
+    // 존재/미삭제/권한 검사를 조건절에 넣은 단일 UPDATE (행위자 조회 1회 + UPDATE 1회)
     @Override
     public void delete(Long id, Long requesterUserId) {
-        Board board = boardRepository.findWithAuthorById(id)
-                .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+        UserAuthView requester = actorResolver.resolve(requesterUserId);
 
-        User requester = userRepository.findById(requesterUserId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        checkOwnershipOrAdmin(board, requester);
-
-        // 상태 전환 + deletedAt 기록 (쿼리)
-        int updatedRows = boardRepository.softDeleteById(id, BoardStatus.DELETED);
+        int updatedRows = boardRepository.softDeleteIfPermitted(
+                id, requester.getId(), requester.isAdmin(), LocalDateTime.now());
         if (updatedRows == 0) {
-            // 이미 삭제되었거나 대상 아님 → 논리적으로는 Not Found 취급
-            throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
+            // 실패 경로에서만 원인 구분: 없음/이미 삭제 → NOT_FOUND, 남의 글 → FORBIDDEN
+            throw boardRepository.findActiveAuthorId(id)
+                    .map(authorId -> new CustomException(ErrorCode.FORBIDDEN))
+                    .orElseGet(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
         }
+        eventPublisher.publishEvent(BoardChangedEvent.deleted(id));
     }
 
     // ====== Increase View Count ======
+    // 행 UPDATE(행 락) 대신 존재 여부만 PK로 확인하고 증분은 메모리에 누적 → ViewCountAggregator 가 주기적으로 일괄 반영
+    @Transactional(readOnly = true)
     @Override
     public void increaseViewCount(Long id) {
-        int updated = boardRepository.increaseViewCount(id);
-        if (updated == 0) {
+        if (!boardRepository.existsById(id)) {
             throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
         }
+        viewCountAggregator.record(id);
     }
 
     // ====== Helpers ======
@@ -135,10 +245,69 @@ public class BoardServiceImpl implements BoardService {
                 .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
     }
 
-    protected void checkOwnershipOrAdmin(Board board, User actor) {
+    // 요약 DTO를 리포지토리에서 바로 받아 페이지 응답으로 변환 (내용 1회 + count 1회)
+    private PageResponse<BoardSummaryResponseDto> findSummaryPage(BoardSearchCondition condition,
+                                                                  PageRequestDto pageReq,
+                                                                  SortPolicy policy) {
+        SortPolicy.ResolvedSort sort = pageReq.resolveSort(policy);
+        Page<BoardSummaryResponseDto> page = boardRepository.findSummaryPage(
+                condition, PageRequest.of(pageReq.getPage(), pageReq.getSize(), sort.sort()));
+        return PageConverters.toResponse(page, Function.identity(), sort.key(), sort.directionName());
+    }
+
+    // 랭킹 상위 K 안에서 페이지를 잘라 응답 (DB 정렬 없이 id 목록 조회 1회, 전체 건수 = 랭킹 길이)
+    private PageResponse<BoardSummaryResponseDto> rankedPage(RankingType type, BoardCategory category,
+                                                             PageRequestDto pageReq, SortPolicy.ResolvedSort sort) {
+        List<Long> ranked = boardRanking.top(type, category, Integer.MAX_VALUE);
+        int from = (int) Math.min((long) pageReq.getPage() * pageReq.getSize(), ranked.size());
+        int to = Math.min(from + pageReq.getSize(), ranked.size());
+
+        List<BoardSummaryResponseDto> content = summariesInOrder(ranked.subList(from, to));
+        Page<BoardSummaryResponseDto> page = new PageImpl<>(
+                content, PageRequest.of(pageReq.getPage(), pageReq.getSize()), ranked.size());
+        return PageConverters.toResponse(page, Function.identity(), sort.key(), "desc");
+    }
+
+    // 주어진 id 순서대로 요약 DTO 재정렬 (반영 전 삭제된 글은 조회 단계에서 빠짐)
+    private List<BoardSummaryResponseDto> summariesInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, BoardSummaryResponseDto> byId = boardRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(BoardSummaryResponseDto::getId, Function.identity()));
+        return ids.stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // size + 1 건을 조회해 다음 페이지 존재 여부를 판단 (count 쿼리 없이)
+    private CursorPageResponse<BoardSummaryResponseDto> findByCursor(BoardSearchCondition condition,
+                                                                     CursorRequestDto cursorReq) {
+        int size = cursorReq.getSize();
+        List<BoardSummaryResponseDto> rows = boardRepository.findSummaryKeysetPage(
+                condition, KeysetCursor.decode(cursorReq.getCursor()), size + 1);
+
+        boolean hasNext = rows.size() > size;
+        List<BoardSummaryResponseDto> content = hasNext ? rows.subList(0, size) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BoardSummaryResponseDto last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.of(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return CursorPageResponse.<BoardSummaryResponseDto>builder()
+                .content(List.copyOf(content))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    protected void checkOwnershipOrAdmin(Board board, UserAuthView actor) {
         boolean isOwner = board.getAuthor().getId().equals(actor.getId());
-        boolean isAdmin = actor.getRole() == UserRole.ROLE_ADMIN;
-        if (!isOwner && !isAdmin) {
+        if (!isOwner && !actor.isAdmin()) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
     }
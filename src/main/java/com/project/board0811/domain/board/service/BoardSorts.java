@@ -0,0 +1,35 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.common.paging.SortPolicy;
+import com.project.board0811.domain.board.ranking.RankingType;
+
+import java.util.Locale;
+
+/**
+ * 게시글 목록 정렬 정책
+ * - createdAt(+id): 카테고리 (status, category, created_at) / 전체 (created_at, id, status) /
+ *   작성자 (author_id, created_at, id, status) 인덱스 순서 그대로
+ * - hot / trending: DB 정렬 없이 인기 랭킹(BoardRanking) 상위 K 에서 페이지 응답 (카테고리/전체 목록만, desc 만 허용)
+ * - viewCount, title 등 인덱스 없는 정렬은 거부 (조회수 컬럼은 flush 마다 갱신되어 인덱스를 두지 않음 — 인기순은 hot)
+ */
+public final class BoardSorts {
+
+    private BoardSorts() {}
+
+    /** 카테고리/전체 목록 */
+    public static final SortPolicy LIST = SortPolicy.builder("createdAt")
+            .indexed("createdAt")
+            .routed("hot")
+            .routed("trending")
+            .build();
+
+    /** 작성자/제목 검색 목록 (랭킹 라우팅 없음) */
+    public static final SortPolicy FILTERED = SortPolicy.builder("createdAt")
+            .indexed("createdAt")
+            .build();
+
+    /** ROUTED 키에 대응하는 랭킹 */
+    static RankingType ranking(SortPolicy.ResolvedSort sort) {
+        return RankingType.valueOf(sort.key().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * board.comment_count 드리프트 보정 작업
+ * - 게시글을 id keyset 청크로 훑으며 청크마다 "저장된 값"과 "실제 활성 댓글 수(GROUP BY 1회)"를 비교
+ * - 불일치 행만 조건부 UPDATE(저장 값이 그대로일 때만)로 교체 → 동시 댓글 작성과 경합해도 값을 덮어쓰지 않음
+ * - 청크마다 짧은 트랜잭션을 사용하므로 테이블 락/장기 트랜잭션 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    @Value("${board.comment-count.reconcile-chunk-size:500}")
+    private int chunkSize;
+
+    @Scheduled(cron = "${board.comment-count.reconcile-cron:0 30 4 * * *}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    /**
+     * 전체 게시글 보정
+     * @return 보정된 게시글 수 (이미 실행 중이면 -1)
+     */
+    public long reconcile() {
+        if (!runLock.tryLock()) return -1;
+        try {
+            long startedAt = System.currentTimeMillis();
+            long scanned = 0;
+            long corrected = 0;
+            long lastId = 0L;
+
+            while (true) {
+                final long after = lastId;
+                ChunkResult result = transactionTemplate.execute(status -> reconcileChunk(after));
+                if (result == null || result.scanned() == 0) break;
+
+                scanned += result.scanned();
+                corrected += result.corrected();
+                lastId = result.lastId();
+            }
+
+            log.info("[CommentCount] reconciled {} boards, corrected {} in {}ms",
+                    scanned, corrected, System.currentTimeMillis() - startedAt);
+            return corrected;
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private ChunkResult reconcileChunk(long afterId) {
+        Map<Long, Integer> stored = boardRepository.findCommentCountsAfter(afterId, chunkSize);
+        if (stored.isEmpty()) return new ChunkResult(afterId, 0, 0);
+
+        Map<Long, Long> actual = commentRepository.countActiveByBoardIds(stored.keySet());
+
+        int corrected = 0;
+        long lastId = afterId;
+        for (Map.Entry<Long, Integer> e : stored.entrySet()) {
+            int actualCount = Math.toIntExact(actual.getOrDefault(e.getKey(), 0L));
+            if (actualCount != e.getValue()) {
+                corrected += boardRepository.correctCommentCount(e.getKey(), e.getValue(), actualCount);
+            }
+            lastId = e.getKey(); // id 오름차순
+        }
+        return new ChunkResult(lastId, stored.size(), corrected);
+    }
+
+    private record ChunkResult(long lastId, int scanned, int corrected) {}
+}
@@ -0,0 +1,358 @@
+package com.project.board0811.domain.board.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.common.id.IdRangeAllocator;
+import com.project.board0811.domain.board.content.BoardContentCodec;
+import com.project.board0811.domain.board.content.BoardContentStore;
+import com.project.board0811.domain.board.dto.request.ThreadImportLineDto;
+import com.project.board0811.domain.board.dto.request.ThreadImportLineDto.CommentLine;
+import com.project.board0811.domain.board.dto.response.ThreadImportResultDto;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.search.BoardSearchIndex;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.user.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 타 게시판 스레드(게시글 + 댓글 트리) 대량 이관
+ * - NDJSON 을 한 줄씩 읽어 batch-rows 만큼 모이면 한 트랜잭션에서 JDBC 배치 INSERT (엔티티/영속성 컨텍스트 미사용)
+ * - id 는 IdRangeAllocator 로 구간 선할당 → 답글의 parent_id 를 INSERT 전에 결정
+ * - 검증 규칙은 Comment.newRoot/newReply 와 동일 (내용 공백/길이, 작성자 필수, 답글 depth=1)
+ * - 잘못된 줄은 건너뛰고 줄 번호/에러 코드를 결과에 기록, 배치 실패 시 해당 배치의 줄만 실패 처리
+ * - DELETED 로 이관된 게시글은 Board.softDelete 와 같이 deleted_at 을 채움 (원본 삭제 시각이 없어 이관 시각)
+ * - 댓글 likeCount 는 원본 게시판의 표시용 스냅샷 — comment_likes 행은 만들지 않음 (누가 눌렀는지 없음, 이관 후 좋아요는 그 위에 가감)
+ */
+@Slf4j
+@Service
+public class ThreadImportService {
+
+    private static final String BOARD_SEQUENCE = "board";
+    private static final String COMMENT_SEQUENCE = "comments";
+    private static final int MAX_TITLE_LENGTH = 150;
+    private static final int MAX_REPORTED_FAILURES = 100;
+
+    private static final String INSERT_BOARD = """
+            insert into board (id, author_id, title, category, status, view_count, comment_count,
+                               version, created_at, updated_at, deleted_at)
+            values (?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?)
+            """;
+    private static final int[] BOARD_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.VARCHAR, Types.VARCHAR,
+            Types.INTEGER, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+    private static final String INSERT_BOARD_CONTENT =
+            "insert into board_content (board_id, encoding, original_length, body) values (?, ?, ?, ?)";
+    private static final int[] BOARD_CONTENT_TYPES = {Types.BIGINT, Types.VARCHAR, Types.INTEGER, Types.VARBINARY};
+    private static final String INSERT_COMMENT = """
+            insert into comments (id, board_id, user_id, parent_id, content, depth, is_deleted, like_count,
+                                  created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+    private static final int[] COMMENT_TYPES = {
+            Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.BIGINT, Types.VARCHAR, Types.INTEGER,
+            Types.BOOLEAN, Types.INTEGER, Types.TIMESTAMP, Types.TIMESTAMP
+    };
+
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final IdRangeAllocator idRangeAllocator;
+    private final UserRepository userRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final BoardContentStore boardContentStore;
+    private final int batchRows;
+
+    public ThreadImportService(ObjectMapper objectMapper,
+                               JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               IdRangeAllocator idRangeAllocator,
+                               UserRepository userRepository,
+                               BoardSearchIndex boardSearchIndex,
+                               BoardContentStore boardContentStore,
+                               @Value("${board.import.batch-rows:2000}") int batchRows) {
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.idRangeAllocator = idRangeAllocator;
+        this.userRepository = userRepository;
+        this.boardSearchIndex = boardSearchIndex;
+        this.boardContentStore = boardContentStore;
+        this.batchRows = batchRows;
+    }
+
+    /**
+     * NDJSON(UTF-8) 스트림 이관 — 호출 측 트랜잭션 없이 호출 (배치마다 자체 트랜잭션)
+     */
+    public ThreadImportResultDto importThreads(InputStream ndjson) {
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+        List<PendingThread> batch = new ArrayList<>();
+        int rowsInBatch = 0;
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(ndjson, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) continue;
+                progress.lines++;
+
+                PendingThread thread = parseAndValidate(lineNo, line, progress);
+                if (thread == null) continue;
+
+                batch.add(thread);
+                rowsInBatch += thread.rowCount();
+                if (rowsInBatch >= batchRows) {
+                    writeBatch(batch, progress);
+                    batch = new ArrayList<>();
+                    rowsInBatch = 0;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch, progress);
+        }
+
+        long elapsedNanos = Math.max(1, System.nanoTime() - started);
+        long rows = progress.boards + progress.comments;
+        double rowsPerSecond = rows / (elapsedNanos / 1e9);
+        log.info("[ThreadImport] lines={}, boards={}, comments={}, failed={}, {} rows/s",
+                progress.lines, progress.boards, progress.comments, progress.failed, Math.round(rowsPerSecond));
+
+        return ThreadImportResultDto.builder()
+                .lines(progress.lines)
+                .importedBoards(progress.boards)
+                .importedComments(progress.comments)
+                .failedLines(progress.failed)
+                .failures(List.copyOf(progress.failures))
+                .elapsedMs(elapsedNanos / 1_000_000)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    // ===== 파싱/검증 =====
+
+    private PendingThread parseAndValidate(long lineNo, String line, Progress progress) {
+        try {
+            ThreadImportLineDto dto = objectMapper.readValue(line, ThreadImportLineDto.class);
+            validate(dto);
+            return new PendingThread(lineNo, dto, countComments(dto));
+        } catch (JsonProcessingException e) {
+            progress.fail(lineNo, ErrorCode.INVALID_JSON.getCode(), ErrorCode.INVALID_JSON.getMessage());
+        } catch (CustomException e) {
+            progress.fail(lineNo, e.getErrorCode().getCode(), e.getMessage());
+        }
+        return null;
+    }
+
+    private void validate(ThreadImportLineDto dto) {
+        if (dto.getAuthorId() == null) throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        if (dto.getTitle() == null || dto.getTitle().isBlank() || dto.getTitle().length() > MAX_TITLE_LENGTH) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "제목은 1~" + MAX_TITLE_LENGTH + "자여야 합니다.");
+        }
+        if (dto.getContent() == null || dto.getContent().isBlank()) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "본문은 비어 있을 수 없습니다.");
+        }
+        for (CommentLine root : nullSafe(dto.getComments())) {
+            validateComment(root);
+            for (CommentLine reply : nullSafe(root.getReplies())) {
+                validateComment(reply);
+                if (!nullSafe(reply.getReplies()).isEmpty()) {
+                    throw new CustomException(ErrorCode.COMMENT_INVALID_DEPTH); // 답글의 답글 불가
+                }
+            }
+        }
+    }
+
+    // Comment.newRoot/newReply 와 같은 규칙 (게시글은 구조상 항상 존재)
+    private static void validateComment(CommentLine comment) {
+        if (comment.getAuthorId() == null) throw new CustomException(ErrorCode.COMMENT_AUTHOR_REQUIRED);
+        Comment.validateContent(comment.getContent());
+        if (comment.getLikeCount() != null && comment.getLikeCount() < 0) {
+            throw new CustomException(ErrorCode.VALIDATION_ERROR, "좋아요 수는 0 이상이어야 합니다.");
+        }
+    }
+
+    private static int countComments(ThreadImportLineDto dto) {
+        int count = 0;
+        for (CommentLine root : nullSafe(dto.getComments())) {
+            count += 1 + nullSafe(root.getReplies()).size();
+        }
+        return count;
+    }
+
+    // ===== 배치 쓰기 =====
+
+    private void writeBatch(List<PendingThread> batch, Progress progress) {
+        List<PendingThread> accepted = rejectUnknownAuthors(batch, progress);
+        if (accepted.isEmpty()) return;
+
+        int commentTotal = accepted.stream().mapToInt(PendingThread::comments).sum();
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(accepted, commentTotal));
+        } catch (RuntimeException e) {
+            log.error("[ThreadImport] batch of {} threads failed - {}", accepted.size(), e.getMessage());
+            for (PendingThread thread : accepted) {
+                progress.fail(thread.lineNo(), ErrorCode.INTERNAL_SERVER_ERROR.getCode(), "배치 저장 실패");
+            }
+            return;
+        }
+
+        progress.boards += accepted.size();
+        progress.comments += commentTotal;
+        for (PendingThread thread : accepted) {
+            if (thread.status() != BoardStatus.DELETED) {
+                boardSearchIndex.upsert(thread.boardId, thread.dto().getTitle(), thread.dto().getContent());
+            }
+        }
+    }
+
+    private List<PendingThread> rejectUnknownAuthors(List<PendingThread> batch, Progress progress) {
+        Set<Long> authorIds = new HashSet<>();
+        for (PendingThread thread : batch) thread.collectAuthorIds(authorIds);
+        Set<Long> existing = new HashSet<>(userRepository.findExistingIds(authorIds));
+
+        List<PendingThread> accepted = new ArrayList<>(batch.size());
+        for (PendingThread thread : batch) {
+            Set<Long> ids = new HashSet<>();
+            thread.collectAuthorIds(ids);
+            if (existing.containsAll(ids)) {
+                accepted.add(thread);
+            } else {
+                progress.fail(thread.lineNo(), ErrorCode.USER_NOT_FOUND.getCode(), ErrorCode.USER_NOT_FOUND.getMessage());
+            }
+        }
+        return accepted;
+    }
+
+    private void insert(List<PendingThread> threads, int commentTotal) {
+        long nextBoardId = idRangeAllocator.allocate(BOARD_SEQUENCE, threads.size());
+        long nextCommentId = commentTotal > 0 ? idRangeAllocator.allocate(COMMENT_SEQUENCE, commentTotal) : 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> boardRows = new ArrayList<>(threads.size());
+        List<Object[]> contentRows = new ArrayList<>(threads.size());
+        List<Object[]> commentRows = new ArrayList<>(commentTotal);
+        for (PendingThread thread : threads) {
+            ThreadImportLineDto dto = thread.dto();
+            long boardId = nextBoardId++;
+            thread.boardId = boardId;
+            Timestamp boardCreatedAt = Timestamp.valueOf(dto.getCreatedAt() != null ? dto.getCreatedAt() : now);
+
+            int activeComments = 0;
+            for (CommentLine root : nullSafe(dto.getComments())) {
+                long rootId = nextCommentId++;
+                commentRows.add(commentRow(rootId, boardId, null, 0, root, boardCreatedAt));
+                if (!root.isDeleted()) activeComments++;
+                for (CommentLine reply : nullSafe(root.getReplies())) {
+                    commentRows.add(commentRow(nextCommentId++, boardId, rootId, 1, reply, boardCreatedAt));
+                    if (!reply.isDeleted()) activeComments++;
+                }
+            }
+
+            BoardContentCodec.Encoded content = boardContentStore.encode(dto.getContent());
+            contentRows.add(new Object[]{
+                    boardId, content.encoding().name(), content.originalLength(), content.body()
+            });
+            boardRows.add(new Object[]{
+                    boardId, dto.getAuthorId(), dto.getTitle(),
+                    (dto.getCategory() != null ? dto.getCategory() : BoardCategory.FREE).name(),
+                    thread.status().name(),
+                    dto.getViewCount() != null ? Math.max(0, dto.getViewCount()) : 0,
+                    activeComments, boardCreatedAt, boardCreatedAt,
+                    thread.status() == BoardStatus.DELETED ? Timestamp.valueOf(now) : null
+            });
+        }
+
+        // 게시글 → 본문/댓글 순서 (FK), 댓글은 루트가 항상 자기 답글보다 앞에 위치
+        jdbcTemplate.batchUpdate(INSERT_BOARD, boardRows, BOARD_TYPES);
+        jdbcTemplate.batchUpdate(INSERT_BOARD_CONTENT, contentRows, BOARD_CONTENT_TYPES);
+        if (!commentRows.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_COMMENT, commentRows, COMMENT_TYPES);
+        }
+    }
+
+    private static Object[] commentRow(long id, long boardId, Long parentId, int depth,
+                                       CommentLine line, Timestamp fallbackCreatedAt) {
+        Timestamp createdAt = line.getCreatedAt() != null ? Timestamp.valueOf(line.getCreatedAt()) : fallbackCreatedAt;
+        return new Object[]{
+                id, boardId, line.getAuthorId(), parentId, line.getContent(), depth, line.isDeleted(),
+                line.getLikeCount() != null ? line.getLikeCount() : 0, createdAt, createdAt
+        };
+    }
+
+    private static <T> List<T> nullSafe(List<T> list) {
+        return list != null ? list : List.of();
+    }
+
+    // ===== 내부 상태 =====
+
+    private static final class PendingThread {
+        private final long lineNo;
+        private final ThreadImportLineDto dto;
+        private final int comments;
+        private long boardId; // INSERT 시 할당
+
+        private PendingThread(long lineNo, ThreadImportLineDto dto, int comments) {
+            this.lineNo = lineNo;
+            this.dto = dto;
+            this.comments = comments;
+        }
+
+        long lineNo() { return lineNo; }
+        ThreadImportLineDto dto() { return dto; }
+        int comments() { return comments; }
+        int rowCount() { return 1 + comments; }
+
+        BoardStatus status() {
+            return dto.getStatus() != null ? dto.getStatus() : BoardStatus.PUBLIC;
+        }
+
+        void collectAuthorIds(Set<Long> into) {
+            into.add(dto.getAuthorId());
+            for (CommentLine root : nullSafe(dto.getComments())) {
+                into.add(root.getAuthorId());
+                for (CommentLine reply : nullSafe(root.getReplies())) into.add(reply.getAuthorId());
+            }
+        }
+    }
+
+    private static final class Progress {
+        private long lines;
+        private long boards;
+        private long comments;
+        private long failed;
+        private final List<ThreadImportResultDto.Failure> failures = new ArrayList<>();
+
+        void fail(long lineNo, String code, String message) {
+            failed++;
+            if (failures.size() < MAX_REPORTED_FAILURES) {
+                failures.add(new ThreadImportResultDto.Failure(lineNo, code, message));
+            }
+        }
+    }
+}
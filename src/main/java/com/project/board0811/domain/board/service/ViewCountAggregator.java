@@ -0,0 +1,109 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.common.counter.DeltaBuffer;
+import com.project.board0811.domain.board.ranking.BoardRanking;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 write-behind 집계기
+ * - 조회 요청마다 board 행을 UPDATE 하지 않고 메모리 버퍼에 증분만 누적
+ * - board.view-count.flush-interval-ms 주기로 누적분을 일괄 UPDATE (최대 지연 = 주기)
+ * - 정상 종료(graceful shutdown) 시 남은 증분을 마지막으로 반영
+ * - 반영에 성공한 묶음은 인기/급상승 랭킹(BoardRanking)에도 그대로 전달 (조회 요청마다 랭킹을 갱신하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountAggregator {
+
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final BoardRepository boardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final BoardRanking boardRanking;
+
+    private final DeltaBuffer buffer = new DeltaBuffer();
+    private final ReentrantLock flushLock = new ReentrantLock(); // 스케줄 flush 와 종료 flush 중복 방지
+
+    /** 조회수 +1 (메모리 누적만 수행) */
+    public void record(Long boardId) {
+        buffer.increment(boardId);
+    }
+
+    /**
+     * 누적된 증분을 DB에 반영
+     * - 증분값이 같은 게시글끼리 묶어 "view_count + :delta where id in (...)" 로 일괄 처리
+     * - 실패 시 증분을 버퍼에 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${board.view-count.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) return;
+        try {
+            Map<Long, Long> snapshot = buffer.drain();
+            if (snapshot.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(snapshot));
+                log.debug("[ViewCount] flushed {} boards", snapshot.size());
+            } catch (RuntimeException e) {
+                buffer.restore(snapshot);
+                log.error("[ViewCount] flush failed, {} boards re-queued - {}", snapshot.size(), e.getMessage());
+                return;
+            }
+            recordRanking(snapshot);
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock(); // 진행 중인 flush 가 끝날 때까지 대기
+        flushLock.unlock();
+        flush();
+    }
+
+    /** 반영 대기 중인 게시글 수 */
+    public int pendingBoards() {
+        return buffer.pendingKeys();
+    }
+
+    /** 반영 대기 중인 조회수 합계 */
+    public long pendingViews() {
+        return buffer.pendingTotal();
+    }
+
+    // 랭킹 반영 실패는 조회수 반영과 무관 (다음 재구축에서 DB 값으로 보정)
+    private void recordRanking(Map<Long, Long> snapshot) {
+        try {
+            boardRanking.recordViews(snapshot);
+        } catch (RuntimeException e) {
+            log.warn("[ViewCount] ranking update skipped for {} boards - {}", snapshot.size(), e.getMessage());
+        }
+    }
+
+    private void apply(Map<Long, Long> snapshot) {
+        // delta -> boardIds (게시글마다 증분이 달라도 보통 값의 종류는 적음)
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        snapshot.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id));
+
+        idsByDelta.forEach((delta, ids) -> {
+            for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+                boardRepository.addViewCount(chunk, Math.toIntExact(delta));
+            }
+        });
+    }
+}
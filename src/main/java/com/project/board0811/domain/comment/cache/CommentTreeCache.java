@@ -0,0 +1,112 @@
+package com.project.board0811.domain.comment.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
+import com.project.board0811.domain.comment.event.CommentChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 게시글별 댓글 트리 첫 페이지 캐시
+ * - 대상: page=0, size=comment.tree-cache.page-size, 정렬이 기본(작성시각)인 요청만 — 대부분의 조회가 여기에 몰림
+ * - 키: (게시글 id, 오름차순 여부) / 값: 트리 + hasNext (+ Page 모드에서 채운 전체 루트 수)
+ * - 생성/수정/삭제/좋아요 커밋 후 CommentChangedEvent 로 해당 게시글 항목 무효화
+ * - BoardDetailCache 와 같은 세대(generation) 검사로, 쓰기 커밋과 경합한 조회가 이전 트리를 다시 적재하지 못하도록 막음
+ * - 좋아요 버퍼 모드(comment.like.buffered)에서는 좋아요 수가 flush 주기만큼 늦게 보일 수 있음
+ */
+@Component
+public class CommentTreeCache {
+
+    private static final int GENERATION_STRIPES = 1024; // 2의 거듭제곱
+
+    private final Cache<TreeKey, CachedTree> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+    private final int pageSize;
+
+    public CommentTreeCache(@Value("${comment.tree-cache.maximum-size:5000}") long maximumSize,
+                            @Value("${comment.tree-cache.ttl-seconds:30}") long ttlSeconds,
+                            @Value("${comment.tree-cache.page-size:20}") int pageSize) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.pageSize = pageSize;
+    }
+
+    /** 캐시 대상 요청인지 (첫 페이지 + 기본 크기 + 작성시각 정렬(id 동순위 정렬 포함)/무정렬) */
+    public boolean isCacheable(Pageable pageable) {
+        if (pageable.getPageNumber() != 0 || pageable.getPageSize() != pageSize) return false;
+        Sort sort = pageable.getSort();
+        if (sort.isUnsorted()) return true;
+        List<Sort.Order> orders = sort.toList();
+        if (!"createdAt".equals(orders.get(0).getProperty())) return false;
+        return orders.size() == 1 || (orders.size() == 2 && "id".equals(orders.get(1).getProperty()));
+    }
+
+    public CachedTree getIfPresent(Long boardId, Pageable pageable) {
+        return cache.getIfPresent(TreeKey.of(boardId, pageable));
+    }
+
+    /** DB 조회 직전에 읽어 두었다가 put 시 전달 */
+    public long generation(Long boardId) {
+        return generations.get(stripe(boardId));
+    }
+
+    /**
+     * 조회 결과 적재
+     * - 조회 도중 해당 게시글의 댓글 쓰기가 커밋되었으면(세대 변경) 적재하지 않음
+     * - 이미 전체 건수까지 가진 항목은 건수 없는 Slice 결과로 덮어쓰지 않음
+     */
+    public void put(Long boardId, Pageable pageable, CachedTree loaded, long generationAtLoad) {
+        cache.asMap().compute(TreeKey.of(boardId, pageable), (key, existing) -> {
+            if (generations.get(stripe(boardId)) != generationAtLoad) return existing;
+            if (existing != null && existing.hasTotal() && !loaded.hasTotal()) return existing;
+            return loaded;
+        });
+    }
+
+    public void invalidate(Long boardId) {
+        generations.incrementAndGet(stripe(boardId)); // 진행 중인 조회의 적재를 먼저 막고
+        cache.invalidate(new TreeKey(boardId, true)); // 기존 항목 제거 (정렬 방향별)
+        cache.invalidate(new TreeKey(boardId, false));
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        invalidate(event.getBoardId());
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private static int stripe(Long boardId) {
+        return Long.hashCode(boardId) & (GENERATION_STRIPES - 1);
+    }
+
+    private record TreeKey(Long boardId, boolean ascending) {
+        static TreeKey of(Long boardId, Pageable pageable) {
+            Sort.Order order = pageable.getSort().getOrderFor("createdAt");
+            return new TreeKey(boardId, order == null || order.isAscending());
+        }
+    }
+
+    /**
+     * 캐시 값 — total 이 null 이면 Slice 모드로 적재된 항목 (Page 요청에는 사용 불가)
+     */
+    public record CachedTree(List<CommentWithRepliesDto> content, boolean hasNext, Long total) {
+
+        public boolean hasTotal() {
+            return total != null;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.project.board0811.domain.comment.controller;
+
+import com.project.board0811.common.http.ConditionalGet;
+import com.project.board0811.common.paging.PageConverters;
+import com.project.board0811.common.paging.PageRequestDto;
+import com.project.board0811.common.paging.PageResponse;
+import com.project.board0811.common.paging.SliceResponse;
+import com.project.board0811.common.response.CommonApiResponse;
+import com.project.board0811.domain.comment.dto.CommentRequestDto;
+import com.project.board0811.domain.comment.dto.CommentResponseDto;
+import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
+import com.project.board0811.domain.comment.service.CommentService;
+import com.project.board0811.domain.comment.service.CommentSorts;
+import com.project.board0811.domain.comment.service.CommentTreeETags;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.function.Function;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1")
+public class CommentController {
+
+    private final CommentService commentService;
+
+    /** 댓글/답글 등록 (로그인 사용자 = author, parentId 가 있으면 답글) */
+    @PostMapping("/boards/{boardId}/comments")
+    public ResponseEntity<CommonApiResponse<CommentResponseDto>> create(
+            @PathVariable Long boardId,
+            @AuthenticationPrincipal(expression = "userId") Long authorId,
+            @Valid @RequestBody CommentRequestDto req
+    ) {
+        CommentResponseDto response = commentService.create(boardId, authorId, req);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(CommonApiResponse.ok(response));
+    }
+
+    /** 댓글 트리 (루트 페이지 + 답글, 전체 건수 포함 / ETag — 일치하면 버전 집계만으로 304) */
+    @GetMapping("/boards/{boardId}/comments")
+    public ResponseEntity<CommonApiResponse<PageResponse<CommentWithRepliesDto>>> tree(
+            @PathVariable Long boardId,
+            @Valid PageRequestDto pageReq,
+            WebRequest request
+    ) {
+        Pageable pageable = pageReq.toPageable(CommentSorts.TREE);
+        if (ConditionalGet.hasETagValidator(request)) {
+            String eTag = commentService.getCommentTreeETag(boardId, pageable, true);
+            if (ConditionalGet.notModified(request, eTag, null)) {
+                return ConditionalGet.notModifiedResponse(eTag, null);
+            }
+        }
+        Page<CommentWithRepliesDto> page = commentService.getCommentTreePage(boardId, pageable);
+        PageResponse<CommentWithRepliesDto> response = PageConverters.toResponse(
+                page, Function.identity(), pageReq.getSort(), pageReq.getDirection());
+        return ConditionalGet.ok(CommonApiResponse.ok(response),
+                CommentTreeETags.page(page.getTotalElements(), page.getContent()), null);
+    }
+
+    /** 댓글 트리 — 다음 페이지 존재 여부만 (count 쿼리 생략, 무한 스크롤용 / ETag) */
+    @GetMapping("/boards/{boardId}/comments/slice")
+    public ResponseEntity<CommonApiResponse<SliceResponse<CommentWithRepliesDto>>> treeSlice(
+            @PathVariable Long boardId,
+            @Valid PageRequestDto pageReq,
+            WebRequest request
+    ) {
+        Pageable pageable = pageReq.toPageable(CommentSorts.TREE);
+        if (ConditionalGet.hasETagValidator(request)) {
+            String eTag = commentService.getCommentTreeETag(boardId, pageable, false);
+            if (ConditionalGet.notModified(request, eTag, null)) {
+                return ConditionalGet.notModifiedResponse(eTag, null);
+            }
+        }
+        Slice<CommentWithRepliesDto> slice = commentService.getCommentTreeSlice(boardId, pageable);
+        SliceResponse<CommentWithRepliesDto> response = PageConverters.toSliceResponse(
+                slice, Function.identity(), pageReq.getSort(), pageReq.getDirection());
+        return ConditionalGet.ok(CommonApiResponse.ok(response),
+                CommentTreeETags.slice(slice.hasNext(), slice.getContent()), null);
+    }
+
+    /** 댓글 수정 (본인 또는 관리자) */
+    @PatchMapping("/comments/{id}")
+    public ResponseEntity<CommonApiResponse<CommentResponseDto>> update(
+            @PathVariable Long id,
+            @AuthenticationPrincipal(expression = "userId") Long editorUserId,
+            @Valid @RequestBody CommentRequestDto req
+    ) {
+        CommentResponseDto response = commentService.update(id, editorUserId, req);
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+
+    /** 댓글 삭제(소프트) (본인 또는 관리자) */
+    @DeleteMapping("/comments/{id}")
+    public ResponseEntity<CommonApiResponse<Void>> delete(
+            @PathVariable Long id,
+            @AuthenticationPrincipal(expression = "userId") Long requesterUserId
+    ) {
+        commentService.delete(id, requesterUserId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /** 좋아요 (사용자당 1회, 멱등) */
+    @PostMapping("/comments/{id}/like")
+    public ResponseEntity<CommonApiResponse<Void>> like(
+            @PathVariable Long id,
+            @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        commentService.like(id, userId);
+        return ResponseEntity.ok(CommonApiResponse.ok());
+    }
+
+    /** 좋아요 취소 (멱등) */
+    @DeleteMapping("/comments/{id}/like")
+    public ResponseEntity<CommonApiResponse<Void>> unlike(
+            @PathVariable Long id,
+            @AuthenticationPrincipal(expression = "userId") Long userId
+    ) {
+        commentService.unlike(id, userId);
+        return ResponseEntity.ok(CommonApiResponse.ok());
+    }
+}
@@ -0,0 +1,20 @@
+package com.project.board0811.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CommentExportRow { // 내보내기용 댓글 원본 (엔티티 미로딩 프로젝션, 삭제 댓글도 원문 그대로)
+
+    private Long id;
+    private Long boardId;
+    private Long parentId;
+    private Long authorId;
+    private String content;
+    private boolean deleted;
+    private int likeCount;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package com.project.board0811.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CommentTreeVersionRow { // 댓글 트리 ETag 계산용 (루트 1건 + 답글 집계, 본문/작성자 미조회)
+
+    private Long rootId;
+    private LocalDateTime rootUpdatedAt;
+    private int rootLikeCount;
+    private Long replyCount;
+    private LocalDateTime replyLastUpdatedAt; // 답글 없으면 null
+    private Long replyLikeSum;                // 답글 없으면 null
+}
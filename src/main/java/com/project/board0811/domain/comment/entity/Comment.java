@@ -26,8 +26,14 @@ import org.hibernate.annotations.Check;
 @Check(constraints = "depth in (0,1)") // Hibernate 전용 CHECK
 public class Comment extends BaseTimeEntity {
 
+    public static final int MAX_CONTENT_LENGTH = 2000;
+
+    // IDENTITY 는 INSERT 배치를 막으므로 테이블 생성기(pooled-lo, 100개 단위 선할당) 사용
+    // 대량 이관(IdRangeAllocator)도 같은 id_sequences 행에서 구간을 할당받음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comments_id")
+    @TableGenerator(name = "comments_id", table = "id_sequences", pkColumnName = "seq_name",
+            valueColumnName = "next_val", pkColumnValue = "comments", allocationSize = 100)
     private Long id;
 
     /**
@@ -111,10 +117,17 @@ public class Comment extends BaseTimeEntity {
     private static void validateRequired(Board board, User author, String content) {
         if (board == null) throw new CustomException(ErrorCode.COMMENT_BOARD_REQUIRED);
         if (author == null) throw new CustomException(ErrorCode.COMMENT_AUTHOR_REQUIRED);
+        validateContent(content);
+    }
+
+    /**
+     * 댓글 내용 규칙 (공백 불가, 최대 2000자) — 엔티티를 거치지 않는 대량 이관에서도 같은 규칙 사용
+     */
+    public static void validateContent(String content) {
         if (content == null || content.isBlank()) {
             throw new CustomException(ErrorCode.COMMENT_CONTENT_EMPTY);
         }
-        if (content.length() > 2000) {
+        if (content.length() > MAX_CONTENT_LENGTH) {
             throw new CustomException(ErrorCode.COMMENT_CONTENT_TOO_LONG);
         }
     }
@@ -124,12 +137,7 @@ public class Comment extends BaseTimeEntity {
         if (isDeleted) {
             throw new CustomException(ErrorCode.COMMENT_ALREADY_DELETED);
         }
-        if (newContent == null || newContent.isBlank()) {
-            throw new CustomException(ErrorCode.COMMENT_CONTENT_EMPTY);
-        }
-        if (newContent.length() > 2000) {
-            throw new CustomException(ErrorCode.COMMENT_CONTENT_TOO_LONG);
-        }
+        validateContent(newContent);
         this.content = newContent;
     }
 
@@ -0,0 +1,52 @@
+package com.project.board0811.domain.comment.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 좋아요 (사용자당 1회)
+ * - (comment_id, user_id) 유니크 제약으로 중복 좋아요를 DB 수준에서 차단
+ * - 카운터(comments.like_count)는 이 테이블에 행이 실제로 추가/삭제된 경우에만 증감
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "comment_likes",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_comment_like_comment_user", columnNames = {"comment_id", "user_id"})
+        },
+        indexes = {
+                @Index(name = "idx_comment_like_user", columnList = "user_id")
+        }
+)
+public class CommentLike {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "comment_id", nullable = false)
+    private Long commentId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private CommentLike(Long commentId, Long userId) {
+        this.commentId = commentId;
+        this.userId = userId;
+    }
+
+    public static CommentLike of(Long commentId, Long userId) {
+        return new CommentLike(commentId, userId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.project.board0811.domain.comment.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글 생성/수정/삭제/좋아요 이벤트
+ * - 서비스 트랜잭션 안에서 발행하고, 구독 측은 @TransactionalEventListener(AFTER_COMMIT)로 커밋 이후에만 반영
+ * - 댓글 트리 캐시 무효화 단위가 게시글이므로 boardId 를 함께 전달
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED, LIKED, UNLIKED }
+
+    private final Type type;
+    private final Long boardId;
+    private final Long commentId;
+
+    public static CommentChangedEvent of(Type type, Long boardId, Long commentId) {
+        return new CommentChangedEvent(type, boardId, commentId);
+    }
+}
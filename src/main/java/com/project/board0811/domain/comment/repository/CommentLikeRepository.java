@@ -0,0 +1,30 @@
+package com.project.board0811.domain.comment.repository;
+
+import com.project.board0811.domain.comment.entity.CommentLike;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface CommentLikeRepository extends JpaRepository<CommentLike, Long> {
+
+    boolean existsByCommentIdAndUserId(Long commentId, Long userId);
+
+    long countByCommentId(Long commentId);
+
+    /**
+     * 좋아요 추가 — 이미 있으면(동시 중복 요청 포함) 유니크 제약으로 무시하고 0 반환
+     * - 예외를 잡는 방식은 트랜잭션이 rollback-only 가 되므로 INSERT IGNORE 로 한 문장에 처리
+     */
+    @Modifying
+    @Query(value = "insert ignore into comment_likes (comment_id, user_id, created_at) values (:commentId, :userId, current_timestamp(6))",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("commentId") Long commentId, @Param("userId") Long userId);
+
+    /**
+     * 좋아요 취소 — 실제로 삭제된 행 수(0 또는 1)를 반환하여 카운터 감소 여부 판단에 사용
+     */
+    @Modifying
+    @Query("delete from CommentLike l where l.commentId = :commentId and l.userId = :userId")
+    int deleteByCommentIdAndUserId(@Param("commentId") Long commentId, @Param("userId") Long userId);
+}
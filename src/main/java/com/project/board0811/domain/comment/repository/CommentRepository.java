@@ -3,15 +3,22 @@ package com.project.board0811.domain.comment.repository;
 import com.project.board0811.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long>, CommentRepositoryCustom {
 
+    @EntityGraph(attributePaths = "author")
+    @Query("select c from Comment c where c.id = :id")
+    Optional<Comment> findWithAuthorById(@Param("id") Long id); // 작성자까지 한 번에 로딩 (응답 DTO 작성자 표시용)
+
     /**
      * 루트 댓글(댓글, depth=0) 페이징 조회
      * - parent is null 조건으로 루트만
@@ -55,4 +62,23 @@ public interface CommentRepository extends JpaRepository<Comment, Long>, Comment
         """)
     long countByBoardId(@Param("boardId") Long boardId);
 
+    /**
+     * 댓글이 속한 게시글 id (존재 확인 겸용, 엔티티 로딩 없음)
+     */
+    @Query("select c.board.id from Comment c where c.id = :id")
+    Optional<Long> findBoardIdById(@Param("id") Long id);
+
+    /**
+     * 좋아요 수 증감 — 엔티티 로딩/dirty checking 없이 단일 UPDATE 로 원자적으로 반영
+     * - 0 미만으로 내려가지 않도록 CASE 로 가드
+     * - 즉시 반영(ids 1건)과 버퍼 일괄 반영(같은 증분값의 ids 묶음) 모두 사용
+     */
+    @Modifying
+    @Query("""
+        update Comment c
+           set c.likeCount = case when c.likeCount + :delta < 0 then 0 else c.likeCount + :delta end
+         where c.id in :ids
+        """)
+    int addLikeCount(@Param("ids") Collection<Long> ids, @Param("delta") int delta);
+
 }
@@ -1,8 +1,11 @@
 package com.project.board0811.domain.comment.repository;
 
+import com.project.board0811.domain.comment.dto.CommentExportRow;
+import com.project.board0811.domain.comment.dto.CommentTreeVersionRow;
 import com.project.board0811.domain.comment.entity.Comment;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.Collection;
 import java.util.List;
@@ -15,9 +18,51 @@ public interface CommentRepositoryCustom {
      */
     Page<Comment> findRootPage(Long boardId, Pageable pageable);
 
+    /**
+     * 루트 댓글 Slice 조회 (count 쿼리 없음, 다음 페이지 존재 여부만)
+     */
+    Slice<Comment> findRootSlice(Long boardId, Pageable pageable);
+
+    /**
+     * 댓글 트리 ETag 계산용 — findRootPage/findRootSlice 와 같은 정렬/offset 으로 limit 건의 루트와
+     * 루트별 답글 집계(개수, 최종 수정 시각, 좋아요 합)를 GROUP BY 한 번으로 조회 (본문/작성자 미조회)
+     */
+    List<CommentTreeVersionRow> findTreeVersionRows(Long boardId, Pageable pageable, long limit);
+
+    /**
+     * 게시글의 루트 댓글 수 (findRootPage 의 count 와 동일 조건)
+     */
+    long countRoots(Long boardId);
+
     /**
      * parentIds(루트 댓글 id들)에 대한 자식(답글) 일괄 조회 후
      * parentId -> List<Comment> 맵핑
      */
     Map<Long, List<Comment>> findRepliesGroupedByParentIds(Collection<Long> parentIds);
+
+    /**
+     * 게시글별 삭제되지 않은 댓글(루트+답글) 수를 한 번에 집계
+     * - 댓글이 없는 게시글은 결과 맵에 포함되지 않음 (호출 측에서 0 처리)
+     */
+    Map<Long, Long> countActiveByBoardIds(Collection<Long> boardIds);
+
+    /**
+     * 게시글별 삭제되지 않은 댓글의 좋아요 합계를 한 번에 집계 (랭킹 재구축용)
+     * - 좋아요가 없는 게시글은 결과 맵에 포함되지 않음
+     */
+    Map<Long, Long> sumActiveLikesByBoardIds(Collection<Long> boardIds);
+
+    /**
+     * 내보내기용 루트 댓글 청크 — boardIds 범위에서 (boardId, id) 오름차순, (lastBoardId, lastId) 이후 limit 건
+     * - lastBoardId 가 null 이면 처음부터
+     */
+    List<CommentExportRow> findRootExportRows(Collection<Long> boardIds, Long lastBoardId, Long lastId, int limit);
+
+    /**
+     * 내보내기용 답글 청크 — parentIds 의 답글을 (boardId, parentId, id) 오름차순, (lastBoardId, lastParentId, lastId) 이후 limit 건
+     * - 루트 청크의 (boardId, id) 순서와 같은 순서라 루트를 쓰면서 그대로 이어 붙일 수 있음
+     * - lastBoardId 가 null 이면 처음부터
+     */
+    List<CommentExportRow> findReplyExportRows(Collection<Long> parentIds,
+                                               Long lastBoardId, Long lastParentId, Long lastId, int limit);
 }
@@ -1,15 +1,25 @@
 package com.project.board0811.domain.comment.repository;
 
 import static com.project.board0811.domain.comment.entity.QComment.comment;
+import static com.project.board0811.domain.user.entity.QUser.user;
 
+import com.project.board0811.domain.comment.dto.CommentExportRow;
+import com.project.board0811.domain.comment.dto.CommentTreeVersionRow;
 import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.entity.QComment;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
@@ -20,17 +30,25 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentRepositoryImpl implements CommentRepositoryCustom {
 
+    // 내보내기용 프로젝션 (작성자/부모는 FK 컬럼만 사용 — 조인 없음)
+    private static final ConstructorExpression<CommentExportRow> EXPORT_ROW =
+            Projections.constructor(CommentExportRow.class,
+                    comment.id, comment.board.id, comment.parent.id, comment.author.id,
+                    comment.content, comment.isDeleted, comment.likeCount, comment.createdAt);
+
     /** QueryDSL 핵심 진입점. 스프링 빈으로 등록된 EntityManager를 내부적으로 사용 */
     private final JPAQueryFactory queryFactory;
 
     /**
      * 루트 댓글(= parent IS NULL) 페이지 조회
+     * - 작성자(author)를 fetch join 하여 DTO 변환 시 지연 로딩(N+1) 방지
      */
     @Override
     public Page<Comment> findRootPage(Long boardId, Pageable pageable) {
         // 1) 실제 데이터 조회용 기본 쿼리 (루트 댓글: parent is null)
         var baseQuery = queryFactory
                 .selectFrom(comment)
+                .join(comment.author, user).fetchJoin()
                 .where(
                         comment.board.id.eq(boardId),
                         comment.parent.isNull()
@@ -48,25 +66,75 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                 .fetchOne();
         long total = (totalBoxed != null) ? totalBoxed : 0L;
 
-        // 3) 정렬 변환 (Spring Sort → QueryDSL OrderSpecifier)
-        List<OrderSpecifier<?>> orders = toOrderSpecifiers(pageable.getSort());
-
-        // 4) orderBy 가변 인자에 안전하게 전달하기 위해 항상 배열 형태로 통일
-        OrderSpecifier<?>[] orderSpecifiers = orders.isEmpty()
-                ? new OrderSpecifier<?>[]{ new OrderSpecifier<>(Order.ASC, comment.createdAt) } // 기본 정렬: 작성시각 오름차순
-                : orders.toArray(new OrderSpecifier<?>[0]);
+        // 3) 정렬 변환 (Spring Sort → QueryDSL OrderSpecifier, 기본: 작성시각 오름차순)
+        OrderSpecifier<?>[] orderSpecifiers = toOrderSpecifierArray(pageable.getSort());
 
-        // 5) 페이징 + 정렬 적용하여 루트 댓글 목록 조회
+        // 4) 페이징 + 정렬 적용하여 루트 댓글 목록 조회
         List<Comment> content = baseQuery
                 .orderBy(orderSpecifiers)
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
-        // 6) PageImpl 로 포장하여 반환
+        // 5) PageImpl 로 포장하여 반환
         return new PageImpl<>(content, pageable, total);
     }
 
+    /**
+     * 루트 댓글 Slice 조회 — count 쿼리 없이 size + 1 건으로 다음 페이지 존재 여부만 판단
+     */
+    @Override
+    public Slice<Comment> findRootSlice(Long boardId, Pageable pageable) {
+        List<Comment> rows = queryFactory
+                .selectFrom(comment)
+                .join(comment.author, user).fetchJoin()
+                .where(
+                        comment.board.id.eq(boardId),
+                        comment.parent.isNull()
+                )
+                .orderBy(toOrderSpecifierArray(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize() + 1L)
+                .fetch();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<Comment> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public List<CommentTreeVersionRow> findTreeVersionRows(Long boardId, Pageable pageable, long limit) {
+        QComment reply = new QComment("reply");
+        return queryFactory
+                .select(Projections.constructor(CommentTreeVersionRow.class,
+                        comment.id, comment.updatedAt, comment.likeCount,
+                        reply.id.count(), reply.updatedAt.max(), reply.likeCount.longValue().sum()))
+                .from(comment)
+                .leftJoin(reply).on(reply.parent.id.eq(comment.id))
+                .where(
+                        comment.board.id.eq(boardId),
+                        comment.parent.isNull()
+                )
+                .groupBy(comment.id, comment.updatedAt, comment.likeCount, comment.createdAt)
+                .orderBy(toOrderSpecifierArray(pageable.getSort()))
+                .offset(pageable.getOffset())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long countRoots(Long boardId) {
+        Long total = queryFactory
+                .select(comment.count())
+                .from(comment)
+                .where(
+                        comment.board.id.eq(boardId),
+                        comment.parent.isNull()
+                )
+                .fetchOne();
+        return total != null ? total : 0L;
+    }
+
     /**
      * 여러 루트 댓글 id들(parentIds)에 달린 자식(답글)들을 한 번에 조회하고,
      * parentId -> List<Comment> 형태로 그룹핑하여 반환
@@ -75,9 +143,10 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
     public Map<Long, List<Comment>> findRepliesGroupedByParentIds(Collection<Long> parentIds) {
         if (parentIds == null || parentIds.isEmpty()) return Collections.emptyMap();
 
-        // 1) parent.id IN (...) 으로 자식(답글) 일괄 조회
+        // 1) parent.id IN (...) 으로 자식(답글) 일괄 조회 (작성자 fetch join)
         List<Comment> replies = queryFactory
                 .selectFrom(comment)
+                .join(comment.author, user).fetchJoin()
                 .where(comment.parent.id.in(parentIds))
                 .orderBy(comment.parent.id.asc(), comment.createdAt.asc())
                 .fetch();
@@ -91,6 +160,101 @@ public class CommentRepositoryImpl implements CommentRepositoryCustom {
                 ));
     }
 
+    /**
+     * 게시글별 활성 댓글 수 집계 (board_id IN (...) GROUP BY board_id)
+     */
+    @Override
+    public Map<Long, Long> countActiveByBoardIds(Collection<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) return Collections.emptyMap();
+
+        List<Tuple> rows = queryFactory
+                .select(comment.board.id, comment.count())
+                .from(comment)
+                .where(
+                        comment.board.id.in(boardIds),
+                        comment.isDeleted.isFalse()
+                )
+                .groupBy(comment.board.id)
+                .fetch();
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (Tuple row : rows) {
+            counts.put(row.get(comment.board.id), row.get(comment.count()));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<Long, Long> sumActiveLikesByBoardIds(Collection<Long> boardIds) {
+        if (boardIds == null || boardIds.isEmpty()) return Collections.emptyMap();
+
+        List<Tuple> rows = queryFactory
+                .select(comment.board.id, comment.likeCount.sumLong())
+                .from(comment)
+                .where(
+                        comment.board.id.in(boardIds),
+                        comment.isDeleted.isFalse(),
+                        comment.likeCount.gt(0)
+                )
+                .groupBy(comment.board.id)
+                .fetch();
+
+        Map<Long, Long> sums = new HashMap<>();
+        for (Tuple row : rows) {
+            sums.put(row.get(comment.board.id), row.get(comment.likeCount.sumLong()));
+        }
+        return sums;
+    }
+
+    @Override
+    public List<CommentExportRow> findRootExportRows(Collection<Long> boardIds, Long lastBoardId, Long lastId, int limit) {
+        if (boardIds == null || boardIds.isEmpty()) return List.of();
+
+        // (board_id, id) > (lastBoardId, lastId) — 인덱스(board_id, parent_id, ...) 범위 안에서 keyset 진행
+        BooleanExpression after = lastBoardId == null ? null
+                : comment.board.id.gt(lastBoardId)
+                        .or(comment.board.id.eq(lastBoardId).and(comment.id.gt(lastId)));
+
+        return queryFactory
+                .select(EXPORT_ROW)
+                .from(comment)
+                .where(comment.board.id.in(boardIds), comment.parent.isNull(), after)
+                .orderBy(comment.board.id.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<CommentExportRow> findReplyExportRows(Collection<Long> parentIds,
+                                                      Long lastBoardId, Long lastParentId, Long lastId, int limit) {
+        if (parentIds == null || parentIds.isEmpty()) return List.of();
+
+        // (board_id, parent_id, id) > (lastBoardId, lastParentId, lastId) — 한 루트에 답글이 몰려도 limit 건씩
+        BooleanExpression after = lastBoardId == null ? null
+                : comment.board.id.gt(lastBoardId)
+                        .or(comment.board.id.eq(lastBoardId).and(
+                                comment.parent.id.gt(lastParentId)
+                                        .or(comment.parent.id.eq(lastParentId).and(comment.id.gt(lastId)))));
+
+        return queryFactory
+                .select(EXPORT_ROW)
+                .from(comment)
+                .where(comment.parent.id.in(parentIds), after)
+                .orderBy(comment.board.id.asc(), comment.parent.id.asc(), comment.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    /**
+     * orderBy 가변 인자에 안전하게 전달하기 위해 항상 배열 형태로 통일 (기본 정렬: 작성시각 오름차순)
+     */
+    private OrderSpecifier<?>[] toOrderSpecifierArray(Sort sort) {
+        List<OrderSpecifier<?>> orders = toOrderSpecifiers(sort);
+        return orders.isEmpty()
+                ? new OrderSpecifier<?>[]{ new OrderSpecifier<>(Order.ASC, comment.createdAt) }
+                : orders.toArray(new OrderSpecifier<?>[0]);
+    }
+
     /**
      * Spring Data의 Sort 정보를 QueryDSL의 OrderSpecifier 리스트로 변환
      */
@@ -0,0 +1,99 @@
+package com.project.board0811.domain.comment.service;
+
+import com.project.board0811.common.counter.DeltaBuffer;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 댓글 좋아요 카운터(comments.like_count) 반영기
+ * - 기본(direct): 좋아요 트랜잭션 안에서 "like_count + 1" 단일 UPDATE
+ * - 버퍼(comment.like.buffered=true): 바이럴 댓글의 행 락 경합을 피하기 위해 증분을 메모리에 모아
+ *   comment.like.flush-interval-ms 주기로 일괄 UPDATE (좋아요 행 자체는 항상 즉시 저장되므로 중복 방지는 유지)
+ */
+@Slf4j
+@Component
+public class CommentLikeCounter {
+
+    private static final int IN_CLAUSE_CHUNK = 1000;
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean buffered;
+
+    private final DeltaBuffer buffer = new DeltaBuffer();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public CommentLikeCounter(CommentRepository commentRepository,
+                              TransactionTemplate transactionTemplate,
+                              @Value("${comment.like.buffered:false}") boolean buffered) {
+        this.commentRepository = commentRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.buffered = buffered;
+    }
+
+    /** 좋아요 수 증감 (호출 측 트랜잭션 안에서 호출) */
+    public void add(Long commentId, int delta) {
+        if (buffered) {
+            buffer.add(commentId, delta);
+        } else {
+            commentRepository.addLikeCount(List.of(commentId), delta);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${comment.like.flush-interval-ms:1000}")
+    public void flush() {
+        if (!flushLock.tryLock()) return;
+        try {
+            Map<Long, Long> snapshot = buffer.drain();
+            if (snapshot.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(snapshot));
+            } catch (RuntimeException e) {
+                buffer.restore(snapshot);
+                log.error("[CommentLike] flush failed, {} comments re-queued - {}", snapshot.size(), e.getMessage());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock();
+        flushLock.unlock();
+        flush();
+    }
+
+    public boolean isBuffered() {
+        return buffered;
+    }
+
+    /** 반영 대기 중인 댓글 수 */
+    public int pendingComments() {
+        return buffer.pendingKeys();
+    }
+
+    private void apply(Map<Long, Long> snapshot) {
+        Map<Long, List<Long>> idsByDelta = new TreeMap<>();
+        snapshot.forEach((id, delta) -> idsByDelta.computeIfAbsent(delta, d -> new ArrayList<>()).add(id));
+
+        idsByDelta.forEach((delta, ids) -> {
+            for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+                commentRepository.addLikeCount(chunk, Math.toIntExact(delta));
+            }
+        });
+    }
+}
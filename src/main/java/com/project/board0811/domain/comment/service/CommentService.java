@@ -5,6 +5,7 @@ import com.project.board0811.domain.comment.dto.CommentResponseDto;
 import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 public interface CommentService {
 
@@ -14,16 +15,25 @@ public interface CommentService {
     /** 게시글의 루트 댓글 페이지 + 각 루트의 답글 일괄 묶음 */
     Page<CommentWithRepliesDto> getCommentTreePage(Long boardId, Pageable pageable);
 
+    /** 위와 같은 트리를 전체 건수 없이 조회 (count 쿼리 생략, 다음 페이지 존재 여부만) */
+    Slice<CommentWithRepliesDto> getCommentTreeSlice(Long boardId, Pageable pageable);
+
+    /**
+     * 댓글 트리 조건부 조회용 ETag (withTotal: 페이지 응답 기준, false: 슬라이스 응답 기준)
+     * - 캐시된 첫 페이지는 쿼리 없음, 아니면 본문/작성자 없이 버전 집계만 조회
+     */
+    String getCommentTreeETag(Long boardId, Pageable pageable, boolean withTotal);
+
     /** 댓글 내용 수정 (작성자 or 관리자 권한) */
     CommentResponseDto update(Long commentId, Long requesterUserId, CommentRequestDto request);
 
     /** 소프트 삭제 (작성자 or 관리자 권한) */
     void delete(Long commentId, Long requesterUserId);
 
-    /** 좋아요 증가 */
-    void like(Long commentId);
+    /** 좋아요 (사용자당 1회, 중복 요청은 무시) */
+    void like(Long commentId, Long userId);
 
-    /** 좋아요 감소 (0 미만 방지) */
-    void unlike(Long commentId);
+    /** 좋아요 취소 (좋아요하지 않았으면 무시, 0 미만 방지) */
+    void unlike(Long commentId, Long userId);
 
 }
@@ -1,20 +1,29 @@
 package com.project.board0811.domain.comment.service;
 
+import com.project.board0811.common.concurrent.ReadCoalescer;
 import com.project.board0811.common.exception.CustomException;
 import com.project.board0811.common.exception.ErrorCode;
 import com.project.board0811.domain.board.entity.Board;
 import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.cache.CommentTreeCache;
+import com.project.board0811.domain.comment.cache.CommentTreeCache.CachedTree;
 import com.project.board0811.domain.comment.dto.CommentRequestDto;
 import com.project.board0811.domain.comment.dto.CommentResponseDto;
+import com.project.board0811.domain.comment.dto.CommentTreeVersionRow;
 import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
 import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.event.CommentChangedEvent;
+import com.project.board0811.domain.comment.repository.CommentLikeRepository;
 import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.user.dto.response.UserAuthView;
 import com.project.board0811.domain.user.entity.User;
-import com.project.board0811.domain.user.enums.UserRole;
 import com.project.board0811.domain.user.repository.UserRepository;
+import com.project.board0811.domain.user.service.ActorResolver;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.*;
@@ -28,6 +37,12 @@ public class CommentServiceImpl implements CommentService {
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final ActorResolver actorResolver;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentLikeCounter commentLikeCounter;
+    private final CommentTreeCache commentTreeCache;
+    private final ReadCoalescer readCoalescer;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 댓글/답글 생성
@@ -35,8 +50,11 @@ public class CommentServiceImpl implements CommentService {
     @Override
     public CommentResponseDto create(Long boardId, Long authorUserId, CommentRequestDto request) {
         // 필수 엔티티 조회: 존재하지 않으면 404 성격의 CustomException
-        Board board = boardRepository.findById(boardId)
-                .orElseThrow(() -> new CustomException(ErrorCode.BOARD_NOT_FOUND));
+        // 게시글은 FK 참조만 필요 → 존재 확인 후 프록시 참조 (게시글 행 로딩 없음)
+        if (!boardRepository.existsById(boardId)) {
+            throw new CustomException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        Board board = boardRepository.getReferenceById(boardId);
 
         User author = userRepository.findById(authorUserId)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
@@ -54,36 +72,98 @@ public class CommentServiceImpl implements CommentService {
             saved = commentRepository.save(Comment.newReply(board, author, request.getContent(), parent));
         }
 
+        // 게시글 댓글 수 +1 (목록 화면용 비정규화 컬럼, 같은 트랜잭션에서 단일 UPDATE)
+        boardRepository.increaseCommentCount(boardId);
+        eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.CREATED, boardId, saved.getId()));
+
         // 표현 책임은 DTO로 위임 (삭제 마스킹 등)
         return CommentResponseDto.fromEntity(saved);
     }
 
     /**
      * 루트 댓글 페이지 + 각 루트의 답글(대댓글) 묶음 조회
+     * - count + 루트(작성자 fetch join) + 답글 IN(작성자 fetch join) = 3 쿼리, 첫 페이지는 캐시
+     * - 캐시 적중은 트랜잭션 없이 반환, 미스는 같은 (게시글, 페이지) 동시 조회를 하나의 readOnly 트랜잭션 조회로 합침
+     * - 캐시 대상 페이지의 조회는 primary 에서 (지연된 replica 의 옛 트리를 캐시하지 않도록)
      */
-    @Transactional(readOnly = true) // 조회 전용 트랜잭션: 영속성 컨텍스트가 dirty-check를 하지 않아 성능상 유리
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     @Override
     public Page<CommentWithRepliesDto> getCommentTreePage(Long boardId, Pageable pageable) {
-        // 1) 루트 댓글 페이지 조회
-        Page<Comment> rootPage = commentRepository.findRootPage(boardId, pageable);
+        boolean cacheable = commentTreeCache.isCacheable(pageable);
+        if (cacheable) {
+            CachedTree cached = commentTreeCache.getIfPresent(boardId, pageable);
+            if (cached != null && cached.hasTotal()) {
+                return new PageImpl<>(cached.content(), pageable, cached.total());
+            }
+        }
 
-        // 2) 루트 댓글 id 목록 추출
-        List<Long> rootIds = rootPage.getContent().stream()
-                .map(Comment::getId)
-                .toList();
+        return readCoalescer.load("comment.tree.page", List.of(boardId, pageable), cacheable, () -> {
+            long generation = commentTreeCache.generation(boardId);
 
-        // 3) 루트들의 자식(답글) 일괄 조회(IN) → parentId -> List<Comment>
-        Map<Long, List<Comment>> replyMap = rootIds.isEmpty()
-                ? Collections.emptyMap()
-                : commentRepository.findRepliesGroupedByParentIds(rootIds);
+            // 1) 루트 댓글 페이지 조회
+            Page<Comment> rootPage = commentRepository.findRootPage(boardId, pageable);
 
-        // 4) 트리 DTO 조립 (삭제 마스킹/작성자 노출 등은 DTO에서 처리)
-        List<CommentWithRepliesDto> content = rootPage.getContent().stream()
-                .map(root -> CommentWithRepliesDto.of(root, replyMap.getOrDefault(root.getId(), List.of())))
-                .collect(Collectors.toList());
+            // 2) 트리 DTO 조립 (답글 일괄 조회 포함)
+            List<CommentWithRepliesDto> content = assembleTree(rootPage.getContent());
+
+            if (cacheable) {
+                commentTreeCache.put(boardId, pageable,
+                        new CachedTree(content, rootPage.hasNext(), rootPage.getTotalElements()), generation);
+            }
+
+            // 3) 기존 페이지 메타데이터(total 등)는 유지한 채 DTO 페이지 생성
+            return new PageImpl<>(content, pageable, rootPage.getTotalElements());
+        });
+    }
 
-        // 5) 기존 페이지 메타데이터(total 등)는 유지한 채 DTO 페이지 생성
-        return new PageImpl<>(content, pageable, rootPage.getTotalElements());
+    /**
+     * 루트 댓글 Slice + 답글 묶음 조회 ("다음 페이지 있음"만 필요한 무한 스크롤용)
+     * - 루트(size + 1 건) + 답글 IN = 최대 2 쿼리, 첫 페이지는 캐시
+     */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    @Override
+    public Slice<CommentWithRepliesDto> getCommentTreeSlice(Long boardId, Pageable pageable) {
+        boolean cacheable = commentTreeCache.isCacheable(pageable);
+        if (cacheable) {
+            CachedTree cached = commentTreeCache.getIfPresent(boardId, pageable);
+            if (cached != null) {
+                return new SliceImpl<>(cached.content(), pageable, cached.hasNext());
+            }
+        }
+
+        return readCoalescer.load("comment.tree.slice", List.of(boardId, pageable), cacheable, () -> {
+            long generation = commentTreeCache.generation(boardId);
+
+            Slice<Comment> rootSlice = commentRepository.findRootSlice(boardId, pageable);
+            List<CommentWithRepliesDto> content = assembleTree(rootSlice.getContent());
+
+            if (cacheable) {
+                commentTreeCache.put(boardId, pageable, new CachedTree(content, rootSlice.hasNext(), null), generation);
+            }
+            return new SliceImpl<>(content, pageable, rootSlice.hasNext());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public String getCommentTreeETag(Long boardId, Pageable pageable, boolean withTotal) {
+        if (commentTreeCache.isCacheable(pageable)) {
+            CachedTree cached = commentTreeCache.getIfPresent(boardId, pageable);
+            if (cached != null && (!withTotal || cached.hasTotal())) {
+                return withTotal
+                        ? CommentTreeETags.page(cached.total(), cached.content())
+                        : CommentTreeETags.slice(cached.hasNext(), cached.content());
+            }
+        }
+
+        int size = pageable.getPageSize();
+        if (withTotal) {
+            return CommentTreeETags.pageOfRows(commentRepository.countRoots(boardId),
+                    commentRepository.findTreeVersionRows(boardId, pageable, size));
+        }
+        List<CommentTreeVersionRow> rows = commentRepository.findTreeVersionRows(boardId, pageable, size + 1L);
+        boolean hasNext = rows.size() > size;
+        return CommentTreeETags.sliceOfRows(hasNext, hasNext ? rows.subList(0, size) : rows);
     }
 
     /**
@@ -91,13 +171,12 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     public CommentResponseDto update(Long commentId, Long requesterUserId, CommentRequestDto request) {
-        // 대상 댓글 조회
-        Comment comment = commentRepository.findById(commentId)
+        // 대상 댓글 조회 (응답 DTO 가 작성자를 표시하므로 작성자 fetch join)
+        Comment comment = commentRepository.findWithAuthorById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        // 요청자 조회
-        User requester = userRepository.findById(requesterUserId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 요청자 조회 — 본인 댓글이면 이미 로딩된 작성자로 판단 (추가 쿼리 없음)
+        UserAuthView requester = actorResolver.resolve(requesterUserId, comment.getAuthor());
 
         // 권한 체크 (작성자/관리자만 허용)
         checkOwnershipOrAdmin(comment, requester);
@@ -106,6 +185,8 @@ public class CommentServiceImpl implements CommentService {
         comment.changeContent(request.getContent());
 
         // JPA Dirty Checking 으로 트랜잭션 커밋 시 자동 반영
+        eventPublisher.publishEvent(CommentChangedEvent.of(
+                CommentChangedEvent.Type.UPDATED, comment.getBoard().getId(), commentId));
         return CommentResponseDto.fromEntity(comment);
     }
 
@@ -118,38 +199,74 @@ public class CommentServiceImpl implements CommentService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        // 요청자 조회
-        User requester = userRepository.findById(requesterUserId)
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 요청자 조회 ((id, role, status) 프로젝션, 요청 내 재사용)
+        UserAuthView requester = actorResolver.resolve(requesterUserId);
 
         // 권한 체크
         checkOwnershipOrAdmin(comment, requester);
 
-        // 소프트 삭제 플래그 변경
+        // 소프트 삭제 플래그 변경 (이미 삭제된 댓글이면 댓글 수를 다시 줄이지 않음)
+        boolean alreadyDeleted = comment.isDeleted();
         comment.softDelete();
-        // 필요 시 삭제 이력/감사 로그/이벤트 발행 등 확장 가능
+        if (!alreadyDeleted) {
+            boardRepository.decreaseCommentCount(comment.getBoard().getId());
+            eventPublisher.publishEvent(CommentChangedEvent.of(
+                    CommentChangedEvent.Type.DELETED, comment.getBoard().getId(), commentId));
+        }
+        // 필요 시 삭제 이력/감사 로그 등 확장 가능
     }
 
     /**
-     * 좋아요 증가
-     * - 단순 카운터 증가. 높은 동시성에서 정확성을 보장하려면 낙관적 락(@Version) 또는 DB 레벨 증분 쿼리 고려
+     * 좋아요 (사용자당 1회, 멱등)
+     * - 이미 좋아요한 경우 아무 것도 하지 않음
+     * - 좋아요 행 저장 후 카운터는 단일 UPDATE(또는 버퍼)로 증가 → 동시 요청에서도 유실 없음
+     * - 같은 사용자의 동시 중복 요청(더블 탭)은 INSERT IGNORE 가 0건으로 끝나 한 건만 반영, 오류 없음
      */
     @Override
-    public void like(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
-        comment.increaseLike();
+    public void like(Long commentId, Long userId) {
+        Long boardId = findBoardIdOf(commentId);
+        if (commentLikeRepository.insertIfAbsent(commentId, userId) == 0) {
+            return;
+        }
+        commentLikeCounter.add(commentId, 1);
+        eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.LIKED, boardId, commentId));
     }
 
     /**
-     * 좋아요 감소
-     * - 0 미만으로 내려가지 않도록 도메인에서 가드
+     * 좋아요 취소 (멱등)
+     * - 실제로 삭제된 좋아요 행이 있을 때만 카운터 감소 (0 미만 방지는 쿼리에서 가드)
      */
     @Override
-    public void unlike(Long commentId) {
-        Comment comment = commentRepository.findById(commentId)
+    public void unlike(Long commentId, Long userId) {
+        Long boardId = findBoardIdOf(commentId);
+        if (commentLikeRepository.deleteByCommentIdAndUserId(commentId, userId) > 0) {
+            commentLikeCounter.add(commentId, -1);
+            eventPublisher.publishEvent(CommentChangedEvent.of(CommentChangedEvent.Type.UNLIKED, boardId, commentId));
+        }
+    }
+
+    /**
+     * 루트 댓글 목록에 답글을 일괄(IN) 조회해 붙여 트리 DTO 로 조립
+     * - 루트/답글 모두 작성자를 fetch join 해 두었으므로 DTO 변환 중 추가 쿼리 없음
+     */
+    private List<CommentWithRepliesDto> assembleTree(List<Comment> roots) {
+        List<Long> rootIds = roots.stream()
+                .map(Comment::getId)
+                .toList();
+
+        Map<Long, List<Comment>> replyMap = rootIds.isEmpty()
+                ? Collections.emptyMap()
+                : commentRepository.findRepliesGroupedByParentIds(rootIds);
+
+        return roots.stream()
+                .map(root -> CommentWithRepliesDto.of(root, replyMap.getOrDefault(root.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /** 댓글 존재 확인 겸 소속 게시글 id 조회 (캐시 무효화용) */
+    private Long findBoardIdOf(Long commentId) {
+        return commentRepository.findBoardIdById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
-        comment.decreaseLike();
     }
 
     /**
@@ -157,11 +274,10 @@ public class CommentServiceImpl implements CommentService {
      * - 작성자 본인 또는 관리자(ROLE_ADMIN)만 허용
      * - 실패 시 FORBIDDEN 예외
      */
-    private void checkOwnershipOrAdmin(Comment comment, User requester) {
-        boolean isOwner = comment.getAuthor().getId().equals(requester.getId());
-        boolean isAdmin = requester.getRole() == UserRole.ROLE_ADMIN;
+    private void checkOwnershipOrAdmin(Comment comment, UserAuthView requester) {
+        boolean isOwner = comment.getAuthor().getId().equals(requester.getId()); // 프록시 id 접근 → 작성자 미로딩
 
-        if (!(isOwner || isAdmin)) {
+        if (!(isOwner || requester.isAdmin())) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
     }
@@ -0,0 +1,18 @@
+package com.project.board0811.domain.comment.service;
+
+import com.project.board0811.common.paging.SortPolicy;
+
+/**
+ * 댓글 트리(루트 페이지) 정렬 정책
+ * - createdAt(+id): (board_id, parent_id, created_at) 인덱스 순서 그대로
+ * - id: 게시글 한 건의 루트 댓글 범위 안에서만 정렬하므로 허용
+ */
+public final class CommentSorts {
+
+    private CommentSorts() {}
+
+    public static final SortPolicy TREE = SortPolicy.builder("createdAt")
+            .indexed("createdAt")
+            .indexed("id")
+            .build();
+}
@@ -0,0 +1,68 @@
+package com.project.board0811.domain.comment.service;
+
+import com.project.board0811.common.http.ETagBuilder;
+import com.project.board0811.domain.comment.dto.CommentResponseDto;
+import com.project.board0811.domain.comment.dto.CommentTreeVersionRow;
+import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 댓글 트리 응답 ETag 계산
+ * - 루트별 (id, updatedAt, likeCount) + 답글 집계 (개수, 최종 수정 시각, 좋아요 합) + 전체 건수(페이지) / 다음 페이지 여부(슬라이스)
+ * - 수정/삭제는 updatedAt, 좋아요는 likeCount(일괄 UPDATE 라 updatedAt 미변경)로 반영됨
+ * - 조립된 트리 DTO 와 버전 집계 쿼리 결과가 같은 값을 같은 순서로 누적하도록 한 곳에 모아 둠
+ */
+public final class CommentTreeETags {
+
+    private CommentTreeETags() {
+    }
+
+    public static String page(long total, List<CommentWithRepliesDto> tree) {
+        return addTree(ETagBuilder.of("ct").add(total), tree).build();
+    }
+
+    public static String slice(boolean hasNext, List<CommentWithRepliesDto> tree) {
+        return addTree(ETagBuilder.of("cs").add(hasNext), tree).build();
+    }
+
+    public static String pageOfRows(long total, List<CommentTreeVersionRow> rows) {
+        return addRows(ETagBuilder.of("ct").add(total), rows).build();
+    }
+
+    public static String sliceOfRows(boolean hasNext, List<CommentTreeVersionRow> rows) {
+        return addRows(ETagBuilder.of("cs").add(hasNext), rows).build();
+    }
+
+    private static ETagBuilder addTree(ETagBuilder builder, List<CommentWithRepliesDto> tree) {
+        for (CommentWithRepliesDto node : tree) {
+            CommentResponseDto root = node.getRoot();
+            builder.add(root.getId()).add(root.getUpdatedAt()).add(root.getLikeCount());
+
+            List<CommentResponseDto> replies = node.getReplies();
+            LocalDateTime lastUpdatedAt = null;
+            long likeSum = 0;
+            for (CommentResponseDto reply : replies) {
+                if (lastUpdatedAt == null || reply.getUpdatedAt().isAfter(lastUpdatedAt)) {
+                    lastUpdatedAt = reply.getUpdatedAt();
+                }
+                likeSum += reply.getLikeCount();
+            }
+            builder.add(replies.size())
+                    .add(lastUpdatedAt)
+                    .add(replies.isEmpty() ? null : Long.valueOf(likeSum));
+        }
+        return builder;
+    }
+
+    private static ETagBuilder addRows(ETagBuilder builder, List<CommentTreeVersionRow> rows) {
+        for (CommentTreeVersionRow row : rows) {
+            builder.add(row.getRootId()).add(row.getRootUpdatedAt()).add(row.getRootLikeCount())
+                    .add(row.getReplyCount() == null ? 0L : row.getReplyCount())
+                    .add(row.getReplyLastUpdatedAt())
+                    .add(row.getReplyLikeSum());
+        }
+        return builder;
+    }
+}
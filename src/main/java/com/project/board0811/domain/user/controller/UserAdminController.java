@@ -0,0 +1,39 @@
+package com.project.board0811.domain.user.controller;
+
+import com.project.board0811.common.response.CommonApiResponse;
+import com.project.board0811.domain.user.dto.response.PasswordHashingStatsResponseDto;
+import com.project.board0811.domain.user.security.PasswordHashingExecutor;
+import com.project.board0811.domain.user.security.PooledPasswordEncoder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/v1/admin/users")
+public class UserAdminController {
+
+    private final PasswordHashingExecutor passwordHashingExecutor;
+    private final PooledPasswordEncoder passwordEncoder;
+
+    /** 비밀번호 해싱 실행기 상태 (대기열 깊이, 처리 시간, 거절 건수) */
+    @GetMapping("/password-hashing")
+    public ResponseEntity<CommonApiResponse<PasswordHashingStatsResponseDto>> passwordHashingStats() {
+        PasswordHashingStatsResponseDto response = PasswordHashingStatsResponseDto.builder()
+                .strength(passwordEncoder.getStrength())
+                .poolSize(passwordHashingExecutor.poolSize())
+                .activeThreads(passwordHashingExecutor.activeCount())
+                .queueDepth(passwordHashingExecutor.queueDepth())
+                .queueCapacity(passwordHashingExecutor.queueCapacity())
+                .completed(passwordHashingExecutor.completedCount())
+                .rejected(passwordHashingExecutor.rejectedCount())
+                .timedOut(passwordHashingExecutor.timedOutCount())
+                .averageLatencyMs(passwordHashingExecutor.averageLatencyMs())
+                .averageHashMs(passwordHashingExecutor.averageHashMs())
+                .maxLatencyMs(passwordHashingExecutor.maxLatencyMs())
+                .build();
+        return ResponseEntity.ok(CommonApiResponse.ok(response));
+    }
+}
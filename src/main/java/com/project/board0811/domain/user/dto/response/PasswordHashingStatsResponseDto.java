@@ -0,0 +1,25 @@
+package com.project.board0811.domain.user.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PasswordHashingStatsResponseDto { // 비밀번호 해싱 실행기 상태
+
+    private int strength;            // 현재 BCrypt 강도
+    private int poolSize;            // 해싱 스레드 수
+    private int activeThreads;       // 해싱 중인 스레드 수
+    private int queueDepth;          // 대기 중인 해싱 요청 수
+    private int queueCapacity;       // 대기열 상한 (초과 시 429)
+    private long completed;          // 완료 건수
+    private long rejected;           // 대기열 포화로 거절된 건수
+    private long timedOut;           // 대기 시간 초과로 거절된 건수
+    private double averageLatencyMs; // 평균 처리 시간 (대기 포함)
+    private double averageHashMs;    // 평균 순수 해싱 시간
+    private double maxLatencyMs;     // 최대 처리 시간
+}
@@ -0,0 +1,27 @@
+package com.project.board0811.domain.user.dto.response;
+
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.enums.UserRole;
+import com.project.board0811.domain.user.enums.UserStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 권한 판단 전용 경량 사용자 뷰 (id, role, status)
+ * - 엔티티 전체 대신 세 컬럼만 프로젝션으로 조회 (영속성 컨텍스트/dirty checking 대상 아님)
+ */
+@Getter
+@AllArgsConstructor
+public class UserAuthView {
+    private Long id;
+    private UserRole role;
+    private UserStatus status;
+
+    public static UserAuthView from(User user) {
+        return new UserAuthView(user.getId(), user.getRole(), user.getStatus());
+    }
+
+    public boolean isAdmin() {
+        return role == UserRole.ROLE_ADMIN;
+    }
+}
@@ -4,12 +4,18 @@ import com.project.board0811.domain.user.enums.UserRole;
 import com.project.board0811.domain.user.enums.UserStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user") // 노드 로컬 2차 캐시 (SecondLevelCacheConfig)
+@BatchSize(size = 100) // 게시글/댓글 작성자 프록시 초기화를 IN (...) 한 번으로 묶음
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(
@@ -17,6 +23,11 @@ import java.time.LocalDateTime;
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_user_username", columnNames = "username"),
                 @UniqueConstraint(name = "uk_user_email", columnNames = "email")
+        },
+        indexes = {
+                @Index(name = "idx_user_status_created", columnList = "status, created_at"), // 관리자 목록 (상태 필터)
+                @Index(name = "idx_user_role_created", columnList = "role, created_at"),     // 관리자 목록 (권한 필터)
+                @Index(name = "idx_user_created_at", columnList = "created_at")
         }
 )
 public class User {
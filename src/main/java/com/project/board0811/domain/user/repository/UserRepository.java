@@ -1,17 +1,18 @@
 package com.project.board0811.domain.user.repository;
 
+import com.project.board0811.domain.user.dto.response.UserAuthView;
 import com.project.board0811.domain.user.entity.User;
 import com.project.board0811.domain.user.enums.UserRole;
 import com.project.board0811.domain.user.enums.UserStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -25,6 +26,14 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByIdAndStatus(Long id, UserStatus status); // 상태까지 포함한 단건 조회
 
+    // 권한 판단용 경량 조회 (id, role, status 만)
+    @Query("select new com.project.board0811.domain.user.dto.response.UserAuthView(u.id, u.role, u.status) from User u where u.id = :id")
+    Optional<UserAuthView> findAuthViewById(@Param("id") Long id);
+
+    // 존재하는 id 만 골라냄 (대량 이관 시 작성자 일괄 검증)
+    @Query("select u.id from User u where u.id in :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     // ===== 중복 체크 =====
     boolean existsByUsername(String username);
     boolean existsByEmail(String email);
@@ -33,9 +42,4 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Page<User> findByStatus(UserStatus status, Pageable pageable);
     Page<User> findByRole(UserRole role, Pageable pageable);
     Page<User> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
-    // ===== 부가 기능 =====
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update User u set u.lastLoginAt = :time where u.id = :id")
-    int updateLastLoginAt(@Param("id") Long id, @Param("time") LocalDateTime time); // 마지막 로그인 시각 업데이트 (쓰기전용 쿼리)
 }
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.enums.UserRole;
+import com.project.board0811.domain.user.enums.UserStatus;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 인증 주체 — 컨트롤러의 @AuthenticationPrincipal(expression = "userId") 가 읽는 값
+ */
+@Getter
+public class AuthUser implements UserDetails {
+
+    private final Long userId;
+    private final String username;
+    private final String password;
+    private final UserRole role;
+    private final UserStatus status;
+
+    public AuthUser(Long userId, String username, String password, UserRole role, UserStatus status) {
+        this.userId = userId;
+        this.username = username;
+        this.password = password;
+        this.role = role;
+        this.status = status;
+    }
+
+    public static AuthUser from(User user) {
+        return new AuthUser(user.getId(), user.getUsername(), user.getPassword(), user.getRole(), user.getStatus());
+    }
+
+    public AuthUser withPassword(String newPassword) {
+        return new AuthUser(userId, username, newPassword, role, status);
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority(role.name()));
+    }
+
+    @Override
+    public boolean isAccountNonLocked() {
+        return status != UserStatus.SUSPENDED;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return status != UserStatus.DELETED;
+    }
+}
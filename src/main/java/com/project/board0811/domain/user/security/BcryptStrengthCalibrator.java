@@ -0,0 +1,56 @@
+package com.project.board0811.domain.user.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 기동 시 BCrypt 강도(cost) 보정
+ * - 강도를 1 올릴 때마다 해싱 시간이 2배가 되므로 min 부터 측정하며 목표 시간을 넘지 않는 가장 높은 강도를 고름
+ * - 목표보다 빠른 하드웨어에서는 강도가 올라가고, 이미 저장된 낮은 강도 해시는 다음 로그인 때 재해싱됨
+ * - min(기본 10 = BCryptPasswordEncoder 기본값) 아래로는 내려가지 않음
+ */
+@Slf4j
+public final class BcryptStrengthCalibrator {
+
+    public static final int DEFAULT_MIN_STRENGTH = 10;
+    public static final int DEFAULT_MAX_STRENGTH = 16;
+
+    private static final String SAMPLE = "calibration-sample-password";
+    private static final int SAMPLES = 3;
+
+    private BcryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(long targetMs, int minStrength, int maxStrength) {
+        warmUp();
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedMs = measureMs(strength);
+            log.info("[PasswordHashing] bcrypt strength {} takes {}ms (target {}ms)", strength, elapsedMs, targetMs);
+            if (elapsedMs > targetMs) break;
+            chosen = strength;
+            if (elapsedMs * 2 > targetMs) break; // 다음 강도는 목표 초과가 확실하므로 측정 생략
+        }
+        log.info("[PasswordHashing] calibrated bcrypt strength = {}", chosen);
+        return chosen;
+    }
+
+    /** 가장 빠른 측정값 사용 (GC/JIT 등 일시적 지연 배제) */
+    private static long measureMs(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE);
+            best = Math.min(best, (System.nanoTime() - startedAt) / 1_000_000);
+        }
+        return best;
+    }
+
+    private static void warmUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+        for (int i = 0; i < 20; i++) {
+            encoder.encode(SAMPLE);
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.common.ratelimit.StripedTokenBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 시도 제한 (사용자명별 + IP별 토큰 버킷)
+ * - 사용자명: 한 계정에 대한 비밀번호 대입, IP: 한 출처에서 여러 계정을 도는 크리덴셜 스터핑
+ * - 인증 시도마다 두 버킷에서 1개씩 먼저 소비 — 거절된 시도는 사용자 조회/BCrypt 를 하지 않음
+ *   (사용자명 버킷에서 거절되면 먼저 소비한 IP 토큰은 돌려줌 → 잠긴 계정 하나를 두드려도 같은 IP 의 다른 계정 로그인은 막히지 않음)
+ * - 성공한 시도는 소비분을 돌려줌 → 실패만 누적 (HTTP Basic 은 요청마다 인증하므로 정상 클라이언트가 막히지 않도록)
+ * - 메모리 전용이라 인스턴스별로 적용됨 (인스턴스 N 대면 실제 허용량은 최대 N 배)
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final StripedTokenBuckets byUsername;
+    private final StripedTokenBuckets byIp;
+    private final LongAdder rejected = new LongAdder();
+
+    public LoginAttemptLimiter(
+            @Value("${user.login.rate-limit.username.capacity:5}") int usernameCapacity,
+            @Value("${user.login.rate-limit.username.refill-seconds:12}") long usernameRefillSeconds,
+            @Value("${user.login.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${user.login.rate-limit.ip.refill-seconds:2}") long ipRefillSeconds,
+            @Value("${user.login.rate-limit.stripes:64}") int stripes,
+            @Value("${user.login.rate-limit.max-keys:100000}") int maxKeys) {
+        this.byUsername = new StripedTokenBuckets(usernameCapacity, Duration.ofSeconds(usernameRefillSeconds), stripes, maxKeys);
+        this.byIp = new StripedTokenBuckets(ipCapacity, Duration.ofSeconds(ipRefillSeconds), stripes, maxKeys);
+    }
+
+    /**
+     * 인증 시도 1회 허용 여부 확인 — 초과 시 LOGIN_RATE_LIMITED(429)
+     * @param username 입력된 로그인 식별자 (대소문자/공백 무시)
+     * @param ip       요청 출처 (알 수 없으면 null → 사용자명 기준만 적용)
+     */
+    public void acquire(String username, String ip) {
+        long now = System.nanoTime();
+        if (ip != null) {
+            reject(byIp.tryAcquire(ip, now));
+        }
+        if (username != null && !username.isBlank()) {
+            long waitNanos = byUsername.tryAcquire(username.trim().toLowerCase(Locale.ROOT), now);
+            if (waitNanos != 0 && ip != null) {
+                byIp.refund(ip);
+            }
+            reject(waitNanos);
+        }
+    }
+
+    /** 인증 성공 — acquire 에서 소비한 토큰 반환 */
+    public void succeeded(String username, String ip) {
+        if (ip != null) {
+            byIp.refund(ip);
+        }
+        if (username != null && !username.isBlank()) {
+            byUsername.refund(username.trim().toLowerCase(Locale.ROOT));
+        }
+    }
+
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    /** 추적 중인 사용자명/IP 키 수 */
+    public int trackedKeys() {
+        return byUsername.size() + byIp.size();
+    }
+
+    private void reject(long waitNanos) {
+        if (waitNanos == 0) return;
+        rejected.increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        throw new CustomException(ErrorCode.LOGIN_RATE_LIMITED, "retry after " + retryAfterSeconds + "s");
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.domain.user.service.UserService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 성공 시 마지막 로그인 시각 기록 (메모리 버퍼 → LastLoginRecorder 가 주기적으로 일괄 반영)
+ */
+@Component
+@RequiredArgsConstructor
+public class LoginSuccessListener {
+
+    private final UserService userService;
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        if (event.getAuthentication().getPrincipal() instanceof AuthUser user) {
+            userService.updateLastLoginAt(user.getUserId());
+        }
+    }
+}
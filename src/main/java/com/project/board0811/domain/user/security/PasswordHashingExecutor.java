@@ -0,0 +1,150 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해싱(BCrypt) 전용 고정 크기 실행기
+ * - 해싱은 CPU 만 쓰는 작업이라 스레드 수를 코어 절반으로 묶어 요청 처리에 쓸 CPU 를 남김
+ * - 대기열이 가득 차거나 대기 시간이 wait-timeout 을 넘으면 즉시 TOO_MANY_REQUESTS(429) — 가입 폭주 시 무한 대기 대신 거절
+ * - 호출 스레드는 결과를 기다리는 동안 CPU 를 쓰지 않음 (가상 스레드 모드에서는 캐리어도 점유하지 않음)
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private final ThreadPoolExecutor executor;
+    private final int queueCapacity;
+    private final long waitTimeoutMs;
+
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong timedOut = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder latencyNanos = new LongAdder(); // 제출 ~ 완료 (대기 + 해싱)
+    private final LongAdder hashNanos = new LongAdder();    // 순수 해싱 시간
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public PasswordHashingExecutor(@Value("${user.password.hashing.threads:0}") int threads,
+                                   @Value("${user.password.hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${user.password.hashing.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.queueCapacity = queueCapacity;
+        this.waitTimeoutMs = waitTimeoutMs;
+    }
+
+    /** 해싱 작업을 전용 스레드에서 실행하고 결과를 기다림 (포화 시 TOO_MANY_REQUESTS) */
+    public <T> T execute(Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                try {
+                    return task.get();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS, "password hashing queue is full");
+        }
+
+        try {
+            T result = future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+            recordLatency(System.nanoTime() - submittedAt);
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timedOut.incrementAndGet();
+            throw new CustomException(ErrorCode.TOO_MANY_REQUESTS, "password hashing timed out");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) throw runtime;
+            throw new CustomException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    private void recordLatency(long nanos) {
+        completed.increment();
+        latencyNanos.add(nanos);
+        maxLatencyNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public int poolSize() {
+        return executor.getMaximumPoolSize();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    public int queueCapacity() {
+        return queueCapacity;
+    }
+
+    public long completedCount() {
+        return completed.sum();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public long timedOutCount() {
+        return timedOut.get();
+    }
+
+    /** 평균 처리 시간(대기 포함, ms) */
+    public double averageLatencyMs() {
+        long count = completed.sum();
+        return count == 0 ? 0 : latencyNanos.sum() / (double) count / 1_000_000;
+    }
+
+    /** 평균 순수 해싱 시간(ms) — 보정된 강도가 목표에 맞는지 확인용 */
+    public double averageHashMs() {
+        long count = completed.sum();
+        return count == 0 ? 0 : hashNanos.sum() / (double) count / 1_000_000;
+    }
+
+    public double maxLatencyMs() {
+        return maxLatencyNanos.get() / 1_000_000.0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
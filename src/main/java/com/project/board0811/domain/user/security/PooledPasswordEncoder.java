@@ -0,0 +1,41 @@
+package com.project.board0811.domain.user.security;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * BCrypt 해싱/검증을 PasswordHashingExecutor 에서 실행하는 PasswordEncoder
+ * - 회원가입/비밀번호 변경뿐 아니라 Spring Security 로그인 검증도 같은 풀을 거치므로 해싱 CPU 총량이 하나로 묶임
+ * - upgradeEncoding: 저장된 해시의 강도가 현재 강도보다 낮으면 true → 로그인 성공 시 새 강도로 재해싱 (UserAccountService.updatePassword)
+ */
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+    private final int strength;
+
+    public PooledPasswordEncoder(int strength, PasswordHashingExecutor executor) {
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.executor = executor;
+        this.strength = strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword); // 해시 접두부($2a$10$) 비교뿐이라 호출 스레드에서 처리
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.board0811.domain.user.security;
+
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+
+/**
+ * 로그인 시도 제한을 먼저 확인한 뒤 실제 인증(DaoAuthenticationProvider)에 위임
+ * - 거절은 CustomException(LOGIN_RATE_LIMITED) 으로 ProviderManager 를 그대로 통과해 /error 에서 429 로 응답
+ *   (ERROR 디스패치는 SecurityConfig 에서 permitAll — 익명 요청이어도 401 로 바뀌지 않음)
+ *   (AuthenticationException 이 아니므로 다른 provider 로 넘어가거나 실패 이벤트로 집계되지 않음)
+ * - 세션으로 이미 인증된 요청은 provider 까지 오지 않으므로 시도로 세지 않음
+ * - 인증에 성공하면 소비한 시도를 돌려줌 — 요청마다 인증하는 HTTP Basic 클라이언트는 실패하지 않는 한 제한되지 않음
+ */
+public class RateLimitedAuthenticationProvider implements AuthenticationProvider {
+
+    private final LoginAttemptLimiter limiter;
+    private final AuthenticationProvider delegate;
+
+    public RateLimitedAuthenticationProvider(LoginAttemptLimiter limiter, AuthenticationProvider delegate) {
+        this.limiter = limiter;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String ip = authentication.getDetails() instanceof WebAuthenticationDetails details
+                ? details.getRemoteAddress()
+                : null;
+        limiter.acquire(authentication.getName(), ip);
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.isAuthenticated()) {
+            limiter.succeeded(authentication.getName(), ip);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,43 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 로그인용 사용자 조회 + 해시 강도 업그레이드
+ * - DaoAuthenticationProvider 가 비밀번호 검증 성공 후 PasswordEncoder.upgradeEncoding 이 true 이면
+ *   입력 비밀번호를 현재 강도로 다시 해싱해 updatePassword 를 호출함 (사용자 개입 없이 점진 전환)
+ * - 재해싱은 엔티티 변경으로 반영 — JPQL 벌크 UPDATE 는 강도 변경 직후 로그인마다 User 2차 캐시 영역 전체를 비움
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserAccountService implements UserDetailsService, UserDetailsPasswordService {
+
+    private final UserRepository userRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UserDetails loadUserByUsername(String username) {
+        return userRepository.findByUsername(username)
+                .map(AuthUser::from)
+                .orElseThrow(() -> new UsernameNotFoundException(username));
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        AuthUser authUser = (AuthUser) user;
+        userRepository.findById(authUser.getUserId()) // 보통 2차 캐시 적중 → UPDATE 1건
+                .ifPresent(found -> found.changePassword(newPassword));
+        log.info("[PasswordHashing] rehashed password of user {} with current strength", authUser.getUserId());
+        return authUser.withPassword(newPassword);
+    }
+}
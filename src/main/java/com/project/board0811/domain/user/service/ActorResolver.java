@@ -0,0 +1,69 @@
+package com.project.board0811.domain.user.service;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.domain.user.dto.response.UserAuthView;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 쓰기 요청의 행위자(acting user) 조회 + 요청 범위 캐시
+ * - (id, role, status) 프로젝션 1회 조회 후 요청 속성에 보관 → 같은 요청 안의 재조회는 쿼리 없음
+ * - 요청 밖(스케줄러/테스트)에서는 캐시 없이 매번 조회
+ * - 대상 엔티티가 행위자 본인으로 이미 로딩되어 있으면 그 값을 사용
+ * - 같은 요청에서 역할/상태를 바꾼 경우 evict 로 제거
+ */
+@Component
+@RequiredArgsConstructor
+public class ActorResolver {
+
+    private static final String ATTRIBUTE_PREFIX = ActorResolver.class.getName() + ".";
+
+    private final UserRepository userRepository;
+
+    public UserAuthView resolve(Long userId) {
+        if (userId == null) {
+            throw new CustomException(ErrorCode.USER_NOT_FOUND);
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return load(userId);
+        }
+
+        String key = ATTRIBUTE_PREFIX + userId;
+        Object cached = attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof UserAuthView view) {
+            return view;
+        }
+        UserAuthView view = load(userId);
+        attributes.setAttribute(key, view, RequestAttributes.SCOPE_REQUEST);
+        return view;
+    }
+
+    /**
+     * 이미 로딩된 사용자 엔티티가 행위자 본인이면 그 값으로 판단 (조회 생략)
+     * - 예: 본인 글/댓글 수정, 본인 프로필 변경
+     */
+    public UserAuthView resolve(Long userId, User loaded) {
+        if (loaded != null && userId != null && userId.equals(loaded.getId())) {
+            return UserAuthView.from(loaded);
+        }
+        return resolve(userId);
+    }
+
+    public void evict(Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.removeAttribute(ATTRIBUTE_PREFIX + userId, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private UserAuthView load(Long userId) {
+        return userRepository.findAuthViewById(userId)
+                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+    }
+}
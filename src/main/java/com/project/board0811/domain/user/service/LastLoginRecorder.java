@@ -0,0 +1,116 @@
+package com.project.board0811.domain.user.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 마지막 로그인 시각 write-behind 기록기
+ * - 로그인마다 users 행을 UPDATE 하지 않고 사용자별 최신 시각만 메모리에 보관
+ * - user.last-login.flush-interval-ms 주기로 분 단위로 내림한 시각별로 묶어 "where id in (...)" 일괄 UPDATE
+ *   (화면 표시가 분 단위라 초 이하는 버림 → 보통 주기당 UPDATE 1건)
+ * - 저장된 값보다 이른 시각으로는 덮어쓰지 않음 (여러 인스턴스의 flush 순서와 무관)
+ * - JPQL 벌크 UPDATE 는 User 2차 캐시 영역 전체를 비우므로 JDBC 로 갱신하고 해당 사용자만 커밋 후 제거
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LastLoginRecorder {
+
+    private static final int IN_CLAUSE_CHUNK = 1000;
+    private static final String UPDATE_IF_LATER =
+            "update users set last_login_at = ? where id in (%s) and (last_login_at is null or last_login_at < ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final UserCacheEvictor userCacheEvictor;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    /** 로그인 시각 기록 (같은 사용자는 가장 늦은 시각만 유지) */
+    public void record(Long userId, LocalDateTime loggedInAt) {
+        pending.merge(userId, loggedInAt, (a, b) -> a.isAfter(b) ? a : b);
+    }
+
+    @Scheduled(fixedDelayString = "${user.last-login.flush-interval-ms:10000}")
+    public void flush() {
+        if (!flushLock.tryLock()) return;
+        try {
+            Map<Long, LocalDateTime> snapshot = drain();
+            if (snapshot.isEmpty()) return;
+
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(snapshot));
+                log.debug("[LastLogin] flushed {} users", snapshot.size());
+            } catch (RuntimeException e) {
+                snapshot.forEach(this::record);
+                log.error("[LastLogin] flush failed, {} users re-queued - {}", snapshot.size(), e.getMessage());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flushLock.lock(); // 진행 중인 flush 가 끝날 때까지 대기
+        flushLock.unlock();
+        flush();
+    }
+
+    /** 반영 대기 중인 사용자 수 */
+    public int pendingUsers() {
+        return pending.size();
+    }
+
+    // 키 단위 remove 는 merge 와 직렬화되므로 drain 도중 들어온 기록은 다음 주기로 넘어감
+    private Map<Long, LocalDateTime> drain() {
+        Map<Long, LocalDateTime> snapshot = new HashMap<>();
+        for (Long userId : pending.keySet()) {
+            LocalDateTime at = pending.remove(userId);
+            if (at != null) snapshot.put(userId, at);
+        }
+        return snapshot;
+    }
+
+    private void apply(Map<Long, LocalDateTime> snapshot) {
+        Map<LocalDateTime, List<Long>> idsByMinute = new TreeMap<>();
+        snapshot.forEach((id, at) -> idsByMinute
+                .computeIfAbsent(at.truncatedTo(ChronoUnit.MINUTES), m -> new ArrayList<>()).add(id));
+
+        idsByMinute.forEach((minute, ids) -> {
+            for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK, ids.size()));
+                updateIfLater(chunk, minute);
+            }
+        });
+        userCacheEvictor.evictAfterCommit(snapshot.keySet());
+    }
+
+    private void updateIfLater(List<Long> ids, LocalDateTime time) {
+        Timestamp at = Timestamp.valueOf(time);
+        List<Object> args = new ArrayList<>(ids.size() + 2);
+        args.add(at);
+        args.addAll(ids);
+        args.add(at);
+        jdbcTemplate.update(UPDATE_IF_LATER.formatted(String.join(",", Collections.nCopies(ids.size(), "?"))),
+                args.toArray());
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.board0811.domain.user.service;
+
+import com.project.board0811.domain.user.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * User 2차 캐시 항목 제거 (SecondLevelCacheConfig)
+ * - 트랜잭션 안에서는 커밋 후에 제거 — 커밋 전에 지우면 다른 요청이 옛 행을 다시 캐시에 올릴 수 있음
+ * - JDBC 로 직접 바꾼 행(마지막 로그인 시각 등)은 Hibernate 가 모르므로 반드시 여기서 제거
+ * - JPQL 벌크 UPDATE 는 영역 전체를 비우므로 사용자 행 변경은 엔티티 변경 또는 JDBC + 이 클래스로
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictAfterCommit(Long userId) {
+        evictAfterCommit(List.of(userId));
+    }
+
+    public void evictAfterCommit(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userIds);
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(ids);
+            }
+        });
+    }
+
+    private void evict(Collection<Long> userIds) {
+        jakarta.persistence.Cache cache = entityManagerFactory.getCache();
+        for (Long userId : userIds) {
+            cache.evict(User.class, userId);
+        }
+    }
+}
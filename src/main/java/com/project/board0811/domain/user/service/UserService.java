@@ -28,5 +28,5 @@ public interface UserService {
 
     void delete(Long id, Long requesterUserId); //  탈퇴 처리(소프트 삭제: status=DELETED)
 
-    void updateLastLoginAt(Long id); // 마지막 로그인 시각 업데이트
+    void updateLastLoginAt(Long id); // 마지막 로그인 시각 기록 (버퍼링 후 주기적 일괄 반영)
 }
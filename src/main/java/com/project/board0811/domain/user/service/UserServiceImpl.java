@@ -5,18 +5,22 @@ import com.project.board0811.common.exception.ErrorCode;
 import com.project.board0811.common.paging.PageConverters;
 import com.project.board0811.common.paging.PageRequestDto;
 import com.project.board0811.common.paging.PageResponse;
+import com.project.board0811.common.paging.SortPolicy;
 import com.project.board0811.domain.user.entity.User;
 import com.project.board0811.domain.user.enums.UserRole;
 import com.project.board0811.domain.user.enums.UserStatus;
 import com.project.board0811.domain.user.dto.request.UserCreateRequestDto;
 import com.project.board0811.domain.user.dto.request.UserUpdateRequestDto;
+import com.project.board0811.domain.user.dto.response.UserAuthView;
 import com.project.board0811.domain.user.dto.response.UserResponseDto;
 import com.project.board0811.domain.user.dto.response.UserSummaryResponseDto;
 import com.project.board0811.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -29,6 +33,9 @@ public class UserServiceImpl implements UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder; // BCryptPasswordEncoder 등 빈 등록 필요
+    private final ActorResolver actorResolver;     // 행위자 (id, role, status) 요청 범위 캐시
+    private final LastLoginRecorder lastLoginRecorder;
+    private final UserCacheEvictor userCacheEvictor;   // 2차 캐시 항목 커밋 후 제거
 
     // ===== Create =====
     @Override
@@ -60,7 +67,8 @@ public class UserServiceImpl implements UserService {
                                                      UserStatus status,
                                                      UserRole role,
                                                      String keyword) {
-        var pageable = pageReq.toPageable();
+        SortPolicy.ResolvedSort sort = pageReq.resolveSort(UserSorts.ADMIN_LIST);
+        var pageable = PageRequest.of(pageReq.getPage(), pageReq.getSize(), sort.sort());
 
         Page<User> page;
         if (keyword != null && !keyword.isBlank()) {
@@ -75,14 +83,14 @@ public class UserServiceImpl implements UserService {
         }
 
         return PageConverters.toResponse(page, UserSummaryResponseDto::from,
-                pageReq.getSort(), pageReq.getDirection());
+                sort.key(), sort.directionName());
     }
 
     // ===== Update Profile =====
     @Override
     public UserResponseDto update(Long id, Long editorUserId, UserUpdateRequestDto request) {
         User target = getUserOrThrow(id);
-        User editor = getUserOrThrow(editorUserId);
+        UserAuthView editor = actorResolver.resolve(editorUserId, target); // 본인이면 추가 조회 없음
 
         // 본인 또는 관리자만 프로필 수정 가능
         checkSelfOrAdmin(target, editor);
@@ -101,7 +109,9 @@ public class UserServiceImpl implements UserService {
         if (request.getRole() != null || request.getStatus() != null) {
             checkAdmin(editor);          // 관리자 아니면 FORBIDDEN
             request.applyAdminOnly(target);
+            actorResolver.evict(id);     // 같은 요청에서 바뀐 역할/상태를 다시 읽도록
         }
+        userCacheEvictor.evictAfterCommit(id);
 
         return UserResponseDto.from(target);
     }
@@ -110,7 +120,7 @@ public class UserServiceImpl implements UserService {
     @Override
     public void changePassword(Long id, Long requesterUserId, String newPassword) {
         User target = getUserOrThrow(id);
-        User requester = getUserOrThrow(requesterUserId);
+        UserAuthView requester = actorResolver.resolve(requesterUserId, target);
 
         checkSelfOrAdmin(target, requester);
 
@@ -122,38 +132,44 @@ public class UserServiceImpl implements UserService {
     @Override
     public void changeRole(Long id, Long adminUserId, UserRole newRole) {
         User target = getUserOrThrow(id);
-        User admin = getUserOrThrow(adminUserId);
+        UserAuthView admin = actorResolver.resolve(adminUserId, target);
 
         checkAdmin(admin);
         target.changeRole(newRole);
+        actorResolver.evict(id);
+        userCacheEvictor.evictAfterCommit(id);
     }
 
     // ===== Change Status (Admin only) =====
     @Override
     public void changeStatus(Long id, Long adminUserId, UserStatus newStatus) {
         User target = getUserOrThrow(id);
-        User admin = getUserOrThrow(adminUserId);
+        UserAuthView admin = actorResolver.resolve(adminUserId, target);
 
         checkAdmin(admin);
         target.changeStatus(newStatus);
+        actorResolver.evict(id);
+        userCacheEvictor.evictAfterCommit(id);
     }
 
     // ===== Soft Delete (본인 또는 관리자) =====
     @Override
     public void delete(Long id, Long requesterUserId) {
         User target = getUserOrThrow(id);
-        User requester = getUserOrThrow(requesterUserId);
+        UserAuthView requester = actorResolver.resolve(requesterUserId, target);
 
         checkSelfOrAdmin(target, requester);
         target.changeStatus(UserStatus.DELETED);
+        actorResolver.evict(id);
+        userCacheEvictor.evictAfterCommit(id);
     }
 
     // ===== Last Login Update =====
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // DB 접근 없음 — 트랜잭션/커넥션을 잡지 않음
     public void updateLastLoginAt(Long id) {
-        // 존재 체크
-        getUserOrThrow(id);
-        userRepository.updateLastLoginAt(id, LocalDateTime.now());
+        // 메모리 버퍼에만 기록, 주기적으로 일괄 UPDATE (없는 id 는 반영 시 0건)
+        lastLoginRecorder.record(id, LocalDateTime.now());
     }
 
     // ===== Helpers =====
@@ -163,16 +179,15 @@ public class UserServiceImpl implements UserService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
     }
 
-    protected void checkSelfOrAdmin(User target, User actor) {
+    protected void checkSelfOrAdmin(User target, UserAuthView actor) {
         boolean isSelf = target.getId().equals(actor.getId());
-        boolean isAdmin = actor.getRole() == UserRole.ROLE_ADMIN;
-        if (!isSelf && !isAdmin) {
+        if (!isSelf && !actor.isAdmin()) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
     }
 
-    protected void checkAdmin(User actor) {
-        if (actor.getRole() != UserRole.ROLE_ADMIN) {
+    protected void checkAdmin(UserAuthView actor) {
+        if (!actor.isAdmin()) {
             throw new CustomException(ErrorCode.FORBIDDEN);
         }
     }
@@ -0,0 +1,16 @@
+package com.project.board0811.domain.user.service;
+
+import com.project.board0811.common.paging.SortPolicy;
+
+/**
+ * 관리자 회원 목록 정렬 정책
+ * - createdAt(+id): (status, created_at) / (role, created_at) / (created_at) 인덱스 순서 그대로
+ */
+public final class UserSorts {
+
+    private UserSorts() {}
+
+    public static final SortPolicy ADMIN_LIST = SortPolicy.builder("createdAt")
+            .indexed("createdAt")
+            .build();
+}
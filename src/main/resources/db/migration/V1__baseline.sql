@@ -0,0 +1,67 @@
+-- 기준선: ddl-auto(update) 시절 원래 엔티티 매핑(IDENTITY id, 댓글 수 컬럼/좋아요 테이블/id_sequences 도입 전)으로 생성되던 스키마 그대로
+-- 이미 운영 중인 DB 는 spring.flyway.baseline-on-migrate 로 이 버전을 적용된 것으로 간주하고 V2 부터 반영
+
+create table users (
+    id            bigint       not null auto_increment,
+    username      varchar(50)  not null,
+    email         varchar(100) not null,
+    password      varchar(255) not null,
+    name          varchar(50)  not null,
+    role          enum ('ROLE_USER','ROLE_ADMIN') not null,
+    status        enum ('ACTIVE','SUSPENDED','DELETED') not null,
+    last_login_at datetime(6),
+    created_at    datetime(6)  not null,
+    updated_at    datetime(6)  not null,
+    primary key (id),
+    constraint uk_user_username unique (username),
+    constraint uk_user_email unique (email)
+) engine = InnoDB;
+
+create table board (
+    id         bigint       not null auto_increment,
+    author_id  bigint       not null,
+    title      varchar(150) not null,
+    content    longtext     not null,
+    category   enum ('NOTICE','FREE','QNA','TIP') not null,
+    status     enum ('PUBLIC','PRIVATE','DELETED') not null,
+    view_count integer      not null,
+    version    bigint,
+    deleted_at datetime(6),
+    created_at datetime(6)  not null,
+    updated_at datetime(6)  not null,
+    primary key (id)
+) engine = InnoDB;
+
+create index idx_board_created_at on board (created_at);
+create index idx_board_author_id on board (author_id);
+create index idx_board_status on board (status);
+create index idx_board_category on board (category);
+
+alter table board
+    add constraint fk_board_author foreign key (author_id) references users (id);
+
+create table comments (
+    id         bigint      not null auto_increment,
+    board_id   bigint      not null,
+    user_id    bigint      not null,
+    parent_id  bigint,
+    content    text        not null,
+    depth      integer     not null,
+    is_deleted bit         not null,
+    like_count integer     not null,
+    created_at datetime(6) not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    check (depth in (0,1))
+) engine = InnoDB;
+
+create index idx_comment_post_parent_created on comments (board_id, parent_id, created_at);
+create index idx_comment_post_depth_created on comments (board_id, depth, created_at);
+create index idx_comment_user_created on comments (user_id, created_at);
+
+alter table comments
+    add constraint fk_comment_board foreign key (board_id) references board (id);
+alter table comments
+    add constraint fk_comment_user foreign key (user_id) references users (id);
+alter table comments
+    add constraint fk_comment_parent foreign key (parent_id) references comments (id);
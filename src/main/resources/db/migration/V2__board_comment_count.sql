@@ -0,0 +1,7 @@
+-- 목록용 댓글 수 비정규화 (삭제되지 않은 댓글+답글) — 이후 댓글 작성/삭제 시 증분 쿼리로 유지, CommentCountReconciler 가 주기 보정
+-- 기존 글은 comments 에서 한 번 집계해 채움 (idx_comment_post_parent_created 선두 board_id 사용)
+
+alter table board add column comment_count integer not null default 0;
+
+update board b
+set b.comment_count = (select count(*) from comments c where c.board_id = b.id and c.is_deleted = 0);
@@ -0,0 +1,13 @@
+-- 댓글 좋아요 (사용자당 1회) — (comment_id, user_id) 유니크로 중복 좋아요를 DB 수준에서 차단
+-- comments.like_count 는 이 테이블에 행이 실제로 추가/삭제된 경우에만 증감 (기존 값은 그대로 유지)
+
+create table comment_likes (
+    id         bigint      not null auto_increment,
+    comment_id bigint      not null,
+    user_id    bigint      not null,
+    created_at datetime(6) not null,
+    primary key (id),
+    constraint uk_comment_like_comment_user unique (comment_id, user_id)
+) engine = InnoDB;
+
+create index idx_comment_like_user on comment_likes (user_id);
@@ -0,0 +1,20 @@
+-- 게시글/댓글 id: IDENTITY → 테이블 생성기(pooled-lo, INSERT 배치 가능) + IdRangeAllocator 공용 id_sequences
+-- pooled-lo 의 next_val 은 "아직 할당되지 않은 첫 id" 이므로 기존 max(id) + 1 로 채움 (1 부터 시작하면 기존 id 와 충돌)
+
+create table id_sequences (
+    seq_name varchar(255) not null,
+    next_val bigint,
+    primary key (seq_name)
+) engine = InnoDB;
+
+insert into id_sequences (seq_name, next_val)
+select 'board', coalesce(max(id), 0) + 1 from board;
+
+insert into id_sequences (seq_name, next_val)
+select 'comments', coalesce(max(id), 0) + 1 from comments;
+
+-- id 는 애플리케이션이 정하므로 auto_increment 제거 (참조 FK 가 있는 컬럼이라 타입은 그대로, 검사만 잠시 끔)
+set foreign_key_checks = 0;
+alter table board modify id bigint not null;
+alter table comments modify id bigint not null;
+set foreign_key_checks = 1;
@@ -0,0 +1,22 @@
+-- 목록 쿼리 형태(조건 + created_at 정렬, 동순위는 id)에 맞춘 복합 인덱스
+-- 단일 컬럼 인덱스로는 조건 인덱스 하나만 타고 나머지를 filesort 하던 쿼리들
+
+-- 전체 목록 / 랭킹 재구축: status <> 'DELETED' order by created_at, id
+--   status 가 부정 조건이라 선두에 두면 범위 두 개로 갈라져 정렬을 못 씀 → 정렬 컬럼을 앞에, 필터는 인덱스 안에서 검사
+create index idx_board_created_id_status on board (created_at, id, status);
+
+-- 작성자 목록: author_id = ? and status <> 'DELETED' order by created_at, id (fk_board_author 도 이 인덱스 사용)
+create index idx_board_author_created_id_status on board (author_id, created_at, id, status);
+
+-- 카테고리 목록(keyset 포함): status = 'PUBLIC' and category = ? order by created_at, id (InnoDB 보조 인덱스 끝에 PK 포함)
+create index idx_board_status_category_created on board (status, category, created_at);
+
+drop index idx_board_created_at on board;
+drop index idx_board_author_id on board;
+drop index idx_board_status on board;   -- idx_board_status_category_created 선두 컬럼과 중복
+drop index idx_board_category on board; -- category 단독 조건 쿼리 없음
+
+-- 관리자 회원 목록: status = ? / role = ? / 전체 order by created_at
+create index idx_user_status_created on users (status, created_at);
+create index idx_user_role_created on users (role, created_at);
+create index idx_user_created_at on users (created_at);
@@ -0,0 +1,18 @@
+-- 게시글 본문을 board 행에서 분리 (board_content, board 와 PK 공유 1:1)
+-- 목록/참조/상태 변경 등 본문이 필요 없는 게시글 로딩이 LOB 을 함께 읽지 않도록 상세 조회에서만 PK 로 읽음
+-- body 는 애플리케이션이 인코딩한 바이트 (encoding = PLAIN: UTF-8 그대로, DEFLATE: zlib 압축)
+
+create table board_content (
+    board_id        bigint                   not null,
+    encoding        enum ('PLAIN','DEFLATE') not null,
+    original_length integer                  not null,
+    body            longblob                 not null,
+    primary key (board_id)
+) engine = InnoDB;
+
+alter table board_content
+    add constraint fk_board_content_board foreign key (board_id) references board (id);
+
+-- 기존 본문은 BoardContentMigrationJob 이 id 청크 단위로 옮기고 NULL 로 비움 (대형 INSERT ... SELECT 한 번으로 옮기지 않음)
+-- 새 글은 이 컬럼을 쓰지 않으므로 NULL 허용으로 전환, 컬럼 삭제는 이관 완료 확인 후 별도 마이그레이션에서
+alter table board modify content longtext null;
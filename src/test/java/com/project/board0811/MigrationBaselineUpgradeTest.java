@@ -0,0 +1,92 @@
+package com.project.board0811;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 운영 DB 업그레이드 경로 검증
+ * - ddl-auto 시절 원래 엔티티로 만들어진 DB(= V1 스크립트를 Flyway 밖에서 실행, 이력 테이블 없음)에 데이터를 넣고
+ *   baseline-on-migrate(baseline-version 1)로 마이그레이션 → V2 부터 적용되는지
+ * - 실행: ./gradlew explainTest (임베디드 MariaDB)
+ */
+@Tag("explain")
+class MigrationBaselineUpgradeTest {
+
+    private static final String SCHEMA = "board_upgrade";
+
+    private static DB mariaDb;
+    private static DataSource dataSource;
+
+    @BeforeAll
+    static void start() throws Exception {
+        DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+        config.setPort(0); // 빈 포트 자동 선택
+        mariaDb = DB.newEmbeddedDB(config.build());
+        mariaDb.start();
+        mariaDb.createDB(SCHEMA);
+        dataSource = new DriverManagerDataSource(
+                "jdbc:mariadb://localhost:" + mariaDb.getConfiguration().getPort() + "/" + SCHEMA, "root", "");
+    }
+
+    @AfterAll
+    static void stop() throws Exception {
+        mariaDb.stop();
+    }
+
+    @Test
+    void originalSchemaIsBaselinedAndUpgraded() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__baseline.sql")).execute(dataSource);
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("""
+                insert into users (username, email, password, name, role, status, created_at, updated_at)
+                values ('old', 'old@example.com', 'encoded', 'old', 'ROLE_USER', 'ACTIVE', now(), now())
+                """);
+        for (int i = 0; i < 3; i++) {
+            jdbc.update("""
+                    insert into board (author_id, title, content, category, status, view_count, version, created_at, updated_at)
+                    values (1, 'IDENTITY 시절 글', '본문', 'FREE', 'PUBLIC', 0, 0, now(), now())
+                    """);
+        }
+        for (int i = 0; i < 4; i++) { // 1번 글: 댓글 4개 중 1개 삭제
+            jdbc.update("""
+                    insert into comments (board_id, user_id, content, depth, is_deleted, like_count, created_at, updated_at)
+                    values (1, 1, '댓글', 0, ?, 0, now(), now())
+                    """, i == 3);
+        }
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+
+        assertThat(jdbc.queryForList("select comment_count from board order by id", Integer.class))
+                .containsExactly(3, 0, 0);
+        assertThat(jdbc.queryForObject("select next_val from id_sequences where seq_name = 'board'", Long.class))
+                .isEqualTo(4L);
+        assertThat(jdbc.queryForObject("select next_val from id_sequences where seq_name = 'comments'", Long.class))
+                .isEqualTo(5L);
+        assertThat(jdbc.queryForObject("select count(*) from comment_likes", Integer.class)).isZero();
+        assertThat(jdbc.queryForList("""
+                select extra from information_schema.columns
+                where table_schema = ? and table_name in ('board', 'comments') and column_name = 'id'
+                """, String.class, SCHEMA)).noneMatch(extra -> extra.contains("auto_increment"));
+        assertThat(jdbc.queryForObject(
+                "select count(*) from board_content", Integer.class)).isZero(); // 본문 이관은 BoardContentMigrationJob 몫
+    }
+}
@@ -0,0 +1,102 @@
+package com.project.board0811.common.concurrent;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimitTest {
+
+    private static final long MS = Duration.ofMillis(1).toNanos();
+
+    @Test
+    void rejectsBeyondLimitAndCountsRejections() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2, 1, 10, 1.5, 0.2);
+
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isTrue();
+        assertThat(limit.tryAcquire()).isFalse();
+        assertThat(limit.rejectedCount()).isEqualTo(1);
+
+        limit.releaseWithoutSample();
+        assertThat(limit.inFlight()).isEqualTo(1);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void risingLatencyShrinksLimitAndRecoveryGrowsIt() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 5, 100, 1.5, 0.2);
+        saturate(limit, 200, 10 * MS);
+        int steady = limit.limit();
+        assertThat(steady).isGreaterThanOrEqualTo(40);
+
+        saturate(limit, 3, 100 * MS); // DB 지연 10배
+        int degraded = limit.limit();
+        assertThat(degraded).isLessThan(steady / 2);
+
+        saturate(limit, 20, 10 * MS);
+        assertThat(limit.limit()).isGreaterThan(degraded);
+    }
+
+    @Test
+    void appLimitedSamplesDoNotGrowLimit() {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(40, 5, 100, 1.5, 0.2);
+        for (int i = 0; i < 500; i++) { // 항상 1건만 처리 중
+            limit.tryAcquire();
+            limit.release(10 * MS);
+        }
+        assertThat(limit.limit()).isEqualTo(40);
+    }
+
+    @Test
+    void filterShedsWith503AndRetryHintWhilePoolIsFull() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        AdaptiveConcurrencyLimit read = new AdaptiveConcurrencyLimit(1, 1, 1, 1.5, 0.2);
+        AdaptiveConcurrencyLimit write = new AdaptiveConcurrencyLimit(1, 1, 1, 1.5, 0.2);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(objectMapper, read, write, 2, true);
+
+        AtomicReference<MockHttpServletResponse> shed = new AtomicReference<>();
+        AtomicReference<MockHttpServletResponse> otherPool = new AtomicReference<>();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/boards"), new MockHttpServletResponse(), (req, res) -> {
+            // 첫 READ 요청이 처리 중인 동안
+            MockHttpServletResponse second = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/boards/1"), second, (r, s) -> {
+            });
+            shed.set(second);
+
+            MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+            filter.doFilter(new MockHttpServletRequest("POST", "/api/v1/boards"), writeResponse, (r, s) -> {
+            });
+            otherPool.set(writeResponse);
+        });
+
+        assertThat(shed.get().getStatus()).isEqualTo(503);
+        assertThat(shed.get().getHeader("Retry-After")).isEqualTo("2");
+        JsonNode body = objectMapper.readTree(shed.get().getContentAsByteArray());
+        assertThat(body.get("code").asText()).isEqualTo("COMMON-503");
+        assertThat(body.get("data").get("retryAfterSeconds").asInt()).isEqualTo(2);
+        assertThat(body.get("data").get("pool").asText()).isEqualTo("READ");
+
+        assertThat(otherPool.get().getStatus()).isEqualTo(200); // 쓰기 풀은 별도
+        assertThat(read.inFlight()).isZero();
+        assertThat(read.rejectedCount()).isEqualTo(1);
+    }
+
+    // limit 만큼 동시에 처리 중인 상태에서 지연 표본을 반영
+    private void saturate(AdaptiveConcurrencyLimit limit, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) acquired++;
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.project.board0811.common.concurrent;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+    private final List<Thread> followers = Collections.synchronizedList(new ArrayList<>());
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersShareOneExecution() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Supplier<String> loader = () -> {
+            loads.incrementAndGet();
+            entered.countDown();
+            await(release);
+            return "board-1";
+        };
+
+        Future<String> leader = pool.submit(() -> flight.execute(1L, LONG, loader));
+        entered.await(5, TimeUnit.SECONDS);
+        List<Future<String>> waiting = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            waiting.add(pool.submit(() -> {
+                followers.add(Thread.currentThread());
+                return flight.execute(1L, LONG, loader);
+            }));
+        }
+        awaitFollowersParked(8);
+        release.countDown();
+
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("board-1");
+        for (Future<String> f : waiting) {
+            assertThat(f.get(5, TimeUnit.SECONDS)).isEqualTo("board-1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(flight.executedCount()).isEqualTo(1);
+        assertThat(flight.collapsedCount()).isEqualTo(8);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void failureIsSharedAndNextCallRunsAgain() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = pool.submit(() -> flight.execute(1L, LONG, () -> {
+            entered.countDown();
+            await(release);
+            throw new IllegalStateException("db down");
+        }));
+        entered.await(5, TimeUnit.SECONDS);
+        Future<String> follower = pool.submit(() -> {
+            followers.add(Thread.currentThread());
+            return flight.execute(1L, LONG, () -> "unused");
+        });
+        awaitFollowersParked(1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(flight.execute(1L, LONG, () -> "recovered")).isEqualTo("recovered"); // 실패 결과는 남지 않음
+    }
+
+    @Test
+    void followerPastDeadlineLoadsItselfAndExpiredFlightIsNotJoined() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>();
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> slow = pool.submit(() -> flight.execute(1L, Duration.ofMillis(300), () -> {
+            entered.countDown();
+            await(release);
+            return "slow";
+        }));
+        entered.await(5, TimeUnit.SECONDS);
+
+        // 마감 전 합류 → 마감까지 기다린 뒤 직접 조회
+        assertThat(flight.execute(1L, LONG, () -> "own")).isEqualTo("own");
+        assertThat(flight.timedOutCount()).isEqualTo(1);
+
+        // 마감이 지난 실행에는 합류하지 않고 새 실행으로 교체
+        assertThat(flight.execute(1L, LONG, () -> "fresh")).isEqualTo("fresh");
+        assertThat(flight.executedCount()).isEqualTo(3);
+
+        release.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    // follower 들이 결과 대기(park)에 들어갈 때까지 대기
+    private void awaitFollowersParked(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            List<Thread> snapshot;
+            synchronized (followers) {
+                snapshot = new ArrayList<>(followers);
+            }
+            if (snapshot.size() == count
+                    && snapshot.stream().allMatch(t -> t.getState() == Thread.State.TIMED_WAITING)) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        throw new AssertionError("followers did not start waiting");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.project.board0811.common.datasource;
+
+import com.project.board0811.common.concurrent.ReadCoalescer;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 내장 H2 두 개(primary = board0811, replica = board0811_replica)로 라우팅 검증
+ * - 두 DB 는 복제 관계가 아니므로 어느 쪽에서 실행됐는지를 database() 이름으로 판별
+ * - 복제 지연은 replica 의 replica_lag 테이블 값으로 흉내
+ */
+@SpringBootTest(properties = {
+        "datasource.replica.enabled=true",
+        "datasource.replica.url=jdbc:h2:mem:board0811_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "datasource.replica.username=sa",
+        "datasource.replica.password=",
+        "datasource.replica.driver-class-name=org.h2.Driver",
+        "datasource.replica.lag-query=select seconds from replica_lag",
+        "datasource.replica.max-lag-seconds=3",
+        "datasource.replica.lag-check-interval-ms=3600000", // 테스트에서 직접 check()
+        "datasource.replica.sticky-window-ms=5000"
+})
+class ReplicaRoutingDataSourceTest {
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired ReplicaLagMonitor lagMonitor;
+    @Autowired ReadYourWritesFilter readYourWritesFilter;
+    @Autowired ReadCoalescer readCoalescer;
+    @Autowired @Qualifier("primaryDataSource") DataSource primary;
+    @Autowired @Qualifier("replicaDataSource") DataSource replica;
+
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private JdbcTemplate replicaJdbc;
+    private String primaryName;
+    private String replicaName;
+
+    @BeforeEach
+    void setUp() {
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        replicaJdbc = new JdbcTemplate(replica);
+        replicaJdbc.execute("create table if not exists replica_lag (seconds int)");
+        replicaJdbc.update("delete from replica_lag");
+        replicaJdbc.update("insert into replica_lag values (0)");
+        lagMonitor.check();
+
+        primaryName = new JdbcTemplate(primary).queryForObject("select database()", String.class);
+        replicaName = replicaJdbc.queryForObject("select database()", String.class);
+        assertThat(primaryName).isNotEqualTo(replicaName);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingContext.close();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaAndWritesToPrimary() {
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(replicaName);
+        assertThat(readWrite.execute(s -> currentDatabase())).isEqualTo(primaryName);
+        assertThat(currentDatabase()).isEqualTo(primaryName); // 트랜잭션 밖
+    }
+
+    @Test
+    void readsAfterOwnWriteStayOnPrimaryWithinRequest() {
+        AtomicReference<Boolean> pinned = new AtomicReference<>(false);
+        ReplicaRoutingContext.open(false, () -> pinned.set(true));
+
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(replicaName);
+        readWrite.execute(s -> currentDatabase());
+
+        assertThat(pinned.get()).isTrue();
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(primaryName);
+    }
+
+    @Test
+    void rolledBackWriteDoesNotPin() {
+        ReplicaRoutingContext.open(false, () -> {
+        });
+
+        readWrite.execute(s -> {
+            currentDatabase();
+            s.setRollbackOnly();
+            return null;
+        });
+
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(replicaName);
+    }
+
+    @Test
+    void laggingReplicaFallsBackToPrimaryUntilCaughtUp() {
+        replicaJdbc.update("update replica_lag set seconds = 30");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(lagMonitor.lagSeconds()).isEqualTo(30);
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(primaryName);
+
+        replicaJdbc.update("update replica_lag set seconds = 1");
+        lagMonitor.check();
+
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(replicaName);
+    }
+
+    @Test
+    void stoppedReplicationDisablesReplica() {
+        replicaJdbc.update("update replica_lag set seconds = null");
+        lagMonitor.check();
+
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(primaryName);
+    }
+
+    @Test
+    void cacheFillingLoadsReadFromPrimary() {
+        assertThat(ReplicaRoutingContext.readFromPrimary(() -> readOnly.execute(s -> currentDatabase())))
+                .isEqualTo(primaryName);
+        assertThat(readOnly.execute(s -> currentDatabase())).isEqualTo(replicaName); // 힌트는 블록 안에서만
+
+        assertThat(readCoalescer.load("routing.test", List.of(1L), true, this::currentDatabase)).isEqualTo(primaryName);
+        assertThat(readCoalescer.load("routing.test", List.of(1L), false, this::currentDatabase)).isEqualTo(replicaName);
+    }
+
+    @Test
+    void pinnedRequestDoesNotJoinReplicaLeader() throws Exception {
+        CountDownLatch leaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLeader = new CountDownLatch(1);
+        AtomicBoolean first = new AtomicBoolean(true);
+        Supplier<String> loader = () -> {
+            String database = currentDatabase();
+            if (first.compareAndSet(true, false)) {
+                leaderEntered.countDown();
+                try {
+                    releaseLeader.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return database;
+        };
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(
+                () -> readCoalescer.load("routing.pinned", List.of(2L), loader)); // 고정 없는 요청 → replica
+        assertThat(leaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        ReplicaRoutingContext.open(true, () -> {
+        });
+        String pinned = readCoalescer.load("routing.pinned", List.of(2L), loader); // 합류하지 않고 직접 primary 조회
+        releaseLeader.countDown();
+
+        assertThat(pinned).isEqualTo(primaryName);
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(replicaName);
+    }
+
+    @Test
+    void filterIssuesCookieOnWriteAndHonoursIt() throws Exception {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        readYourWritesFilter.doFilter(new MockHttpServletRequest("POST", "/api/v1/boards"), writeResponse,
+                (req, res) -> readWrite.execute(s -> currentDatabase()));
+
+        Cookie cookie = writeResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(Long.parseLong(cookie.getValue())).isGreaterThan(System.currentTimeMillis());
+
+        MockHttpServletRequest pinnedRead = new MockHttpServletRequest("GET", "/api/v1/boards");
+        pinnedRead.setCookies(cookie);
+        AtomicReference<String> pinnedTarget = new AtomicReference<>();
+        readYourWritesFilter.doFilter(pinnedRead, new MockHttpServletResponse(),
+                (req, res) -> pinnedTarget.set(readOnly.execute(s -> currentDatabase())));
+
+        MockHttpServletRequest expiredRead = new MockHttpServletRequest("GET", "/api/v1/boards");
+        expiredRead.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(System.currentTimeMillis() - 1)));
+        AtomicReference<String> expiredTarget = new AtomicReference<>();
+        MockHttpServletResponse readResponse = new MockHttpServletResponse();
+        readYourWritesFilter.doFilter(expiredRead, readResponse,
+                (req, res) -> expiredTarget.set(readOnly.execute(s -> currentDatabase())));
+
+        assertThat(pinnedTarget.get()).isEqualTo(primaryName);
+        assertThat(expiredTarget.get()).isEqualTo(replicaName);
+        assertThat(readResponse.getCookie(ReadYourWritesFilter.COOKIE_NAME)).isNull();
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("select database()", String.class);
+    }
+}
@@ -0,0 +1,129 @@
+package com.project.board0811.common.http;
+
+import com.project.board0811.domain.board.dto.request.BoardUpdateRequestDto;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.entity.BoardContent;
+import com.project.board0811.domain.board.repository.BoardContentRepository;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.board.service.BoardService;
+import com.project.board0811.domain.comment.dto.CommentRequestDto;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.comment.service.CommentService;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@WithMockUser
+class ConditionalGetTest {
+
+    @Autowired MockMvc mockMvc;
+    @Autowired BoardService boardService;
+    @Autowired CommentService commentService;
+    @Autowired BoardRepository boardRepository;
+    @Autowired BoardContentRepository boardContentRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired UserRepository userRepository;
+
+    private Long authorId;
+    private Long boardId;
+    private Long rootId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(User.builder()
+                .username(run)
+                .email(run + "@test.com")
+                .password("encoded")
+                .name(run)
+                .build());
+        authorId = author.getId();
+        Board board = boardRepository.save(Board.builder()
+                .author(author)
+                .title("조건부 조회")
+                .build());
+        boardContentRepository.save(BoardContent.of(board, "본문", 512));
+        boardId = board.getId();
+        Comment root = commentRepository.save(Comment.newRoot(board, author, "루트"));
+        commentRepository.save(Comment.newReply(board, author, "답글", root));
+        rootId = root.getId();
+    }
+
+    @Test
+    void boardDetail_returns304UntilVersionChanges() throws Exception {
+        String url = "/api/v1/boards/" + boardId;
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("W/\"");
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        boardService.update(boardId, authorId, BoardUpdateRequestDto.builder().title("수정됨").build());
+
+        String changed = mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void boardList_versionQueryMatchesRenderedPage() throws Exception {
+        String url = "/api/v1/boards?page=0&size=5";
+        String eTag = mockMvc.perform(get(url))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void commentTree_returns304UntilReplyOrLikeChanges() throws Exception {
+        for (String url : new String[]{
+                "/api/v1/boards/" + boardId + "/comments?page=0&size=5",
+                "/api/v1/boards/" + boardId + "/comments/slice?page=0&size=5"}) {
+            String eTag = mockMvc.perform(get(url))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                    .andExpect(status().isNotModified());
+        }
+
+        String url = "/api/v1/boards/" + boardId + "/comments?page=0&size=5";
+        String before = mockMvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        commentService.create(boardId, authorId, new CommentRequestDto("새 답글", rootId));
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, before))
+                .andExpect(status().isOk());
+
+        String afterReply = mockMvc.perform(get(url)).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        commentService.like(rootId, authorId);
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, afterReply))
+                .andExpect(status().isOk());
+    }
+}
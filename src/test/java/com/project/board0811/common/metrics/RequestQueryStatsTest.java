@@ -0,0 +1,99 @@
+package com.project.board0811.common.metrics;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.comment.service.CommentService;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RequestQueryStatsTest {
+
+    private static final int ROOTS = 8;
+
+    @Autowired CommentService commentService;
+    @Autowired CommentRepository commentRepository;
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired EntityManagerFactory emf;
+
+    private Long boardId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        Board board = boardRepository.save(Board.builder()
+                .author(userRepository.save(newUser(run + "-writer")))
+                .title("메트릭 테스트")
+                .build());
+        boardId = board.getId();
+        for (int i = 0; i < ROOTS; i++) {
+            User author = userRepository.save(newUser(run + "-" + i));
+            Comment root = commentRepository.save(Comment.newRoot(board, author, "댓글 " + i));
+            commentRepository.save(Comment.newReply(board, author, "답글 " + i, root));
+            commentId = root.getId();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    void commentTree_countsStatementsWithoutLazyLoads() {
+        RequestQueryStats.begin();
+        commentService.getCommentTreeSlice(boardId, PageRequest.of(0, 5)); // 캐시 대상 크기(20)가 아니므로 DB 조회
+
+        RequestQueryStats.Snapshot stats = RequestQueryStats.end();
+        assertThat(stats.statements()).isEqualTo(2);   // 루트 슬라이스 + 답글 IN 조회 (작성자 페치 조인)
+        assertThat(stats.lazyLoads()).isZero();
+        assertThat(stats.entitiesLoaded()).isGreaterThanOrEqualTo(5);
+    }
+
+    @Test
+    void lazyAuthorAccess_isCountedAsLazyLoad() {
+        emf.getCache().evictAll(); // 저장 시 올라간 작성자 2차 캐시를 비워 프록시 초기화가 SELECT 로 가도록
+        RequestQueryStats.begin();
+        transactionTemplate.executeWithoutResult(status -> {
+            Comment comment = commentRepository.findById(commentId).orElseThrow();
+            comment.getAuthor().getName(); // 페치 조인 없는 작성자 접근 → 프록시 초기화
+        });
+
+        RequestQueryStats.Snapshot stats = RequestQueryStats.end();
+        assertThat(stats.lazyLoads()).isEqualTo(1);
+        assertThat(stats.statements()).isEqualTo(2);
+    }
+
+    @Test
+    void outsideRequest_isIgnored() {
+        commentService.getCommentTreeSlice(boardId, PageRequest.of(0, 5));
+
+        assertThat(RequestQueryStats.current()).isEqualTo(RequestQueryStats.Snapshot.EMPTY);
+    }
+
+    private static User newUser(String key) {
+        return User.builder()
+                .username(key)
+                .email(key + "@test.com")
+                .password("encoded")
+                .name(key)
+                .build();
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.board0811.common.paging;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void encodeDecodeRoundTripKeepsNanosAndId() {
+        LocalDateTime createdAt = LocalDateTime.of(2025, 8, 11, 9, 30, 15, 123_456_000);
+        String encoded = KeysetCursor.of(createdAt, 42L).encode();
+
+        assertThat(encoded).doesNotContain("=", "+", "/"); // URL-safe, 패딩 없음
+        KeysetCursor decoded = KeysetCursor.decode(encoded);
+        assertThat(decoded.getCreatedAt()).isEqualTo(createdAt);
+        assertThat(decoded.getId()).isEqualTo(42L);
+    }
+
+    @Test
+    void blankCursorMeansFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isNull();
+        assertThat(KeysetCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        for (String cursor : new String[]{
+                "not base64!",
+                raw("2025-08-11T09:30:15"),       // 구분자 없음
+                raw("yesterday|42"),              // 시각 형식 오류
+                raw("2025-08-11T09:30:15|forty")  // id 형식 오류
+        }) {
+            assertThatThrownBy(() -> KeysetCursor.decode(cursor))
+                    .isInstanceOfSatisfying(CustomException.class,
+                            e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_CURSOR));
+        }
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
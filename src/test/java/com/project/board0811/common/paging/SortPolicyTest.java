@@ -0,0 +1,83 @@
+package com.project.board0811.common.paging;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SortPolicyTest {
+
+    private final SortPolicy policy = SortPolicy.builder("createdAt")
+            .indexed("createdAt")
+            .indexed("id")
+            .routed("hot")
+            .build();
+
+    @Test
+    void indexedKeyGetsIdTiebreakerInSameDirection() {
+        SortPolicy.ResolvedSort resolved = policy.resolve("createdAt", "desc");
+
+        assertThat(resolved.routed()).isFalse();
+        assertThat(resolved.sort()).containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+        assertThat(resolved.directionName()).isEqualTo("desc");
+    }
+
+    @Test
+    void idKeyIsNotDuplicated() {
+        assertThat(policy.resolve("id", "asc").sort()).containsExactly(Sort.Order.asc("id"));
+    }
+
+    @Test
+    void blankKeyAndDirectionFallBackToDefaults() {
+        SortPolicy.ResolvedSort resolved = policy.resolve(" ", null);
+
+        assertThat(resolved.key()).isEqualTo("createdAt");
+        assertThat(resolved.sort()).containsExactly(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+    }
+
+    @Test
+    void routedKeyIsUnsorted() {
+        SortPolicy.ResolvedSort resolved = policy.resolve("hot", "desc");
+
+        assertThat(resolved.routed()).isTrue();
+        assertThat(resolved.sort().isUnsorted()).isTrue();
+    }
+
+    @Test
+    void routedKeyRejectsNonDefaultDirection() {
+        assertThat(policy.resolve("hot", null).routed()).isTrue();
+        assertThatThrownBy(() -> policy.resolve("hot", "asc"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_SORT));
+    }
+
+    @Test
+    void unknownKeyOrDirectionIsRejected() {
+        assertThatThrownBy(() -> policy.resolve("content", "desc"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_SORT));
+        assertThatThrownBy(() -> policy.resolve("createdAt", "sideways"))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_SORT));
+    }
+
+    @Test
+    void pageRequestUsesPolicy() {
+        PageRequestDto pageReq = new PageRequestDto(2, 10, "createdAt", "asc");
+
+        Pageable pageable = pageReq.toPageable(policy);
+
+        assertThat(pageable.getOffset()).isEqualTo(20);
+        assertThat(pageable.getSort()).containsExactly(Sort.Order.asc("createdAt"), Sort.Order.asc("id"));
+    }
+
+    @Test
+    void defaultKeyMustBeIndexed() {
+        assertThatThrownBy(() -> SortPolicy.builder("hot").routed("hot").build())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
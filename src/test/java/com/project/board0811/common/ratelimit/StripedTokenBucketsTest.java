@@ -0,0 +1,69 @@
+package com.project.board0811.common.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedTokenBucketsTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void allowsBurstUpToCapacityThenRejectsWithWaitTime() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(3, Duration.ofSeconds(10), 8, 100);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(buckets.tryAcquire("alice", 0)).isZero();
+        }
+        long wait = buckets.tryAcquire("alice", 0);
+
+        assertThat(wait).isEqualTo(10 * SECOND);
+        assertThat(buckets.tryAcquire("bob", 0)).isZero(); // 다른 키는 독립
+    }
+
+    @Test
+    void refillsOverTimeWithoutExceedingCapacity() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(2, Duration.ofSeconds(1), 4, 100);
+        buckets.tryAcquire("k", 0);
+        buckets.tryAcquire("k", 0);
+
+        assertThat(buckets.tryAcquire("k", SECOND / 2)).isPositive();
+        assertThat(buckets.tryAcquire("k", SECOND)).isZero();
+
+        // 오래 쉬어도 capacity 만큼만 연속 허용
+        long later = 100 * SECOND;
+        assertThat(buckets.tryAcquire("k", later)).isZero();
+        assertThat(buckets.tryAcquire("k", later)).isZero();
+        assertThat(buckets.tryAcquire("k", later)).isPositive();
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedKeysPerStripe() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(1, Duration.ofHours(1), 1, 2);
+        buckets.tryAcquire("a", 0);
+        buckets.tryAcquire("b", 0);
+        buckets.tryAcquire("c", 0); // a 밀려남
+
+        assertThat(buckets.size()).isEqualTo(2);
+        assertThat(buckets.tryAcquire("a", 0)).isZero();   // 가득 찬 버킷으로 다시 시작
+        assertThat(buckets.tryAcquire("c", 0)).isPositive();
+    }
+
+    @Test
+    void refundReturnsTokenWithoutExceedingCapacity() {
+        StripedTokenBuckets buckets = new StripedTokenBuckets(2, Duration.ofHours(1), 4, 100);
+        for (int i = 0; i < 10; i++) {
+            assertThat(buckets.tryAcquire("ok", 0)).isZero();
+            buckets.refund("ok"); // 성공한 시도는 세지 않음
+        }
+
+        buckets.refund("ok");
+        buckets.refund("unknown"); // 없는 키는 무시
+        assertThat(buckets.tryAcquire("ok", 0)).isZero();
+        assertThat(buckets.tryAcquire("ok", 0)).isZero();
+        assertThat(buckets.tryAcquire("ok", 0)).isPositive(); // capacity(2) 이상으로 쌓이지 않음
+        assertThat(buckets.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.board0811.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class AdminEndpointSecurityTest {
+
+    @Autowired MockMvc mockMvc;
+
+    @Test
+    void userRole_isForbiddenOnAdminEndpoints() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/boards/view-count/pending").with(user("member").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/admin/boards/search-index/rebuild").with(user("member").roles("USER")).with(csrf()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/admin/boards/comment-count/reconcile").with(user("member").roles("USER")).with(csrf()))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/api/v1/admin/boards/import").with(user("member").roles("USER")).with(csrf())
+                        .contentType("application/x-ndjson").content("{}"))
+                .andExpect(status().isForbidden()); // 임의 authorId 로 대량 작성 불가
+        mockMvc.perform(post("/api/v1/admin/boards/content-migration/run").with(user("member").roles("USER")).with(csrf()))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void export_isAdminOnly() throws Exception { // PRIVATE/삭제 글까지 포함되는 전체 덤프
+        mockMvc.perform(get("/api/v1/admin/boards/export").with(user("member").roles("USER")))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/api/v1/admin/boards/export").param("includeDeleted", "true")
+                        .with(user("member").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void prometheus_isAdminOnly() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(user("member").roles("USER")))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminRole_isAllowed() throws Exception {
+        mockMvc.perform(get("/api/v1/admin/boards/view-count/pending").with(user("operator").roles("ADMIN")))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,50 @@
+package com.project.board0811.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import com.project.board0811.domain.user.security.PooledPasswordEncoder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인증 필터에서 던져진 429 가 실제 서블릿 컨테이너의 ERROR 디스패치(/error)를 거쳐 그대로 응답되는지 (MockMvc 는 에러 디스패치를 하지 않음)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class LoginRateLimitErrorResponseTest {
+
+    @Autowired TestRestTemplate restTemplate;
+    @Autowired UserRepository userRepository;
+    @Autowired PooledPasswordEncoder passwordEncoder;
+    @Autowired ObjectMapper objectMapper;
+
+    @Test
+    void rateLimitedBasicLogin_answers429WithLoginCode() throws Exception {
+        String username = "http-" + UUID.randomUUID().toString().substring(0, 8);
+        userRepository.save(User.builder()
+                .username(username).email(username + "@test.com")
+                .password(passwordEncoder.encode("secret-pw")).name("http")
+                .build());
+
+        for (int i = 0; i < 5; i++) { // 기본 username.capacity
+            assertThat(restTemplate.withBasicAuth(username, "wrong").getForEntity("/api/v1/boards", String.class)
+                    .getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        ResponseEntity<String> limited = restTemplate.withBasicAuth(username, "secret-pw")
+                .getForEntity("/api/v1/boards", String.class);
+
+        assertThat(limited.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        JsonNode body = objectMapper.readTree(limited.getBody());
+        assertThat(body.path("code").asText()).isEqualTo(ErrorCode.LOGIN_RATE_LIMITED.getCode());
+        assertThat(body.path("status").asInt()).isEqualTo(429);
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.board0811.domain.board.cache;
+
+import com.project.board0811.domain.board.dto.response.BoardResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardDetailCacheTest {
+
+    private static final Long BOARD_ID = 7L;
+    private static final int READERS = 6;
+    private static final int WRITES = 5_000;
+
+    private final BoardDetailCache cache = new BoardDetailCache(100, 60);
+
+    @Test
+    void loadThatRacedAnInvalidationIsNotCached() {
+        long generation = cache.generation(BOARD_ID); // 조회 시작
+        cache.invalidate(BOARD_ID);                   // 그 사이 쓰기 커밋
+        cache.put(BOARD_ID, detail(1L), generation);  // 옛 값 적재 시도
+
+        assertThat(cache.getIfPresent(BOARD_ID)).isNull();
+
+        cache.put(BOARD_ID, detail(2L), cache.generation(BOARD_ID));
+        assertThat(cache.getIfPresent(BOARD_ID).getVersion()).isEqualTo(2L);
+    }
+
+    @Test
+    void olderVersionDoesNotReplaceNewer() {
+        cache.put(BOARD_ID, detail(5L), cache.generation(BOARD_ID));
+        cache.put(BOARD_ID, detail(4L), cache.generation(BOARD_ID)); // 늦게 끝난 느린 조회
+
+        assertThat(cache.getIfPresent(BOARD_ID).getVersion()).isEqualTo(5L);
+    }
+
+    @Test
+    void concurrentLoadsAndWrites_neverLeaveStaleEntry() throws Exception {
+        AtomicLong committedVersion = new AtomicLong(); // DB 의 현재 버전
+        AtomicBoolean writing = new AtomicBoolean(true);
+        ExecutorService pool = Executors.newFixedThreadPool(READERS + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> readers = new ArrayList<>();
+        try {
+            for (int r = 0; r < READERS; r++) {
+                readers.add(pool.submit(() -> {
+                    start.await();
+                    while (writing.get()) {
+                        if (cache.getIfPresent(BOARD_ID) != null) continue;
+                        long generation = cache.generation(BOARD_ID); // 서비스와 같은 순서: 세대 → DB 조회 → 적재
+                        BoardResponseDto loaded = detail(committedVersion.get());
+                        Thread.yield();
+                        cache.put(BOARD_ID, loaded, generation);
+                    }
+                    return null;
+                }));
+            }
+            Future<?> writer = pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < WRITES; i++) {
+                    committedVersion.incrementAndGet(); // 커밋
+                    cache.invalidate(BOARD_ID);         // 커밋 후 이벤트
+                }
+                return null;
+            });
+
+            start.countDown();
+            writer.get(30, TimeUnit.SECONDS);
+            writing.set(false);
+            for (Future<?> f : readers) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        BoardResponseDto cached = cache.getIfPresent(BOARD_ID);
+        if (cached != null) {
+            assertThat(cached.getVersion()).isEqualTo(committedVersion.get());
+        }
+    }
+
+    private static BoardResponseDto detail(Long version) {
+        return BoardResponseDto.builder().id(BOARD_ID).title("v" + version).version(version).build();
+    }
+}
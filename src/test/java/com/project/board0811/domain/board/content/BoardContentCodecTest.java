@@ -0,0 +1,56 @@
+package com.project.board0811.domain.board.content;
+
+import com.project.board0811.domain.board.enums.ContentEncoding;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoardContentCodecTest {
+
+    private static final int THRESHOLD = 512;
+
+    @Test
+    void shortTextIsStoredPlain() {
+        BoardContentCodec.Encoded encoded = BoardContentCodec.encode("짧은 본문", THRESHOLD);
+
+        assertThat(encoded.encoding()).isEqualTo(ContentEncoding.PLAIN);
+        assertThat(encoded.body()).isEqualTo("짧은 본문".getBytes(StandardCharsets.UTF_8));
+        assertThat(BoardContentCodec.decode(encoded.encoding(), encoded.body(), encoded.originalLength()))
+                .isEqualTo("짧은 본문");
+    }
+
+    @Test
+    void compressibleTextBelowThresholdStaysPlain() {
+        String text = "가".repeat(170); // 510 bytes
+
+        assertThat(BoardContentCodec.encode(text, THRESHOLD).encoding()).isEqualTo(ContentEncoding.PLAIN);
+    }
+
+    @Test
+    void longTextIsDeflatedAndRoundTrips() {
+        String text = "스프링 게시판 트랜잭션 오류 해결 방법 공유합니다.\n".repeat(200);
+
+        BoardContentCodec.Encoded encoded = BoardContentCodec.encode(text, THRESHOLD);
+
+        assertThat(encoded.encoding()).isEqualTo(ContentEncoding.DEFLATE);
+        assertThat(encoded.originalLength()).isEqualTo(text.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(encoded.body().length).isLessThan(encoded.originalLength() / 10);
+        assertThat(BoardContentCodec.decode(encoded.encoding(), encoded.body(), encoded.originalLength()))
+                .isEqualTo(text);
+    }
+
+    @Test
+    void corruptedOrTruncatedBodyFails() {
+        BoardContentCodec.Encoded encoded = BoardContentCodec.encode("본문 ".repeat(300), THRESHOLD);
+        byte[] truncated = Arrays.copyOf(encoded.body(), encoded.body().length / 2);
+
+        assertThatThrownBy(() -> BoardContentCodec.decode(ContentEncoding.DEFLATE, truncated, encoded.originalLength()))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> BoardContentCodec.decode(ContentEncoding.DEFLATE, new byte[]{1, 2, 3, 4}, 10))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
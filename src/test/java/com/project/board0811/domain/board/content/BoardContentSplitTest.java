@@ -0,0 +1,107 @@
+package com.project.board0811.domain.board.content;
+
+import com.project.board0811.domain.board.dto.request.BoardCreateRequestDto;
+import com.project.board0811.domain.board.dto.request.BoardUpdateRequestDto;
+import com.project.board0811.domain.board.dto.response.BoardResponseDto;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.entity.BoardContent;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.ContentEncoding;
+import com.project.board0811.domain.board.repository.BoardContentRepository;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.board.service.BoardService;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "board.content.migrate-on-startup=false", // 테스트에서 직접 migrate()
+        "board.content.migration-chunk-size=2"    // 청크 경계를 여러 번 넘도록
+})
+class BoardContentSplitTest {
+
+    @Autowired BoardService boardService;
+    @Autowired BoardRepository boardRepository;
+    @Autowired BoardContentRepository boardContentRepository;
+    @Autowired BoardContentStore boardContentStore;
+    @Autowired BoardContentMigrationJob migrationJob;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private User author;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        author = userRepository.save(User.builder()
+                .username(run).email(run + "@example.com").password("encoded").name(run)
+                .build());
+    }
+
+    @Test
+    void createStoresCompressedContentAndDetailReadRestoresIt() {
+        String text = "본문 분리 저장 테스트 문단입니다.\n".repeat(100);
+
+        Long id = boardService.create(author.getId(), BoardCreateRequestDto.builder()
+                .title("본문 분리").content(text).category(BoardCategory.FREE).build()).getId();
+
+        BoardContent stored = boardContentRepository.findById(id).orElseThrow();
+        assertThat(stored.getEncoding()).isEqualTo(ContentEncoding.DEFLATE);
+        assertThat(stored.getBody().length).isLessThan(stored.getOriginalLength() / 10);
+        assertThat(boardService.get(id).getContent()).isEqualTo(text);
+    }
+
+    @Test
+    void contentOnlyUpdateBumpsVersion() {
+        BoardResponseDto created = boardService.create(author.getId(), BoardCreateRequestDto.builder()
+                .title("버전").content("처음 본문").category(BoardCategory.FREE).build());
+        Long before = boardService.get(created.getId()).getVersion();
+
+        boardService.update(created.getId(), author.getId(),
+                BoardUpdateRequestDto.builder().content("바뀐 본문").build());
+
+        BoardResponseDto after = boardService.get(created.getId());
+        assertThat(after.getContent()).isEqualTo("바뀐 본문");
+        assertThat(after.getVersion()).isGreaterThan(before); // ETag/캐시 판단 기준이 본문 변경을 놓치지 않음
+    }
+
+    @Test
+    void migrationMovesLegacyColumnInChunksWithoutOverwritingNewerContent() {
+        jdbcTemplate.execute("alter table board add column content clob");
+        try {
+            List<Long> legacyIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                Long id = boardRepository.save(Board.builder().author(author).title("구 본문 " + i).build()).getId();
+                jdbcTemplate.update("update board set content = ? where id = ?", "구 본문 내용 " + i, id);
+                legacyIds.add(id);
+            }
+            Board edited = boardRepository.findById(legacyIds.get(0)).orElseThrow();
+            boardContentRepository.save(BoardContent.of(edited, "이관 전 수정된 본문", 512)); // 새 경로로 먼저 저장됨
+
+            migrationJob.afterSingletonsInstantiated(); // 기동 시 구 컬럼 감지 → 구 컬럼 대체 조회 시작 (이관 전)
+            assertThat(boardContentStore.isLegacyReads()).isTrue();
+            assertThat(boardContentStore.read(legacyIds.get(1))).isEqualTo("구 본문 내용 1");
+
+            assertThat(migrationJob.migrate()).isEqualTo(4);
+
+            assertThat(boardContentStore.isLegacyReads()).isFalse();
+            assertThat(boardContentStore.read(legacyIds.get(0))).isEqualTo("이관 전 수정된 본문");
+            assertThat(boardContentStore.readAll(legacyIds)).containsEntry(legacyIds.get(4), "구 본문 내용 4").hasSize(5);
+            assertThat(jdbcTemplate.queryForObject(
+                    "select count(*) from board where content is not null", Integer.class)).isZero();
+            assertThat(migrationJob.migrate()).isZero(); // 다시 실행해도 옮길 행 없음
+        } finally {
+            jdbcTemplate.execute("alter table board drop column content");
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.board0811.domain.board.export;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.entity.BoardContent;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.repository.BoardContentRepository;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 청크 경계(게시글 2건, 루트 댓글 2건)를 여러 번 넘도록 작게 설정
+@SpringBootTest(properties = {"board.export.board-chunk-size=2", "board.export.comment-chunk-size=2"})
+class ThreadExportServiceTest {
+
+    @Autowired ThreadExportService threadExportService;
+    @Autowired BoardRepository boardRepository;
+    @Autowired BoardContentRepository boardContentRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired ObjectMapper objectMapper;
+
+    private Long busyId;
+    private Long emptyId;
+    private Long singleId;
+    private Long deletedId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(User.builder()
+                .username(run).email(run + "@example.com").password("encoded").name(run)
+                .build());
+
+        Board busy = saveBoard(author, "댓글 많은 글", BoardStatus.PUBLIC);
+        Comment first = commentRepository.save(Comment.newRoot(busy, author, "첫 댓글"));
+        commentRepository.save(Comment.newReply(busy, author, "답글 1", first));
+        commentRepository.save(Comment.newReply(busy, author, "답글 2", first));
+        Comment second = commentRepository.save(Comment.newRoot(busy, author, "두 번째 댓글"));
+        for (int i = 1; i <= 5; i++) { // 답글 청크(2건) 경계를 여러 번 넘고, 앞 루트의 답글과 같은 청크에 섞임
+            commentRepository.save(Comment.newReply(busy, author, "두 번째의 답글 " + i, second));
+        }
+        commentRepository.save(Comment.newRoot(busy, author, "세 번째 댓글"));
+        busyId = busy.getId();
+
+        emptyId = saveBoard(author, "댓글 없는 글", BoardStatus.PUBLIC).getId();
+
+        Board single = saveBoard(author, "댓글 하나", BoardStatus.PUBLIC);
+        commentRepository.save(Comment.newRoot(single, author, "유일한 댓글"));
+        singleId = single.getId();
+
+        deletedId = saveBoard(author, "삭제된 글", BoardStatus.DELETED).getId();
+    }
+
+    @Test
+    void writesOneLinePerBoardWithRepliesInline() throws Exception {
+        Map<Long, JsonNode> lines = export(false);
+
+        assertThat(lines).containsKeys(busyId, emptyId, singleId).doesNotContainKey(deletedId);
+
+        JsonNode busy = lines.get(busyId);
+        assertThat(busy.get("content").asText()).endsWith("댓글 많은 글 본문"); // board_content 에서 청크 단위로 조회
+        assertThat(busy.get("comments")).hasSize(3);
+        assertThat(busy.get("comments").get(0).get("content").asText()).isEqualTo("첫 댓글");
+        assertThat(busy.get("comments").get(0).get("replies")).hasSize(2);
+        assertThat(busy.get("comments").get(0).get("replies").get(1).get("content").asText()).isEqualTo("답글 2");
+        assertThat(busy.get("comments").get(1).get("replies")).hasSize(5);
+        assertThat(busy.get("comments").get(1).get("replies").get(4).get("content").asText()).isEqualTo("두 번째의 답글 5");
+        assertThat(busy.get("comments").get(2).get("replies")).isEmpty();
+        assertThat(busy.get("comments").get(2).get("content").asText()).isEqualTo("세 번째 댓글");
+
+        assertThat(lines.get(emptyId).get("comments")).isEmpty();
+        assertThat(lines.get(singleId).get("comments")).hasSize(1);
+    }
+
+    @Test
+    void includeDeleted_exportsDeletedBoards() throws Exception {
+        assertThat(export(true)).containsKey(deletedId);
+    }
+
+    private Map<Long, JsonNode> export(boolean includeDeleted) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        threadExportService.export(out, includeDeleted);
+
+        Map<Long, JsonNode> byId = new HashMap<>();
+        for (String line : out.toString(StandardCharsets.UTF_8).split("\n")) {
+            JsonNode node = objectMapper.readTree(line); // 줄마다 독립적인 JSON 이어야 함
+            byId.put(node.get("id").asLong(), node);
+        }
+        return byId;
+    }
+
+    private Board saveBoard(User author, String title, BoardStatus status) {
+        Board board = boardRepository.save(Board.builder()
+                .author(author)
+                .title(title)
+                .status(status)
+                .build());
+        boardContentRepository.save(BoardContent.of(board, (title + " 본문 ").repeat(40) + title + " 본문", 512)); // 압축 저장 경로 포함
+        return board;
+    }
+}
@@ -0,0 +1,83 @@
+package com.project.board0811.domain.board.ranking;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.event.BoardChangedEvent;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 카테고리 랭킹은 카테고리 목록(findByStatusAndCategory)과 같은 기준 — 공개(PUBLIC) 글만
+@SpringBootTest
+class BoardRankingVisibilityTest {
+
+    private static final long VIEWS = 1_000_000_000L; // 다른 테스트 데이터보다 확실히 상위 K 안에 들도록
+
+    @Autowired BoardRanking boardRanking;
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long publicId;
+    private Long privateId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(User.builder()
+                .username(run).email(run + "@example.com").password("encoded").name(run)
+                .build());
+        publicId = saveBoard(author, BoardStatus.PUBLIC).getId();
+        privateId = saveBoard(author, BoardStatus.PRIVATE).getId();
+    }
+
+    @Test
+    void rebuild_ranksOnlyPublicBoards() {
+        jdbcTemplate.update("update board set view_count = ? where id in (?, ?)", VIEWS, publicId, privateId);
+
+        boardRanking.rebuild();
+
+        assertThat(boardRanking.top(RankingType.HOT, BoardCategory.FREE, 100)).contains(publicId).doesNotContain(privateId);
+        assertThat(boardRanking.top(RankingType.HOT, null, 100)).contains(publicId).doesNotContain(privateId);
+    }
+
+    @Test
+    void recordedViews_skipPrivateBoards() {
+        boardRanking.recordViews(Map.of(publicId, VIEWS, privateId, VIEWS));
+
+        assertThat(boardRanking.top(RankingType.TRENDING, BoardCategory.FREE, 100)).contains(publicId).doesNotContain(privateId);
+    }
+
+    @Test
+    void switchingToPrivate_removesFromRanking() {
+        boardRanking.recordViews(Map.of(publicId, VIEWS));
+        assertThat(boardRanking.top(RankingType.HOT, BoardCategory.FREE, 100)).contains(publicId);
+
+        Board board = boardRepository.findById(publicId).orElseThrow();
+        board.update(null, null, BoardStatus.PRIVATE);
+        boardRanking.onBoardChanged(BoardChangedEvent.updated(board, null));
+
+        assertThat(boardRanking.top(RankingType.HOT, BoardCategory.FREE, 100)).doesNotContain(publicId);
+        assertThat(boardRanking.top(RankingType.HOT, null, 100)).doesNotContain(publicId);
+    }
+
+    private Board saveBoard(User author, BoardStatus status) {
+        return boardRepository.save(Board.builder()
+                .author(author)
+                .title("랭킹 " + status)
+                .category(BoardCategory.FREE)
+                .status(status)
+                .build());
+    }
+}
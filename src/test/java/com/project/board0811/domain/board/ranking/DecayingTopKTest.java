@@ -0,0 +1,85 @@
+package com.project.board0811.domain.board.ranking;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DecayingTopKTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final long T0 = 1_700_000_000_000L;
+
+    @Test
+    void newerEventsOutweighOlderOnesAfterHalfLife() {
+        DecayingTopK ranking = new DecayingTopK(HOUR, 100, T0);
+
+        ranking.add(1L, 10, T0);            // 두 시간 전 10점 → 지금은 2.5점
+        ranking.add(2L, 3, T0 + 2 * HOUR);  // 지금 3점
+
+        assertThat(ranking.top(10)).containsExactly(2L, 1L);
+        assertThat(ranking.score(1L, T0 + 2 * HOUR)).isCloseTo(2.5, within(1e-9));
+        assertThat(ranking.score(2L, T0 + 2 * HOUR)).isCloseTo(3.0, within(1e-9));
+    }
+
+    @Test
+    void topReturnsAtMostKInScoreOrderWithIdTiebreak() {
+        DecayingTopK ranking = new DecayingTopK(HOUR, 100, T0);
+        ranking.add(5L, 1, T0);
+        ranking.add(3L, 1, T0);
+        ranking.add(4L, 7, T0);
+        ranking.add(3L, 1, T0); // 누적 2점
+
+        assertThat(ranking.top(2)).containsExactly(4L, 3L);
+        assertThat(ranking.top(10)).containsExactly(4L, 3L, 5L);
+    }
+
+    @Test
+    void capacityEvictsLowestScores() {
+        DecayingTopK ranking = new DecayingTopK(HOUR, 3, T0);
+        for (long id = 1; id <= 5; id++) {
+            ranking.add(id, id, T0);
+        }
+
+        assertThat(ranking.size()).isEqualTo(3);
+        assertThat(ranking.top(10)).containsExactly(5L, 4L, 3L);
+        assertThat(ranking.contains(1L)).isFalse();
+    }
+
+    @Test
+    void removeAndNonPositiveScoreDropEntry() {
+        DecayingTopK ranking = new DecayingTopK(HOUR, 100, T0);
+        ranking.add(1L, 2, T0);
+        ranking.add(2L, 2, T0);
+
+        ranking.remove(1L);
+        ranking.add(2L, -5, T0);
+
+        assertThat(ranking.size()).isZero();
+        assertThat(ranking.top(10)).isEmpty();
+    }
+
+    @Test
+    void rebaseKeepsOrderAndScoresAfterLongIdle() {
+        DecayingTopK ranking = new DecayingTopK(HOUR, 100, T0);
+        ranking.add(1L, 8, T0);
+        ranking.add(2L, 4, T0);
+
+        long later = T0 + 50 * HOUR; // 지수 40 초과 → epoch 재설정 경로
+        ranking.add(3L, 1, later);
+
+        assertThat(ranking.top(10)).containsExactly(3L, 1L, 2L);
+        assertThat(ranking.score(1L, later)).isCloseTo(8 / Math.pow(2, 50), within(1e-20));
+        assertThat(ranking.score(3L, later)).isCloseTo(1.0, within(1e-9));
+    }
+
+    @Test
+    void averageDecayMatchesUniformArrivalAssumption() {
+        assertThat(BoardRanking.averageDecay(0, HOUR)).isEqualTo(1.0);
+        // 한 반감기 동안 고르게 발생: (1 - 1/2) / ln2
+        assertThat(BoardRanking.averageDecay(HOUR, HOUR)).isCloseTo(0.5 / Math.log(2), within(1e-12));
+        assertThat(BoardRanking.averageDecay(100 * HOUR, HOUR)).isLessThan(0.02);
+    }
+}
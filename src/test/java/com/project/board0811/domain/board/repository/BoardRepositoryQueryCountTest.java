@@ -0,0 +1,123 @@
+package com.project.board0811.domain.board.repository;
+
+import com.project.board0811.common.paging.KeysetCursor;
+import com.project.board0811.config.QueryDslConfig;
+import com.project.board0811.domain.board.dto.request.BoardSearchCondition;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QueryDslConfig.class)
+class BoardRepositoryQueryCountTest {
+
+    private static final int AUTHORS = 3;
+    private static final int BOARDS_PER_AUTHOR = 10;
+    private static final int KEYSET_PAGE = 7; // 동점 묶음 경계가 페이지 중간에 걸리도록
+
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < AUTHORS; i++) {
+            User author = userRepository.save(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("encoded")
+                    .name("작성자" + i)
+                    .build());
+            for (int j = 0; j < BOARDS_PER_AUTHOR; j++) {
+                boardRepository.save(Board.builder()
+                        .author(author)
+                        .title("게시글 " + i + "-" + j)
+                        .category(BoardCategory.FREE)
+                        .build());
+            }
+        }
+        em.flush();
+        em.clear(); // 영속성 컨텍스트를 비워 작성자 지연 로딩이 발생할 수 있는 상태로 만듦
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void summaryPage_costsContentAndCountStatementsOnly() {
+        Page<BoardSummaryResponseDto> page = boardRepository.findSummaryPage(
+                BoardSearchCondition.builder().build(),
+                PageRequest.of(0, 10, Sort.by("createdAt").descending()));
+
+        assertThat(page.getContent()).hasSize(10);
+        assertThat(page.getTotalElements()).isEqualTo(AUTHORS * BOARDS_PER_AUTHOR);
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(dto.getAuthorName()).startsWith("작성자"));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 내용 + count
+        assertThat(statistics.getEntityLoadCount()).isZero();           // 엔티티(본문/작성자) 미로딩
+    }
+
+    @Test
+    void summaryKeysetPage_costsSingleStatement() {
+        List<BoardSummaryResponseDto> rows = boardRepository.findSummaryKeysetPage(
+                BoardSearchCondition.builder().category(BoardCategory.FREE).build(), null, 11);
+
+        assertThat(rows).hasSize(11);
+        assertThat(rows).allSatisfy(dto -> assertThat(dto.getAuthorName()).isNotNull());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    void keysetPages_walkCreatedAtTiesByIdWithoutGapsOrDuplicates() {
+        // 작성 시각이 같은 두 묶음 — 같은 시각 안에서는 id 내림차순으로 이어져야 함
+        LocalDateTime tie = LocalDateTime.of(2025, 1, 1, 12, 0);
+        em.createNativeQuery("update board set created_at = case when mod(id, 3) = 0 then :earlier else :tie end")
+                .setParameter("earlier", tie.minusMinutes(1))
+                .setParameter("tie", tie)
+                .executeUpdate();
+        em.clear();
+        List<Long> expected = boardRepository.findAll().stream()
+                .map(Board::getId)
+                .sorted(Comparator.comparing((Long id) -> id % 3 == 0).thenComparing(Comparator.reverseOrder()))
+                .toList();
+
+        BoardSearchCondition all = BoardSearchCondition.builder().build();
+        List<Long> walked = new ArrayList<>();
+        KeysetCursor cursor = null;
+        while (true) {
+            List<BoardSummaryResponseDto> page = boardRepository.findSummaryKeysetPage(all, cursor, KEYSET_PAGE);
+            page.forEach(dto -> walked.add(dto.getId()));
+            if (page.size() < KEYSET_PAGE) break;
+            BoardSummaryResponseDto last = page.get(page.size() - 1);
+            cursor = KeysetCursor.decode(KeysetCursor.of(last.getCreatedAt(), last.getId()).encode()); // 클라이언트 왕복과 동일
+        }
+
+        assertThat(walked).containsExactlyElementsOf(expected);
+    }
+}
@@ -0,0 +1,288 @@
+package com.project.board0811.domain.board.repository;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import com.project.board0811.common.paging.KeysetCursor;
+import com.project.board0811.config.QueryDslConfig;
+import com.project.board0811.domain.board.dto.request.BoardSearchCondition;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.user.enums.UserRole;
+import com.project.board0811.domain.user.enums.UserStatus;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 목록 쿼리 실행 계획 검증
+ * - 임베디드 MariaDB 에 Flyway 마이그레이션을 적용하고(ddl-auto=validate 로 엔티티 매핑과 일치 여부도 확인)
+ *   실제 리포지토리 메서드가 보낸 SQL 과 바인딩 값을 그대로 EXPLAIN
+ * - ORDER BY 가 있는 목록 쿼리가 전체 스캔(type=ALL) 또는 filesort 를 하면 실패
+ * - 실행: ./gradlew explainTest
+ */
+@Tag("explain")
+@DataJpaTest(properties = {
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, ListingQueryExplainTest.CaptureConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // 적재 데이터를 커밋해 통계(ANALYZE)에 반영
+class ListingQueryExplainTest {
+
+    private static final String SCHEMA = "board_explain";
+    private static final int USERS = 5_000;
+    private static final int BOARDS = 20_000;
+    private static final int BATCH = 2_000;
+    private static final Sort LATEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id")); // 정렬 정책 적용 결과와 동일
+
+    private static DB mariaDb;
+    private static boolean seeded;
+
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired DataSource dataSource;
+    @Autowired SqlRecorder recorder;
+
+    @DynamicPropertySource
+    static void mariaDb(DynamicPropertyRegistry registry) throws Exception {
+        if (mariaDb == null) {
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(0); // 빈 포트 자동 선택
+            mariaDb = DB.newEmbeddedDB(config.build());
+            mariaDb.start();
+            mariaDb.createDB(SCHEMA);
+        }
+        registry.add("spring.datasource.url",
+                () -> "jdbc:mariadb://localhost:" + mariaDb.getConfiguration().getPort() + "/" + SCHEMA);
+        registry.add("spring.datasource.username", () -> "root");
+        registry.add("spring.datasource.password", () -> "");
+        registry.add("spring.datasource.driver-class-name", () -> "org.mariadb.jdbc.Driver");
+    }
+
+    @BeforeEach
+    void seed() {
+        if (seeded) return;
+        LocalDateTime now = LocalDateTime.now();
+        Random random = new Random(42);
+
+        List<Object[]> users = new ArrayList<>(USERS);
+        for (int i = 1; i <= USERS; i++) {
+            String status = i % 10 == 0 ? "SUSPENDED" : "ACTIVE";
+            String role = i % 50 == 0 ? "ROLE_ADMIN" : "ROLE_USER";
+            users.add(new Object[]{(long) i, "user" + i, "user" + i + "@example.com", "encoded", "사용자" + i,
+                    role, status, Timestamp.valueOf(now.minusMinutes(random.nextInt(60 * 24 * 90)))});
+        }
+        jdbcTemplate.batchUpdate("""
+                insert into users (id, username, email, password, name, role, status, created_at, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, now())
+                """, users);
+
+        BoardCategory[] categories = BoardCategory.values();
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = 1; i <= BOARDS; i++) {
+            int roll = random.nextInt(100);
+            String status = roll < 90 ? "PUBLIC" : roll < 95 ? "PRIVATE" : "DELETED";
+            batch.add(new Object[]{(long) i, 1L + random.nextInt(USERS), "제목 " + i,
+                    categories[random.nextInt(categories.length)].name(), status, random.nextInt(1000),
+                    Timestamp.valueOf(now.minusSeconds(random.nextInt(60 * 60 * 24 * 30)))});
+            if (batch.size() == BATCH || i == BOARDS) {
+                jdbcTemplate.batchUpdate("""
+                        insert into board (id, author_id, title, category, status, view_count, comment_count, version, created_at, updated_at)
+                        values (?, ?, ?, ?, ?, ?, 0, 0, ?, now())
+                        """, batch);
+                batch.clear();
+            }
+        }
+        jdbcTemplate.execute("analyze table users, board");
+        seeded = true;
+    }
+
+    @Test
+    void boardListingsReadInIndexOrder() {
+        PageRequest latest = PageRequest.of(0, 20, LATEST_FIRST);
+        PageRequest deep = PageRequest.of(50, 20, LATEST_FIRST);
+        KeysetCursor cursor = KeysetCursor.of(LocalDateTime.now().minusDays(10), 10_000L);
+        BoardSearchCondition all = BoardSearchCondition.builder().build();
+        BoardSearchCondition free = BoardSearchCondition.builder().category(BoardCategory.FREE).build();
+        BoardSearchCondition byAuthor = BoardSearchCondition.builder().authorId(7L).build();
+
+        assertIndexOrdered("list (all)", () -> boardRepository.findSummaryPage(all, latest));
+        assertIndexOrdered("list (all, deep page)", () -> boardRepository.findSummaryPage(all, deep));
+        assertIndexOrdered("list (category)", () -> boardRepository.findSummaryPage(free, latest));
+        assertIndexOrdered("list (author)", () -> boardRepository.findSummaryPage(byAuthor, latest));
+        assertIndexOrdered("version page (all)", () -> boardRepository.findVersionPage(all, latest));
+        assertIndexOrdered("version page (category)", () -> boardRepository.findVersionPage(free, latest));
+
+        assertIndexOrdered("keyset (all)", () -> boardRepository.findSummaryKeysetPage(all, cursor, 21));
+        assertIndexOrdered("keyset (category)", () -> boardRepository.findSummaryKeysetPage(free, cursor, 21));
+        assertIndexOrdered("keyset (author)", () -> boardRepository.findSummaryKeysetPage(byAuthor, cursor, 21));
+        assertIndexOrdered("keyset (first page)", () -> boardRepository.findSummaryKeysetPage(free, null, 21));
+
+        assertIndexOrdered("ranking rebuild chunk", () -> boardRepository.findRankingCandidates(
+                LocalDateTime.now().minusDays(7), null, 1000));
+    }
+
+    @Test
+    void userListingsReadInIndexOrder() {
+        PageRequest latest = PageRequest.of(0, 20, LATEST_FIRST);
+
+        assertIndexOrdered("users (status)", () -> userRepository.findByStatus(UserStatus.ACTIVE, latest));
+        assertIndexOrdered("users (role)", () -> userRepository.findByRole(UserRole.ROLE_ADMIN, latest));
+        assertIndexOrdered("users (all)", () -> userRepository.findAll(latest));
+    }
+
+    // 제목 부분 일치(LIKE '%…%') 는 B-tree 로 풀 수 없어 대상에서 제외 — 전문 검색 색인(BoardSearchIndex)이 담당
+
+    private void assertIndexOrdered(String name, Runnable query) {
+        List<RecordedStatement> listings = recorder.record(query).stream()
+                .filter(s -> s.sql().toLowerCase().contains(" order by "))
+                .toList();
+        assertThat(listings).as("%s: no ORDER BY statement captured", name).isNotEmpty();
+
+        for (RecordedStatement statement : listings) {
+            List<String> plan = explain(statement);
+            assertThat(plan)
+                    .as("%s%n  sql: %s%n  plan:%n    %s", name, statement.sql(), String.join("\n    ", plan))
+                    .noneMatch(row -> row.contains("type=ALL") || row.contains("filesort") || row.contains("temporary"));
+        }
+    }
+
+    private List<String> explain(RecordedStatement statement) {
+        List<String> rows = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement ps = connection.prepareStatement("explain " + statement.sql())) {
+            for (Bind bind : statement.binds()) {
+                bind.method().invoke(ps, bind.args());
+            }
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    rows.add("table=" + rs.getString("table") + " type=" + rs.getString("type")
+                            + " key=" + rs.getString("key") + " rows=" + rs.getString("rows")
+                            + " extra=" + rs.getString("Extra"));
+                }
+            }
+        } catch (SQLException | ReflectiveOperationException e) {
+            throw new IllegalStateException("EXPLAIN failed: " + statement.sql(), e);
+        }
+        return rows;
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+        @Bean
+        static SqlRecorder sqlRecorder() {
+            return new SqlRecorder();
+        }
+    }
+
+    record Bind(Method method, Object[] args) {
+    }
+
+    record RecordedStatement(String sql, List<Bind> binds) {
+    }
+
+    /**
+     * DataSource 를 감싸 record() 구간에 실행된 PreparedStatement 의 SQL 과 setXxx 바인딩을 기록
+     */
+    static class SqlRecorder implements BeanPostProcessor {
+
+        private final List<RecordedStatement> statements = new CopyOnWriteArrayList<>();
+        private volatile boolean recording;
+
+        List<RecordedStatement> record(Runnable action) {
+            statements.clear();
+            recording = true;
+            try {
+                action.run();
+            } finally {
+                recording = false;
+            }
+            return List.copyOf(statements);
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return proxy(DataSource.class, dataSource, (method, args) -> {
+                    Object result = method.invoke(dataSource, args);
+                    return result instanceof Connection connection ? connection(connection) : result;
+                });
+            }
+            return bean;
+        }
+
+        private Connection connection(Connection target) {
+            return proxy(Connection.class, target, (method, args) -> {
+                Object result = method.invoke(target, args);
+                if (result instanceof PreparedStatement ps && method.getName().equals("prepareStatement")) {
+                    return statement(ps, (String) args[0]);
+                }
+                return result;
+            });
+        }
+
+        private PreparedStatement statement(PreparedStatement target, String sql) {
+            List<Bind> binds = new ArrayList<>();
+            return proxy(PreparedStatement.class, target, (method, args) -> {
+                String name = method.getName();
+                if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer) {
+                    binds.add(new Bind(method, args.clone()));
+                } else if (name.equals("clearParameters")) {
+                    binds.clear();
+                } else if (recording && name.startsWith("execute")) {
+                    statements.add(new RecordedStatement(sql, List.copyOf(binds)));
+                }
+                return method.invoke(target, args);
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> type, T target, Invocation invocation) {
+            return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (p, method, args) -> {
+                try {
+                    return invocation.invoke(method, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        private interface Invocation {
+            Object invoke(Method method, Object[] args) throws Throwable;
+        }
+    }
+}
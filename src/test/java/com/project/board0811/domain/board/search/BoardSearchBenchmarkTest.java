@@ -0,0 +1,182 @@
+package com.project.board0811.domain.board.search;
+
+import com.project.board0811.config.QueryDslConfig;
+import com.project.board0811.domain.board.dto.request.BoardSearchCondition;
+import com.project.board0811.domain.board.dto.response.BoardSummaryResponseDto;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 제목 LIKE '%keyword%' 검색 vs 역색인 검색 비교 (기본 1,000,000건, -Dbench.rows 로 조정)
+ * - 어휘: 자주 쓰는 단어 30개 + 임의 한글 단어(2~4음절)로 총 VOCABULARY 개, 출현 빈도는 Zipf 분포
+ *   → bigram 수십만 개, 짧은 posting 이 대부분이고 소수의 긴 posting 이 있는 실제 게시판에 가까운 분포
+ * - 색인 구축 시간과 색인이 차지하는 힙(GC 후 사용량 차이)도 함께 출력
+ * - 실행: ./gradlew benchmarkTest
+ */
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=false")
+@Import(QueryDslConfig.class)
+class BoardSearchBenchmarkTest {
+
+    private static final String[] WORDS = {
+            "스프링", "게시판", "댓글", "자바", "데이터베이스", "인덱스", "트랜잭션", "성능", "캐시", "검색",
+            "서울", "맛집", "여행", "사진", "주말", "회사", "개발자", "질문", "답변", "정보",
+            "공지사항", "이벤트", "업데이트", "오류", "해결", "방법", "추천", "후기", "가격", "배송"
+    };
+    private static final String[] QUERIES = {"스프링", "데이터베이스", "맛집 후기", "트랜잭션 오류"};
+    private static final int VOCABULARY = 50_000;
+    private static final double ZIPF_EXPONENT = 1.0;
+    private static final int HANGUL_SYLLABLES = 11_172; // 가(U+AC00) ~ 힣(U+D7A3)
+    private static final int BATCH = 5_000;
+    private static final int ROUNDS = 5;
+
+    @Autowired JdbcTemplate jdbcTemplate;
+    @Autowired BoardRepository boardRepository;
+
+    private final BoardSearchIndex index = new BoardSearchIndex();
+    private int rows;
+    private String[] vocabulary;
+    private double[] cumulativeWeights;
+    private String[] queries;
+    private long buildMillis;
+    private long indexBytes;
+
+    @BeforeEach
+    void seed() {
+        rows = Integer.getInteger("bench.rows", 1_000_000);
+        jdbcTemplate.update("""
+                insert into users (username, email, password, name, role, status, created_at, updated_at)
+                values ('bench', 'bench@example.com', 'encoded', '벤치', 'ROLE_USER', 'ACTIVE', now(), now())
+                """);
+        Long authorId = jdbcTemplate.queryForObject("select id from users where username = 'bench'", Long.class);
+
+        buildVocabulary(new Random(7));
+
+        // 1) DB 적재 (제목만, 본문은 역색인 쪽에서만 사용)
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(BATCH);
+        for (int i = 1; i <= rows; i++) {
+            String title = sentence(random, 3);
+            sentence(random, 30); // 2) 와 같은 난수열을 쓰도록 본문도 생성만
+            batch.add(new Object[]{(long) i, authorId, title, Timestamp.valueOf(LocalDateTime.now())});
+            if (batch.size() == BATCH || i == rows) {
+                jdbcTemplate.batchUpdate("""
+                        insert into board (id, author_id, title, category, status, view_count, comment_count, version, created_at, updated_at)
+                        values (?, ?, ?, 'FREE', 'PUBLIC', 0, 0, 0, ?, now())
+                        """, batch);
+                batch.clear();
+            }
+        }
+
+        // 2) 같은 문서로 역색인 구축 — H2 인메모리 DB 도 같은 힙을 쓰므로 적재가 끝난 뒤 따로 측정
+        random = new Random(42);
+        long heapBefore = usedHeapAfterGc();
+        long started = System.nanoTime();
+        index.beginRebuild();
+        for (int i = 1; i <= rows; i++) {
+            index.addForRebuild((long) i, sentence(random, 3), sentence(random, 30));
+        }
+        index.commitRebuild();
+        buildMillis = (System.nanoTime() - started) / 1_000_000;
+        indexBytes = usedHeapAfterGc() - heapBefore;
+    }
+
+    @Test
+    void compareLikeAndInvertedIndex() {
+        PageRequest pageable = PageRequest.of(0, 20, Sort.by("createdAt").descending());
+        System.out.printf("%n[BoardSearchBenchmark] rows=%d, vocabulary=%d, documents=%d, terms=%d, build=%dms, index heap~%dMB%n",
+                rows, VOCABULARY, index.documentCount(), index.termCount(), buildMillis, indexBytes / (1024 * 1024));
+
+        for (String query : queries) {
+            long likeNanos = 0;
+            long indexNanos = 0;
+            long likeTotal = 0;
+            long indexTotal = 0;
+            for (int round = 0; round < ROUNDS; round++) {
+                long t0 = System.nanoTime();
+                Page<BoardSummaryResponseDto> likePage = boardRepository.findSummaryPage(
+                        BoardSearchCondition.builder().titleKeyword(query.split(" ")[0]).build(), pageable);
+                long t1 = System.nanoTime();
+                BoardSearchIndex.SearchHits hits = index.search(query, 0, 20);
+                boardRepository.findSummariesByIds(hits.getBoardIds());
+                long t2 = System.nanoTime();
+
+                likeNanos += t1 - t0;
+                indexNanos += t2 - t1;
+                likeTotal = likePage.getTotalElements();
+                indexTotal = hits.getTotal();
+            }
+            System.out.printf("  q=%-10s LIKE(title) avg %8.1fms (%d hits) | index(title+content) avg %8.1fms (%d hits)%n",
+                    query, likeNanos / 1e6 / ROUNDS, likeTotal, indexNanos / 1e6 / ROUNDS, indexTotal);
+            if (Arrays.asList(QUERIES).contains(query)) {
+                assertThat(indexTotal).isGreaterThan(0); // 상위 빈도 단어 — 희귀 단어 질의는 bench.rows 가 작으면 0건일 수 있음
+            }
+        }
+    }
+
+    /** WORDS 가 최상위 빈도, 나머지는 임의 한글 단어 — 질의는 고정 질의 + 중간/희귀 빈도 단어 */
+    private void buildVocabulary(Random random) {
+        Set<String> words = new LinkedHashSet<>(Arrays.asList(WORDS));
+        while (words.size() < VOCABULARY) {
+            int syllables = 2 + random.nextInt(3);
+            StringBuilder sb = new StringBuilder(syllables);
+            for (int i = 0; i < syllables; i++) {
+                sb.append((char) (0xAC00 + random.nextInt(HANGUL_SYLLABLES)));
+            }
+            words.add(sb.toString());
+        }
+        vocabulary = words.toArray(new String[0]);
+
+        cumulativeWeights = new double[VOCABULARY];
+        double sum = 0;
+        for (int rank = 0; rank < VOCABULARY; rank++) {
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulativeWeights[rank] = sum;
+        }
+
+        List<String> all = new ArrayList<>(Arrays.asList(QUERIES));
+        all.add(vocabulary[500]);                                      // 중간 빈도
+        all.add(vocabulary[20_000]);                                   // 희귀
+        all.add(vocabulary[100] + " " + vocabulary[2_000]);            // 흔한 단어 + 드문 단어
+        queries = all.toArray(new String[0]);
+    }
+
+    private String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder();
+        double total = cumulativeWeights[VOCABULARY - 1];
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            int rank = Arrays.binarySearch(cumulativeWeights, random.nextDouble() * total);
+            sb.append(vocabulary[rank >= 0 ? rank : Math.min(-rank - 1, VOCABULARY - 1)]);
+        }
+        return sb.toString();
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.enums.BoardStatus;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.enums.UserRole;
+import com.project.board0811.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class BoardDeleteStatementCountTest {
+
+    @Autowired BoardService boardService;
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManagerFactory emf;
+
+    private Long boardId;
+    private Long authorId;
+    private Long otherId;
+    private Long adminId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(newUser(run + "-author", UserRole.ROLE_USER));
+        authorId = author.getId();
+        otherId = userRepository.save(newUser(run + "-other", UserRole.ROLE_USER)).getId();
+        adminId = userRepository.save(newUser(run + "-admin", UserRole.ROLE_ADMIN)).getId();
+        boardId = boardRepository.save(Board.builder()
+                .author(author)
+                .title("삭제 테스트")
+                .build()).getId();
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void ownerDelete_costsActorLookupAndOneUpdate() {
+        boardService.delete(boardId, authorId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 행위자 프로젝션 + 조건부 UPDATE
+
+        Board deleted = boardRepository.findById(boardId).orElseThrow();
+        assertThat(deleted.getStatus()).isEqualTo(BoardStatus.DELETED);
+        assertThat(deleted.getDeletedAt()).isNotNull();
+    }
+
+    @Test
+    void adminDelete_succeeds() {
+        boardService.delete(boardId, adminId);
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getStatus()).isEqualTo(BoardStatus.DELETED);
+    }
+
+    @Test
+    void otherUserDelete_isForbiddenAndLeavesBoard() {
+        assertThatThrownBy(() -> boardService.delete(boardId, otherId))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FORBIDDEN));
+
+        assertThat(boardRepository.findById(boardId).orElseThrow().getStatus()).isEqualTo(BoardStatus.PUBLIC);
+    }
+
+    @Test
+    void deleteTwice_isNotFound() {
+        boardService.delete(boardId, authorId);
+
+        assertThatThrownBy(() -> boardService.delete(boardId, authorId))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.BOARD_NOT_FOUND));
+    }
+
+    private static User newUser(String username, UserRole role) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encoded")
+                .name(username)
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentCountReconcilerTest {
+
+    @Autowired CommentCountReconciler reconciler;
+    @Autowired BoardRepository boardRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long busyId;
+    private Long emptyId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(User.builder()
+                .username(run).email(run + "@example.com").password("encoded").name(run)
+                .build());
+        Board busy = boardRepository.save(Board.builder().author(author).title("댓글 2개").build());
+        commentRepository.save(Comment.newRoot(busy, author, "첫 댓글"));
+        commentRepository.save(Comment.newRoot(busy, author, "두 번째 댓글"));
+        busyId = busy.getId();
+        emptyId = boardRepository.save(Board.builder().author(author).title("댓글 없음").build()).getId();
+    }
+
+    @Test
+    void reconcile_correctsDriftedCounts() {
+        setCommentCount(busyId, 99);
+        setCommentCount(emptyId, 5);
+
+        assertThat(reconciler.reconcile()).isGreaterThanOrEqualTo(2);
+
+        assertThat(commentCount(busyId)).isEqualTo(2);
+        assertThat(commentCount(emptyId)).isZero();
+    }
+
+    @Test
+    void countChangedAfterRead_isNotOverwritten() {
+        setCommentCount(busyId, 99);
+
+        // 저장 값/실제 값을 읽은 직후, 보정 UPDATE 전에 다른 트랜잭션이 댓글 수를 바꾸고 커밋
+        TransactionTemplate concurrentWriter = new TransactionTemplate(transactionManager);
+        concurrentWriter.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        AtomicBoolean raced = new AtomicBoolean();
+        CommentRepository racing = (CommentRepository) Proxy.newProxyInstance(
+                CommentRepository.class.getClassLoader(), new Class<?>[]{CommentRepository.class},
+                (proxy, method, args) -> {
+                    Object result;
+                    try {
+                        result = method.invoke(commentRepository, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                    if (method.getName().equals("countActiveByBoardIds")
+                            && ((Collection<?>) args[0]).contains(busyId)
+                            && raced.compareAndSet(false, true)) {
+                        concurrentWriter.executeWithoutResult(status -> jdbcTemplate.update(
+                                "update board set comment_count = comment_count + 1 where id = ?", busyId));
+                    }
+                    return result;
+                });
+        CommentCountReconciler racingReconciler = new CommentCountReconciler(boardRepository, racing, transactionTemplate);
+        ReflectionTestUtils.setField(racingReconciler, "chunkSize", 500);
+
+        racingReconciler.reconcile();
+
+        assertThat(raced).isTrue();
+        assertThat(commentCount(busyId)).isEqualTo(100); // 조회 시점 값(99)이 아니므로 조건부 UPDATE 0건
+
+        reconciler.reconcile(); // 다음 주기에 보정
+        assertThat(commentCount(busyId)).isEqualTo(2);
+    }
+
+    private void setCommentCount(Long boardId, int count) {
+        jdbcTemplate.update("update board set comment_count = ? where id = ?", count, boardId);
+    }
+
+    private int commentCount(Long boardId) {
+        return jdbcTemplate.queryForObject("select comment_count from board where id = ?", Integer.class, boardId);
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.common.id.IdRangeAllocator;
+import com.project.board0811.domain.board.dto.response.ThreadImportResultDto;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "board.import.batch-rows=3") // 여러 배치로 나뉘도록 작게
+class ThreadImportServiceTest {
+
+    @Autowired ThreadImportService threadImportService;
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired IdRangeAllocator idRangeAllocator;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private String run;
+    private Long authorId;
+    private Long commenterId;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        authorId = userRepository.save(newUser(run + "-author")).getId();
+        commenterId = userRepository.save(newUser(run + "-commenter")).getId();
+    }
+
+    @Test
+    void importsValidThreadsAndReportsInvalidLines() {
+        String ndjson = String.join("\n",
+                thread("이관 글 1", """
+                        [{"authorId":%d,"content":"첫 댓글","replies":[{"authorId":%d,"content":"답글 1"},{"authorId":%d,"content":"답글 2","deleted":true}]},
+                         {"authorId":%d,"content":"두 번째 댓글","likeCount":3}]
+                        """.formatted(commenterId, authorId, commenterId, authorId)),
+                "",
+                thread("빈 댓글", "[{\"authorId\":%d,\"content\":\"   \"}]".formatted(commenterId)),
+                thread("없는 작성자", "[{\"authorId\":%d,\"content\":\"댓글\"}]".formatted(Long.MAX_VALUE)),
+                "{not json",
+                thread("이관 글 2", "[]"));
+
+        ThreadImportResultDto result = threadImportService.importThreads(
+                new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(result.getLines()).isEqualTo(5);
+        assertThat(result.getImportedBoards()).isEqualTo(2);
+        assertThat(result.getImportedComments()).isEqualTo(4);
+        assertThat(result.getFailedLines()).isEqualTo(3);
+        assertThat(result.getFailures()).extracting(ThreadImportResultDto.Failure::getCode)
+                .containsExactlyInAnyOrder(
+                        ErrorCode.COMMENT_CONTENT_EMPTY.getCode(),
+                        ErrorCode.USER_NOT_FOUND.getCode(),
+                        ErrorCode.INVALID_JSON.getCode());
+        assertThat(result.getFailures()).extracting(ThreadImportResultDto.Failure::getLine)
+                .containsExactlyInAnyOrder(3L, 4L, 5L);
+
+        Long boardId = jdbcTemplate.queryForObject(
+                "select id from board where title = ?", Long.class, run + " 이관 글 1");
+        assertThat(jdbcTemplate.queryForObject(
+                "select comment_count from board where id = ?", Integer.class, boardId)).isEqualTo(3); // 삭제된 답글 제외
+
+        List<Map<String, Object>> comments = jdbcTemplate.queryForList(
+                "select id, parent_id, depth from comments where board_id = ? order by id", boardId);
+        assertThat(comments).hasSize(4);
+        Object rootId = comments.get(0).get("id");
+        assertThat(comments.get(1).get("parent_id")).isEqualTo(rootId);
+        assertThat(comments.get(2).get("parent_id")).isEqualTo(rootId);
+        assertThat(comments.get(3).get("parent_id")).isNull();
+    }
+
+    @Test
+    void jpaInsertsAfterImportDoNotCollideWithAllocatedIds() {
+        threadImportService.importThreads(new ByteArrayInputStream(
+                thread("구간 할당", "[]").getBytes(StandardCharsets.UTF_8)));
+        Long importedId = jdbcTemplate.queryForObject(
+                "select id from board where title = ?", Long.class, run + " 구간 할당");
+
+        Board saved = boardRepository.save(Board.builder()
+                .author(userRepository.getReferenceById(authorId))
+                .title("JPA 저장")
+                .build());
+
+        assertThat(saved.getId()).isNotEqualTo(importedId);
+        assertThat(boardRepository.count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void missingOrStaleSequenceRowStartsAfterExistingIds() {
+        threadImportService.importThreads(new ByteArrayInputStream(
+                thread("시드", "[]").getBytes(StandardCharsets.UTF_8)));
+        long maxId = jdbcTemplate.queryForObject("select max(id) from board", Long.class);
+        long original = nextVal(); // JPA 가 메모리에 잡아 둔 블록 이후 — 테스트 후 복원
+        try {
+            jdbcTemplate.update("delete from id_sequences where seq_name = 'board'"); // IDENTITY 시절 DB: 행 없음
+            assertThat(idRangeAllocator.allocate("board", 1)).isEqualTo(maxId + 1);
+
+            jdbcTemplate.update("update id_sequences set next_val = 1 where seq_name = 'board'"); // 1 부터 시작해 버린 행
+            idRangeAllocator.afterSingletonsInstantiated();
+            assertThat(nextVal()).isEqualTo(maxId + 1);
+        } finally {
+            jdbcTemplate.update("update id_sequences set next_val = ? where seq_name = 'board'", Math.max(original, nextVal()));
+        }
+    }
+
+    @Test
+    void deletedBoardsGetDeletedAtAndLikeCountIsDisplayOnly() {
+        String ndjson = String.join("\n",
+                thread("삭제 글", "[]").replace("\"category\"", "\"status\":\"DELETED\",\"category\""),
+                thread("공개 글", "[{\"authorId\":%d,\"content\":\"좋아요 댓글\",\"likeCount\":7}]".formatted(commenterId)));
+
+        threadImportService.importThreads(new ByteArrayInputStream(ndjson.getBytes(StandardCharsets.UTF_8)));
+
+        Map<String, Object> deleted = jdbcTemplate.queryForMap(
+                "select status, deleted_at from board where title = ?", run + " 삭제 글");
+        assertThat(deleted.get("status")).isEqualTo("DELETED");
+        assertThat(deleted.get("deleted_at")).isNotNull();
+
+        Long publicId = jdbcTemplate.queryForObject(
+                "select id from board where title = ? and deleted_at is null", Long.class, run + " 공개 글");
+        Long commentId = jdbcTemplate.queryForObject(
+                "select id from comments where board_id = ? and like_count = 7", Long.class, publicId);
+        assertThat(jdbcTemplate.queryForObject(
+                "select count(*) from comment_likes where comment_id = ?", Integer.class, commentId)).isZero();
+    }
+
+    private long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from id_sequences where seq_name = 'board'", Long.class);
+    }
+
+    private String thread(String title, String commentsJson) {
+        return """
+                {"authorId":%d,"title":"%s %s","content":"이관 본문","category":"FREE","comments":%s}
+                """.formatted(authorId, run, title, commentsJson.strip()).replace("\n", "");
+    }
+
+    private static User newUser(String username) {
+        return User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("encoded")
+                .name(username)
+                .build();
+    }
+}
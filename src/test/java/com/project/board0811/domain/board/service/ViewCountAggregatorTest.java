@@ -0,0 +1,147 @@
+package com.project.board0811.domain.board.service;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.ranking.BoardRanking;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// flush 실패 시 drain 한 증분이 버퍼로 되돌아가 다음 flush 에 반영되는지 (실패 주입: UPDATE 후 롤백)
+@SpringBootTest
+class ViewCountAggregatorTest {
+
+    private static final int THREADS = 8;
+    private static final int VIEWS_PER_THREAD = 2_000;
+
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired BoardRanking boardRanking;
+    @Autowired PlatformTransactionManager transactionManager;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private Long boardId;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(User.builder()
+                .username(run).email(run + "@example.com").password("encoded").name(run)
+                .build());
+        boardId = boardRepository.save(Board.builder()
+                .author(author)
+                .title("조회수 flush")
+                .build()).getId();
+    }
+
+    @Test
+    void failedFlush_restoresDrainedDeltasForNextFlush() {
+        FlakyTransactionTemplate tx = new FlakyTransactionTemplate(transactionManager, call -> call == 1);
+        ViewCountAggregator aggregator = new ViewCountAggregator(boardRepository, tx, boardRanking);
+        for (int i = 0; i < 3; i++) {
+            aggregator.record(boardId);
+        }
+
+        aggregator.flush(); // 실패 → 롤백 + 버퍼 복원
+        assertThat(viewCount()).isZero();
+        assertThat(aggregator.pendingBoards()).isEqualTo(1);
+        assertThat(aggregator.pendingViews()).isEqualTo(3);
+
+        aggregator.record(boardId); // 실패 이후 들어온 증분과 합산
+        aggregator.flush();
+        assertThat(viewCount()).isEqualTo(4);
+        assertThat(aggregator.pendingViews()).isZero();
+    }
+
+    @Test
+    void concurrentRecordsDuringFailingFlushes_areNotLost() throws Exception {
+        FlakyTransactionTemplate tx = new FlakyTransactionTemplate(transactionManager, call -> call % 2 == 1);
+        ViewCountAggregator aggregator = new ViewCountAggregator(boardRepository, tx, boardRanking);
+
+        ExecutorService pool = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < VIEWS_PER_THREAD; i++) {
+                        aggregator.record(boardId);
+                    }
+                    return null;
+                }));
+            }
+            AtomicBoolean recording = new AtomicBoolean(true);
+            Future<?> flusher = pool.submit(() -> {
+                while (recording.get()) {
+                    aggregator.flush(); // 기록과 겹치며 drain/restore 반복 (절반은 실패)
+                }
+            });
+
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+            recording.set(false);
+            flusher.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        while (aggregator.pendingViews() > 0) {
+            aggregator.flush();
+        }
+        assertThat(viewCount()).isEqualTo((long) THREADS * VIEWS_PER_THREAD);
+        assertThat(tx.failures()).isPositive();
+    }
+
+    private long viewCount() {
+        return jdbcTemplate.queryForObject("select view_count from board where id = ?", Long.class, boardId);
+    }
+
+    /** failOnCall(호출 번호) 가 참이면 콜백(UPDATE) 실행 후 예외 → 트랜잭션 롤백 */
+    static class FlakyTransactionTemplate extends TransactionTemplate {
+        private final IntPredicate failOnCall;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        FlakyTransactionTemplate(PlatformTransactionManager transactionManager, IntPredicate failOnCall) {
+            super(transactionManager);
+            this.failOnCall = failOnCall;
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            boolean fail = failOnCall.test(calls.incrementAndGet());
+            return super.execute(status -> {
+                T result = action.doInTransaction(status);
+                if (fail) {
+                    failures.incrementAndGet();
+                    throw new IllegalStateException("flush 실패 주입");
+                }
+                return result;
+            });
+        }
+
+        int failures() {
+            return failures.get();
+        }
+    }
+}
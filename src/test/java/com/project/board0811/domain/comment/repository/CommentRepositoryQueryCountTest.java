@@ -0,0 +1,108 @@
+package com.project.board0811.domain.comment.repository;
+
+import com.project.board0811.config.QueryDslConfig;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.enums.BoardCategory;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.dto.CommentWithRepliesDto;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(QueryDslConfig.class)
+class CommentRepositoryQueryCountTest {
+
+    private static final int AUTHORS = 5;
+    private static final int ROOTS = 25;
+    private static final int REPLIES_PER_ROOT = 3;
+
+    @Autowired CommentRepository commentRepository;
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+
+    private Long boardId;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        List<User> authors = new ArrayList<>();
+        for (int i = 0; i < AUTHORS; i++) {
+            authors.add(userRepository.save(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("encoded")
+                    .name("작성자" + i)
+                    .build()));
+        }
+        Board board = boardRepository.save(Board.builder()
+                .author(authors.get(0))
+                .title("댓글 많은 글")
+                .category(BoardCategory.FREE)
+                .build());
+        boardId = board.getId();
+
+        for (int i = 0; i < ROOTS; i++) {
+            Comment root = commentRepository.save(
+                    Comment.newRoot(board, authors.get(i % AUTHORS), "댓글 " + i));
+            for (int j = 0; j < REPLIES_PER_ROOT; j++) {
+                commentRepository.save(
+                        Comment.newReply(board, authors.get((i + j + 1) % AUTHORS), "답글 " + i + "-" + j, root));
+            }
+        }
+        em.flush();
+        em.clear(); // 영속성 컨텍스트를 비워 작성자 지연 로딩이 발생할 수 있는 상태로 만듦
+
+        statistics = emf.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void treeSlice_costsRootAndReplyStatementsOnly() {
+        Slice<Comment> roots = commentRepository.findRootSlice(boardId, PageRequest.of(0, 20));
+        Map<Long, List<Comment>> replies = commentRepository.findRepliesGroupedByParentIds(
+                roots.getContent().stream().map(Comment::getId).toList());
+
+        List<CommentWithRepliesDto> tree = roots.getContent().stream()
+                .map(root -> CommentWithRepliesDto.of(root, replies.getOrDefault(root.getId(), List.of())))
+                .toList();
+
+        assertThat(roots.hasNext()).isTrue();
+        assertThat(tree).hasSize(20);
+        assertThat(tree).allSatisfy(node -> {
+            assertThat(node.getRoot().getAuthorName()).startsWith("user");
+            assertThat(node.getReplies()).hasSize(REPLIES_PER_ROOT)
+                    .allSatisfy(reply -> assertThat(reply.getAuthorName()).startsWith("user"));
+        });
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2); // 루트(+작성자) + 답글(+작성자)
+    }
+
+    @Test
+    void treeSlice_lastPageHasNoNext() {
+        Slice<Comment> roots = commentRepository.findRootSlice(boardId, PageRequest.of(1, 20));
+
+        assertThat(roots.getContent()).hasSize(ROOTS - 20);
+        assertThat(roots.hasNext()).isFalse();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.board0811.domain.comment.service;
+
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentLikeRepository;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class CommentLikeConcurrencyTest {
+
+    private static final int LIKERS = 64;
+
+    @Autowired CommentService commentService;
+    @Autowired CommentRepository commentRepository;
+    @Autowired CommentLikeRepository commentLikeRepository;
+    @Autowired BoardRepository boardRepository;
+    @Autowired UserRepository userRepository;
+
+    private Long commentId;
+    private final List<Long> likerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        User author = userRepository.save(newUser(run + "-author"));
+        Board board = boardRepository.save(Board.builder()
+                .author(author)
+                .title("동시성 테스트")
+                .build());
+        commentId = commentRepository.save(Comment.newRoot(board, author, "인기 댓글")).getId();
+
+        for (int i = 0; i < LIKERS; i++) {
+            likerIds.add(userRepository.save(newUser(run + "-" + i)).getId());
+        }
+    }
+
+    @Test
+    void parallelLikes_noLostUpdates() throws Exception {
+        runInParallel(userId -> commentService.like(commentId, userId));
+
+        assertThat(commentRepository.findById(commentId).orElseThrow().getLikeCount()).isEqualTo(LIKERS);
+        assertThat(commentLikeRepository.countByCommentId(commentId)).isEqualTo(LIKERS);
+    }
+
+    @Test
+    void repeatedLikes_areIdempotent() throws Exception {
+        runInParallel(userId -> commentService.like(commentId, userId));
+        runInParallel(userId -> commentService.like(commentId, userId)); // 같은 사용자가 다시 좋아요
+
+        assertThat(commentRepository.findById(commentId).orElseThrow().getLikeCount()).isEqualTo(LIKERS);
+        assertThat(commentLikeRepository.countByCommentId(commentId)).isEqualTo(LIKERS);
+    }
+
+    @Test
+    void sameUserConcurrentLikes_countOnceWithoutError() throws Exception { // 더블 탭
+        Long userId = likerIds.get(0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    commentService.like(commentId, userId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS); // 유니크 제약 위반이 새어 나오면 여기서 실패
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(commentRepository.findById(commentId).orElseThrow().getLikeCount()).isEqualTo(1);
+        assertThat(commentLikeRepository.countByCommentId(commentId)).isEqualTo(1);
+    }
+
+    @Test
+    void parallelUnlikes_neverGoBelowZero() throws Exception {
+        runInParallel(userId -> commentService.like(commentId, userId));
+        runInParallel(userId -> {
+            commentService.unlike(commentId, userId);
+            commentService.unlike(commentId, userId); // 중복 취소는 무시
+        });
+
+        assertThat(commentRepository.findById(commentId).orElseThrow().getLikeCount()).isZero();
+        assertThat(commentLikeRepository.countByCommentId(commentId)).isZero();
+    }
+
+    private void runInParallel(java.util.function.Consumer<Long> action) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(LIKERS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long userId : likerIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    action.accept(userId);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS); // 실패 시 예외 전파
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static User newUser(String key) {
+        return User.builder()
+                .username("u" + key)
+                .email(key + "@example.com")
+                .password("encoded")
+                .name("사용자")
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoginAttemptLimiterTest {
+
+    private static final String IP = "10.0.0.1";
+
+    // 사용자명 1회, IP 2회, 테스트 중에는 다시 채워지지 않도록 긴 주기
+    private final LoginAttemptLimiter limiter = new LoginAttemptLimiter(1, 3600, 2, 3600, 4, 1000);
+
+    @Test
+    void usernameRejection_refundsTheIpToken() {
+        limiter.acquire("locked", IP);
+        assertRateLimited("locked"); // 사용자명 버킷에서 거절 → IP 토큰 반환
+
+        assertThatCode(() -> limiter.acquire("other", IP)).doesNotThrowAnyException(); // IP 2번째 토큰 그대로
+        assertRateLimited("third"); // 이제 IP 한도 소진
+        assertThat(limiter.rejectedCount()).isEqualTo(2);
+    }
+
+    private void assertRateLimited(String username) {
+        assertThatThrownBy(() -> limiter.acquire(username, IP))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOGIN_RATE_LIMITED));
+    }
+}
@@ -0,0 +1,120 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.common.metrics.RequestQueryStats;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import com.project.board0811.domain.user.service.LastLoginRecorder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DefaultAuthenticationEventPublisher;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class LoginHotPathTest {
+
+    @Autowired AuthenticationProvider authenticationProvider;
+    @Autowired ApplicationEventPublisher eventPublisher;
+    @Autowired LastLoginRecorder lastLoginRecorder;
+    @Autowired UserRepository userRepository;
+    @Autowired PooledPasswordEncoder passwordEncoder;
+
+    @Test
+    void burstBeyondUsernameBudgetIsRejectedBeforeLookup() {
+        User user = newUser("secret-pw");
+
+        for (int i = 0; i < 5; i++) { // 기본 username.capacity
+            assertThatThrownBy(() -> authenticationProvider.authenticate(
+                    new UsernamePasswordAuthenticationToken(user.getUsername(), "wrong")))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+
+        RequestQueryStats.begin();
+        assertThatThrownBy(() -> authenticationProvider.authenticate(
+                new UsernamePasswordAuthenticationToken(user.getUsername().toUpperCase(), "secret-pw")))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOGIN_RATE_LIMITED));
+        assertThat(RequestQueryStats.end().statements()).isZero();
+    }
+
+    @Test
+    void repeatedSuccessfulLoginsAreNotThrottled() { // HTTP Basic: 요청마다 인증
+        User user = newUser("secret-pw");
+
+        for (int i = 0; i < 20; i++) { // username.capacity(5) 를 훨씬 넘겨도 성공은 소비하지 않음
+            assertThat(authenticationProvider.authenticate(
+                    new UsernamePasswordAuthenticationToken(user.getUsername(), "secret-pw")).isAuthenticated())
+                    .isTrue();
+        }
+
+        for (int i = 0; i < 5; i++) { // 실패는 그대로 누적
+            assertThatThrownBy(() -> authenticationProvider.authenticate(
+                    new UsernamePasswordAuthenticationToken(user.getUsername(), "wrong")))
+                    .isInstanceOf(BadCredentialsException.class);
+        }
+        assertThatThrownBy(() -> authenticationProvider.authenticate(
+                new UsernamePasswordAuthenticationToken(user.getUsername(), "secret-pw")))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.LOGIN_RATE_LIMITED));
+    }
+
+    @Test
+    void successfulLoginIsBufferedAndFlushedTruncatedToMinute() {
+        User user = newUser("secret-pw");
+        ProviderManager manager = new ProviderManager(authenticationProvider);
+        manager.setAuthenticationEventPublisher(new DefaultAuthenticationEventPublisher(eventPublisher));
+
+        LocalDateTime before = LocalDateTime.now().truncatedTo(ChronoUnit.MINUTES);
+        manager.authenticate(new UsernamePasswordAuthenticationToken(user.getUsername(), "secret-pw"));
+        lastLoginRecorder.flush();
+
+        LocalDateTime stored = userRepository.findById(user.getId()).orElseThrow().getLastLoginAt();
+        assertThat(stored).isNotNull();
+        assertThat(stored).isBetween(before, LocalDateTime.now());
+        assertThat(stored.getSecond()).isZero();
+        assertThat(stored.getNano()).isZero();
+    }
+
+    @Test
+    void recorderKeepsLatestTimestampAndNeverMovesBackwards() {
+        Long userId = newUser("pw").getId();
+        LocalDateTime base = LocalDateTime.of(2030, 1, 1, 12, 0);
+
+        lastLoginRecorder.record(userId, base.plusMinutes(5).plusSeconds(30));
+        lastLoginRecorder.record(userId, base.plusMinutes(9).plusSeconds(59));
+        lastLoginRecorder.record(userId, base);
+        lastLoginRecorder.flush();
+        assertThat(lastLoginAt(userId)).isEqualTo(base.plusMinutes(9));
+
+        lastLoginRecorder.record(userId, base.plusMinutes(1)); // 다른 인스턴스의 늦은 flush
+        lastLoginRecorder.flush();
+        assertThat(lastLoginAt(userId)).isEqualTo(base.plusMinutes(9));
+    }
+
+    private LocalDateTime lastLoginAt(Long userId) {
+        return userRepository.findById(userId).orElseThrow().getLastLoginAt();
+    }
+
+    private User newUser(String rawPassword) {
+        String username = "login-" + UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password(passwordEncoder.encode(rawPassword))
+                .name("login")
+                .build());
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.board0811.domain.user.security;
+
+import com.project.board0811.common.exception.CustomException;
+import com.project.board0811.common.exception.ErrorCode;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class PasswordHashingTest {
+
+    @Autowired UserRepository userRepository;
+    @Autowired UserAccountService userAccountService;
+    @Autowired PooledPasswordEncoder passwordEncoder;
+
+    @Test
+    void login_rehashesWeakerHashWithCurrentStrength() {
+        String username = "rehash-" + UUID.randomUUID().toString().substring(0, 8);
+        String weakHash = new BCryptPasswordEncoder(passwordEncoder.getStrength() - 1).encode("secret-pw");
+        Long userId = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password(weakHash)
+                .name("rehash")
+                .build()).getId();
+
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider(passwordEncoder);
+        provider.setUserDetailsService(userAccountService);
+        provider.setUserDetailsPasswordService(userAccountService);
+
+        Authentication result = provider.authenticate(
+                new UsernamePasswordAuthenticationToken(username, "secret-pw"));
+
+        assertThat(((AuthUser) result.getPrincipal()).getUserId()).isEqualTo(userId);
+        String stored = userRepository.findById(userId).orElseThrow().getPassword();
+        assertThat(stored).isNotEqualTo(weakHash);
+        assertThat(passwordEncoder.upgradeEncoding(stored)).isFalse();
+        assertThat(passwordEncoder.matches("secret-pw", stored)).isTrue();
+    }
+
+    @Test
+    void saturatedExecutor_rejectsWithTooManyRequests() throws Exception {
+        PasswordHashingExecutor executor = new PasswordHashingExecutor(1, 1, 5000);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService callers = Executors.newFixedThreadPool(2);
+        try {
+            // 스레드 1개 점유 + 대기열 1칸 점유
+            callers.submit(() -> executor.execute(() -> await(release)));
+            waitUntil(() -> executor.activeCount() == 1);
+            callers.submit(() -> executor.execute(() -> await(release)));
+            waitUntil(() -> executor.queueDepth() == 1);
+
+            assertThatThrownBy(() -> executor.execute(() -> "overflow"))
+                    .isInstanceOf(CustomException.class)
+                    .extracting(e -> ((CustomException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.TOO_MANY_REQUESTS);
+            assertThat(executor.rejectedCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            callers.shutdown();
+            callers.awaitTermination(5, TimeUnit.SECONDS);
+            executor.shutdown();
+        }
+        assertThat(executor.completedCount()).isEqualTo(2);
+    }
+
+    private static boolean await(CountDownLatch latch) {
+        try {
+            return latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(condition.getAsBoolean()).isTrue();
+    }
+}
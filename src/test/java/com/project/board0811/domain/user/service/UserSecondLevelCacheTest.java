@@ -0,0 +1,147 @@
+package com.project.board0811.domain.user.service;
+
+import com.project.board0811.common.metrics.RequestQueryStats;
+import com.project.board0811.domain.board.entity.Board;
+import com.project.board0811.domain.board.repository.BoardRepository;
+import com.project.board0811.domain.comment.entity.Comment;
+import com.project.board0811.domain.comment.repository.CommentRepository;
+import com.project.board0811.domain.user.entity.User;
+import com.project.board0811.domain.user.enums.UserRole;
+import com.project.board0811.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class UserSecondLevelCacheTest {
+
+    private static final int AUTHORS = 5;
+
+    @Autowired UserService userService;
+    @Autowired UserRepository userRepository;
+    @Autowired BoardRepository boardRepository;
+    @Autowired CommentRepository commentRepository;
+    @Autowired LastLoginRecorder lastLoginRecorder;
+    @Autowired TransactionTemplate transactionTemplate;
+    @Autowired EntityManager em;
+    @Autowired EntityManagerFactory emf;
+    @Autowired MeterRegistry meterRegistry;
+
+    private String run;
+
+    @BeforeEach
+    void setUp() {
+        run = UUID.randomUUID().toString().substring(0, 8);
+        emf.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.end();
+    }
+
+    @Test
+    void secondLoadIsServedFromCacheWithoutStatements() {
+        Long userId = userRepository.save(newUser("hit", UserRole.ROLE_USER)).getId();
+        emf.getCache().evictAll();
+        double hitsBefore = userCacheHits();
+
+        assertThat(loadStatements(userId)).isEqualTo(1);
+        assertThat(emf.getCache().contains(User.class, userId)).isTrue();
+        assertThat(loadStatements(userId)).isZero();
+        assertThat(userCacheHits()).isGreaterThan(hitsBefore); // cache.gets{cache=user,result=hit}
+    }
+
+    @Test
+    void changeRoleEvictsCachedUserAfterCommit() {
+        Long adminId = userRepository.save(newUser("admin", UserRole.ROLE_ADMIN)).getId();
+        Long userId = userRepository.save(newUser("target", UserRole.ROLE_USER)).getId();
+        loadStatements(userId);
+        assertThat(emf.getCache().contains(User.class, userId)).isTrue();
+
+        userService.changeRole(userId, adminId, UserRole.ROLE_ADMIN);
+
+        assertThat(emf.getCache().contains(User.class, userId)).isFalse();
+        assertThat(userRepository.findById(userId).orElseThrow().getRole()).isEqualTo(UserRole.ROLE_ADMIN);
+    }
+
+    @Test
+    void lastLoginFlushEvictsOnlyFlushedUsers() {
+        Long loggedInId = userRepository.save(newUser("login", UserRole.ROLE_USER)).getId();
+        Long idleId = userRepository.save(newUser("idle", UserRole.ROLE_USER)).getId();
+        loadStatements(loggedInId);
+        loadStatements(idleId);
+
+        LocalDateTime at = LocalDateTime.of(2030, 1, 1, 12, 0);
+        lastLoginRecorder.record(loggedInId, at);
+        lastLoginRecorder.flush();
+
+        assertThat(emf.getCache().contains(User.class, loggedInId)).isFalse();
+        assertThat(emf.getCache().contains(User.class, idleId)).isTrue(); // 영역 전체 무효화 없음
+        assertThat(userRepository.findById(loggedInId).orElseThrow().getLastLoginAt()).isEqualTo(at);
+    }
+
+    @Test
+    void lazyAuthorsAreLoadedInOneBatchThenFromCache() {
+        User writer = userRepository.save(newUser("writer", UserRole.ROLE_USER));
+        Board board = boardRepository.save(Board.builder().author(writer).title("배치 로딩").build());
+        for (int i = 0; i < AUTHORS; i++) {
+            User author = userRepository.save(newUser("author" + i, UserRole.ROLE_USER));
+            commentRepository.save(Comment.newRoot(board, author, "댓글 " + i));
+        }
+        emf.getCache().evictAll();
+
+        RequestQueryStats.Snapshot cold = touchCommentAuthors(board.getId());
+        assertThat(cold.statements()).isEqualTo(2); // 댓글 + 작성자 IN (...) 1건 (@BatchSize)
+
+        RequestQueryStats.Snapshot warm = touchCommentAuthors(board.getId());
+        assertThat(warm.statements()).isEqualTo(1); // 댓글만, 작성자는 2차 캐시
+    }
+
+    private int loadStatements(Long userId) {
+        RequestQueryStats.begin();
+        transactionTemplate.executeWithoutResult(status -> userRepository.findById(userId).orElseThrow().getName());
+        return RequestQueryStats.end().statements();
+    }
+
+    private RequestQueryStats.Snapshot touchCommentAuthors(Long boardId) {
+        RequestQueryStats.begin();
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Comment> comments = em.createQuery(
+                            "select c from Comment c where c.board.id = :boardId", Comment.class)
+                    .setParameter("boardId", boardId)
+                    .getResultList();
+            assertThat(comments).hasSize(AUTHORS);
+            comments.forEach(comment -> comment.getAuthor().getName()); // 페치 조인 없는 작성자 접근
+        });
+        return RequestQueryStats.end();
+    }
+
+    private double userCacheHits() {
+        return meterRegistry.get("cache.gets").tag("cache", "user").tag("result", "hit")
+                .functionCounter().count();
+    }
+
+    private User newUser(String key, UserRole role) {
+        String username = run + "-" + key;
+        return User.builder()
+                .username(username)
+                .email(username + "@test.com")
+                .password("encoded")
+                .name(key)
+                .role(role)
+                .build();
+    }
+}